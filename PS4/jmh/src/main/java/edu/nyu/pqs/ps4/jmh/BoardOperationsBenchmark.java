@@ -0,0 +1,99 @@
+package edu.nyu.pqs.ps4.jmh;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.model.player.MachinePlayer;
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the operations of {@link Board} made on every move of a game, and the
+ * move advice of {@link MachinePlayer}, which tries every column, in each phase of a game. A drop
+ * is measured together with the cancel restoring the position, so that every call sees the same
+ * position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardOperationsBenchmark {
+  @Param
+  private Phase phase;
+  private Board board;
+  private MachinePlayer machinePlayer;
+  private String name;
+  private Color color;
+  private int column;
+
+  /**
+   * Sets up the board of the phase and the machine player to move.
+   */
+  @Setup
+  public void setup() {
+    board = phase.newBoard();
+    name = phase.getPlayerToMove() == 0 ? ConnectFourSetting.PLAYER_ONE_NAME
+        : ConnectFourSetting.PLAYER_TWO_NAME;
+    color = phase.getPlayerToMove() == 0 ? ConnectFourSetting.PLAYER_ONE_COLOR
+        : ConnectFourSetting.PLAYER_TWO_COLOR;
+    machinePlayer = new MachinePlayer.Builder().name(name).color(color).board(board).build();
+  }
+
+  /**
+   * Drops a chip in the next column, cycling through the columns, and cancels it.
+   *
+   * @return The move made, null if the column is full.
+   */
+  @Benchmark
+  public Move dropAndCancelLastMove() {
+    column = column + 1 == ConnectFourSetting.COLUMN_NUMBER ? 0 : column + 1;
+    final Move move = board.drop(name, color, column);
+    if (move != null) {
+      board.cancelLastMove();
+    }
+    return move;
+  }
+
+  /**
+   * Checks whether the last move won.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Benchmark
+  public boolean isWon() {
+    return board.isWon();
+  }
+
+  /**
+   * Checks whether the board is full.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Benchmark
+  public boolean isFull() {
+    return board.isFull();
+  }
+
+  /**
+   * Gets the move advice of the machine player.
+   *
+   * @return The column advised.
+   */
+  @Benchmark
+  public int machinePlayerAdvice() {
+    return machinePlayer.getMoveColumnAdvice();
+  }
+}
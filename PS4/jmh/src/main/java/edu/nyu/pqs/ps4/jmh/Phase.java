@@ -0,0 +1,58 @@
+package edu.nyu.pqs.ps4.jmh;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+
+/**
+ * This enum is the phases of a game benchmarked, each with a position reached in a game, given as
+ * a string of 1-based columns, and not won yet.
+ */
+public enum Phase {
+  EARLY("4453"),
+  MID("54466562254244135722"),
+  LATE("54466562254244135722213776565371461117");
+
+  private final String moves;
+
+  Phase(final String moves) {
+    this.moves = moves;
+  }
+
+  /**
+   * Returns a new board with the moves of the phase made by the players of ConnectFourSetting.
+   *
+   * @return The board.
+   */
+  public Board newBoard() {
+    final Board board = Board.newInstance();
+    for (int i = 0; i < moves.length(); i++) {
+      if (i % 2 == 0) {
+        board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR,
+            moves.charAt(i) - '1');
+      } else {
+        board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR,
+            moves.charAt(i) - '1');
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Returns the index of the player to move, 0 or 1.
+   *
+   * @return The index of the player.
+   */
+  public int getPlayerToMove() {
+    return moves.length() % 2;
+  }
+
+  /**
+   * Returns a new bitboard with the moves of the phase made.
+   *
+   * @return The bitboard.
+   */
+  public BitBoard newBitBoard() {
+    return newBoard().copyBitBoard();
+  }
+}
@@ -0,0 +1,77 @@
+package edu.nyu.pqs.ps4.jmh;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.NegamaxSearch;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link NegamaxSearch} to a fixed depth without a transposition table in
+ * each phase of a game. Besides the searches per second, the nodes searched are counted as an
+ * auxiliary counter, which JMH reports as nodes per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchNodesBenchmark {
+  @Param
+  private Phase phase;
+  @Param({"8"})
+  private int depth;
+  private BitBoard position;
+  private final NegamaxSearch search = new NegamaxSearch();
+
+  /**
+   * This class counts the nodes searched in an iteration.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Nodes {
+    public long nodes;
+
+    /**
+     * Resets the count before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      nodes = 0;
+    }
+  }
+
+  /**
+   * Sets up the position of the phase.
+   */
+  @Setup
+  public void setup() {
+    position = phase.newBitBoard();
+  }
+
+  /**
+   * Searches the position to the depth.
+   *
+   * @param nodes The node counter.
+   * @return The best column.
+   */
+  @Benchmark
+  public int search(final Nodes nodes) {
+    final SearchResult result = search.search(position, phase.getPlayerToMove(), depth);
+    nodes.nodes += result.getNodes();
+    return result.getColumn();
+  }
+}
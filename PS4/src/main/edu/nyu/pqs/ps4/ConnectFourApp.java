@@ -1,24 +1,43 @@
 package edu.nyu.pqs.ps4;
 
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Geometry;
 import edu.nyu.pqs.ps4.model.Model;
 import edu.nyu.pqs.ps4.view.View;
 
 /**
- * This is the main class to run the Connect Four program.
+ * This is the main class to run the Connect Four program. The arguments are optional: the number of
+ * columns, the number of rows and the number of consecutive chips that wins, the standard geometry
+ * by default.
  */
 public class ConnectFourApp {
   /**
    * Runs the Connect Four application.
    */
   public static void main(final String[] args) {
-    new ConnectFourApp().run();
+    final Geometry.Builder builder = new Geometry.Builder();
+    if (args.length > 0) {
+      builder.columnNumber(Integer.parseInt(args[0]));
+    }
+    if (args.length > 1) {
+      builder.rowNumber(Integer.parseInt(args[1]));
+    }
+    if (args.length > 2) {
+      builder.consecutiveCount(Integer.parseInt(args[2]));
+    }
+    final Geometry geometry = builder.build();
+    new ConnectFourApp().run(geometry);
   }
 
   /**
-   * Gets a game model instance and sets up a GUI.
+   * Gets a game model instance of the geometry, pondering if SEARCH_PONDERING, and sets up a GUI.
+   *
+   * @param geometry The geometry of the board.
    */
-  private void run() {
-    final Model model = Model.getInstance();
+  private void run(final Geometry geometry) {
+    final Model model = geometry.isStandard() ? Model.getInstance()
+        : Model.newInstance(Board.newInstance(geometry));
+    model.setPondering(ConnectFourSetting.SEARCH_PONDERING);
     new View(model);
   }
 }
@@ -0,0 +1,62 @@
+package edu.nyu.pqs.ps4;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.record.ArchiveAnalyzer;
+import edu.nyu.pqs.ps4.model.record.ArchiveStatistics;
+import edu.nyu.pqs.ps4.model.record.GameRecordReader;
+import edu.nyu.pqs.ps4.model.record.GameRecordWriter;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * This is the main class to work on game-record archives from the command line. "analyze PATH
+ * [PLY]" prints the statistics of the archive and the games analyzed per second, checking the
+ * moves made from PLY on, ANALYSIS_BLUNDER_PLY by default, for blunders. "generate GAMES PATH
+ * [SEED]" writes an archive of random games, e.g. to try the analysis. The analysis runs on the
+ * common fork-join pool, whose parallelism is set by the system property
+ * java.util.concurrent.ForkJoinPool.common.parallelism.
+ */
+public class ConnectFourArchiveApp {
+  /**
+   * Runs the command of the arguments.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length >= 2 && "analyze".equals(args[0])) {
+      final int ply = args.length > 2 ? Integer.parseInt(args[2])
+          : ConnectFourSetting.ANALYSIS_BLUNDER_PLY;
+      final ArchiveAnalyzer analyzer =
+          new ArchiveAnalyzer(ply, ConnectFourSetting.TRANSPOSITION_TABLE_BYTES);
+      final long start = System.nanoTime();
+      final ArchiveStatistics statistics;
+      try (GameRecordReader reader = new GameRecordReader(
+          new BufferedInputStream(Files.newInputStream(Paths.get(args[1]))))) {
+        statistics = analyzer.analyze(reader);
+      }
+      final double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.println(statistics);
+      System.out.printf("%.1f s, %,.0f games/s%n", seconds, statistics.getGames() / seconds);
+    } else if (args.length >= 3 && "generate".equals(args[0])) {
+      final long games = Long.parseLong(args[1]);
+      final Random random = new Random(args.length > 3 ? Long.parseLong(args[3]) : 0L);
+      final BitBoard bitBoard = new BitBoard();
+      try (GameRecordWriter writer =
+          new GameRecordWriter(Files.newOutputStream(Paths.get(args[2])))) {
+        for (long game = 0; game < games; game++) {
+          bitBoard.clear();
+          while (!bitBoard.isWon() && !bitBoard.isFull()) {
+            bitBoard.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER),
+                bitBoard.getMoveCount() % 2);
+          }
+          writer.write(bitBoard);
+        }
+      }
+      System.out.printf("%d games written to %s%n", games, args[2]);
+    } else {
+      System.err.println("usage: analyze PATH [PLY] | generate GAMES PATH [SEED]");
+      System.exit(1);
+    }
+  }
+}
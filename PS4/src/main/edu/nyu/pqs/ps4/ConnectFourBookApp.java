@@ -0,0 +1,37 @@
+package edu.nyu.pqs.ps4;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.book.OpeningBookGenerator;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * This is the main class to generate the opening book from the command line. The arguments are
+ * optional: the number of plies, OPENING_BOOK_PLIES by default, the path of the file,
+ * OPENING_BOOK_PATH by default, and a root move string of 1-based columns, empty by default.
+ */
+public class ConnectFourBookApp {
+  /**
+   * Generates the opening book and prints the number of positions and the time spent.
+   */
+  public static void main(final String[] args) throws IOException {
+    final int plies = args.length > 0 ? Integer.parseInt(args[0])
+        : ConnectFourSetting.OPENING_BOOK_PLIES;
+    final String path = args.length > 1 ? args[1] : ConnectFourSetting.OPENING_BOOK_PATH;
+    final String root = args.length > 2 ? args[2] : "";
+    final BitBoard bitBoard = new BitBoard();
+    for (int i = 0; i < root.length(); i++) {
+      if (bitBoard.drop(root.charAt(i) - '1', i % 2) < 0) {
+        throw new IllegalArgumentException("invalid move at " + (i + 1) + ": " + root);
+      }
+    }
+    final long start = System.nanoTime();
+    final int positions = new OpeningBookGenerator(
+        new Solver(new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES)))
+            .generate(bitBoard, plies, Paths.get(path));
+    System.out.printf("%d positions written to %s in %.1f s%n", positions, path,
+        (System.nanoTime() - start) / 1e9);
+  }
+}
@@ -16,4 +16,14 @@ public class ConnectFourSetting {
   public static final Color PLAYER_ONE_COLOR = Color.RED;
   public static final String PLAYER_TWO_NAME = "BLUE";
   public static final Color PLAYER_TWO_COLOR = Color.BLUE;
+  public static final int SEARCH_DEPTH = 20;
+  public static final long SEARCH_TIME_BUDGET_MILLIS = 500;
+  public static final long TRANSPOSITION_TABLE_BYTES = 1L << 24;
+  public static final boolean SEARCH_PONDERING = true;
+  public static final int MCTS_NODE_CAPACITY = 1 << 18;
+  public static final int MCTS_THREADS = Runtime.getRuntime().availableProcessors();
+  public static final String OPENING_BOOK_PATH = "opening-book.bin";
+  public static final int OPENING_BOOK_PLIES = 8;
+  public static final int ANALYSIS_BLUNDER_PLY = 24;
+  public static final long TOURNAMENT_MOVE_TIME_LIMIT_MILLIS = 2 * SEARCH_TIME_BUDGET_MILLIS;
 }
@@ -0,0 +1,63 @@
+package edu.nyu.pqs.ps4;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.Solution;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is the main class to solve Connect Four positions from the command line. A position is a
+ * move string of 1-based columns played alternately from an empty board, the first player being
+ * PLAYER_ONE_NAME, e.g. "4453". Positions are read from the arguments, or one per line from the
+ * standard input if there is no argument. For each position, a line "position outcome plies column
+ * nodes milliseconds" is printed, where the outcome is for the player to move and the best column
+ * is 1-based, 0 if the game is over.
+ */
+public class ConnectFourSolverApp {
+  private final Solver solver =
+      new Solver(new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES));
+
+  /**
+   * Runs the solver on the positions of the arguments or the standard input.
+   */
+  public static void main(final String[] args) throws IOException {
+    final ConnectFourSolverApp app = new ConnectFourSolverApp();
+    if (args.length > 0) {
+      for (final String position : args) {
+        app.run(position);
+      }
+      return;
+    }
+    final BufferedReader reader =
+        new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+      if (!line.trim().isEmpty()) {
+        app.run(line.trim());
+      }
+    }
+  }
+
+  /**
+   * Solves a position and prints the solution, or an error if the move string is invalid.
+   *
+   * @param position The move string of 1-based columns.
+   */
+  private void run(final String position) {
+    final BitBoard bitBoard = new BitBoard();
+    for (int i = 0; i < position.length(); i++) {
+      final int column = position.charAt(i) - '1';
+      if (bitBoard.isWon() || bitBoard.drop(column, i % 2) < 0) {
+        System.err.printf("%s invalid move at %d%n", position, i + 1);
+        return;
+      }
+    }
+    final Solution solution = solver.solve(bitBoard, position.length() % 2);
+    System.out.printf("%s %s %d %d %d %.1f%n", position, solution.getOutcome(),
+        solution.getPliesToEnd(), solution.getColumn() + 1, solution.getNodes(),
+        solution.getElapsedNanos() / 1e6);
+  }
+}
@@ -0,0 +1,38 @@
+package edu.nyu.pqs.ps4;
+
+import edu.nyu.pqs.ps4.model.player.PlayerType;
+import edu.nyu.pqs.ps4.tournament.Tournament;
+import edu.nyu.pqs.ps4.tournament.TournamentResult;
+
+/**
+ * This is the main class to play a tournament between two player types from the command line. The
+ * arguments are the two player types, e.g. SEARCH MCTS, followed optionally by the number of
+ * games, 100 by default, the number of games played at the same time, the number of available
+ * processors by default, and the time limit per move in milliseconds,
+ * TOURNAMENT_MOVE_TIME_LIMIT_MILLIS by default.
+ */
+public class ConnectFourTournamentApp {
+  /**
+   * Plays the tournament and prints its result.
+   */
+  public static void main(final String[] args) {
+    if (args.length < 2) {
+      System.err.println("usage: PLAYER_TYPE_A PLAYER_TYPE_B [GAMES] [THREADS] [LIMIT_MILLIS]");
+      System.exit(1);
+    }
+    final Tournament.Builder builder = new Tournament.Builder()
+        .playerTypes(PlayerType.valueOf(args[0]), PlayerType.valueOf(args[1]));
+    if (args.length > 2) {
+      builder.games(Integer.parseInt(args[2]));
+    }
+    if (args.length > 3) {
+      builder.threads(Integer.parseInt(args[3]));
+    }
+    if (args.length > 4) {
+      builder.moveTimeLimitMillis(Long.parseLong(args[4]));
+    }
+    final TournamentResult result = builder.build().run();
+    System.out.println(result);
+    System.out.printf("%d games in %.1f s%n", result.getGames(), result.getElapsedNanos() / 1e9);
+  }
+}
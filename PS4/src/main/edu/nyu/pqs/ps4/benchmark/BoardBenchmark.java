@@ -0,0 +1,74 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import java.awt.Color;
+
+/**
+ * This class compares make/unmake/check loops on {@link Board} and {@link BitBoard}. Every round
+ * drops a chip to each column of a mid-game position, checks the win status and cancels the move.
+ */
+public class BoardBenchmark {
+  private static final int WARMUP_ROUNDS = 300_000;
+  private static final int ROUNDS = 3_000_000;
+  private static final int[] POSITION = {3, 3, 2, 4, 4, 2, 1, 5};
+
+  /**
+   * Runs the benchmark and prints the drops per second of both boards.
+   */
+  public static void main(final String[] args) {
+    final Board board = Board.getInstance();
+    board.clear();
+    final BitBoard bitBoard = new BitBoard();
+    for (int i = 0; i < POSITION.length; i++) {
+      board.drop(getName(i), getColor(i), POSITION[i]);
+      bitBoard.drop(POSITION[i], i % 2);
+    }
+    runBoard(board, WARMUP_ROUNDS);
+    runBitBoard(bitBoard, WARMUP_ROUNDS);
+    long start = System.nanoTime();
+    long sink = runBoard(board, ROUNDS);
+    final double boardRate = ROUNDS * ConnectFourSetting.COLUMN_NUMBER * 1e9 / (System.nanoTime() - start);
+    start = System.nanoTime();
+    sink += runBitBoard(bitBoard, ROUNDS);
+    final double bitBoardRate = ROUNDS * ConnectFourSetting.COLUMN_NUMBER * 1e9 / (System.nanoTime() - start);
+    System.out.printf("Board:    %,.0f drops/s%n", boardRate);
+    System.out.printf("BitBoard: %,.0f drops/s%n", bitBoardRate);
+    System.out.printf("Speedup:  %.1fx (checksum %d)%n", bitBoardRate / boardRate, sink);
+  }
+
+  private static long runBoard(final Board board, final int rounds) {
+    long wins = 0;
+    for (int i = 0; i < rounds; i++) {
+      for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+        if (board.drop(getName(i), getColor(i), column) != null) {
+          wins += board.isWon() ? 1 : 0;
+          board.cancelLastMove();
+        }
+      }
+    }
+    return wins;
+  }
+
+  private static long runBitBoard(final BitBoard bitBoard, final int rounds) {
+    long wins = 0;
+    for (int i = 0; i < rounds; i++) {
+      for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+        if (bitBoard.drop(column, i & 1) >= 0) {
+          wins += bitBoard.isWon() ? 1 : 0;
+          bitBoard.cancelLastMove();
+        }
+      }
+    }
+    return wins;
+  }
+
+  private static String getName(final int i) {
+    return i % 2 == 0 ? ConnectFourSetting.PLAYER_ONE_NAME : ConnectFourSetting.PLAYER_TWO_NAME;
+  }
+
+  private static Color getColor(final int i) {
+    return i % 2 == 0 ? ConnectFourSetting.PLAYER_ONE_COLOR : ConnectFourSetting.PLAYER_TWO_COLOR;
+  }
+}
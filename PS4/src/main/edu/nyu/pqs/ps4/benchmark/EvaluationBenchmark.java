@@ -0,0 +1,102 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.Evaluation;
+import edu.nyu.pqs.ps4.model.search.Outcome;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class measures {@link Evaluation} against the center column count the search used before.
+ * Positions are sampled from random games after 12 to 27 chips, skipping won ones, and solved by
+ * the {@link Solver}. For each evaluation, the evaluations per second over the sample are printed,
+ * and so is how often the sign of the score matches the solved outcome, over all positions and over
+ * the quiet ones, where no player has a winning cell to play at once. Draws and zero scores are
+ * left out of the agreement. The arguments are optional: the number of positions, 2000 by default.
+ */
+public class EvaluationBenchmark {
+  private static final int POSITIONS = 2_000;
+  private static final int MIN_MOVES = 12;
+  private static final int MAX_MOVES = 27;
+  private static final int ROUNDS = 2_000;
+  private static final long SEED = 42;
+  private static final long CENTER = ((1L << ConnectFourSetting.ROW_NUMBER) - 1)
+      << (ConnectFourSetting.COLUMN_NUMBER / 2 * BitBoard.COLUMN_HEIGHT);
+
+  /**
+   * Runs the benchmark and prints the speed and solver agreement of each evaluation.
+   */
+  public static void main(final String[] args) {
+    final int positionNumber = args.length > 0 ? Integer.parseInt(args[0]) : POSITIONS;
+    final List<BitBoard> positions = samplePositions(positionNumber, new Random(SEED));
+    final Solver solver =
+        new Solver(new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES));
+    final Outcome[] outcomes = new Outcome[positions.size()];
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] = solver.solve(positions.get(i), getPlayer(positions.get(i))).getOutcome();
+    }
+    for (int evaluation = 0; evaluation < 2; evaluation++) {
+      final int[] agreements = new int[2];
+      final int[] decided = new int[2];
+      for (int i = 0; i < outcomes.length; i++) {
+        final BitBoard position = positions.get(i);
+        final int score = evaluate(evaluation, position);
+        if (outcomes[i] != Outcome.DRAW && score != 0) {
+          final int quiet = ((position.getWinningCells(0) | position.getWinningCells(1))
+              & position.getPlayableCells()) == 0 ? 1 : 0;
+          for (int j = 0; j <= quiet; j++) {
+            decided[j]++;
+            agreements[j] += (score > 0) == (outcomes[i] == Outcome.WIN) ? 1 : 0;
+          }
+        }
+      }
+      long sink = 0;
+      long bestNanos = Long.MAX_VALUE;
+      for (int round = 0; round < 5; round++) {
+        final long start = System.nanoTime();
+        for (int j = 0; j < ROUNDS; j++) {
+          for (final BitBoard position : positions) {
+            sink += evaluate(evaluation, position);
+          }
+        }
+        bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+      }
+      System.out.printf("%-12s %,12.0f evaluations/s, sign matches solver on %5.1f%% of %d "
+          + "positions, %5.1f%% of %d quiet ones (checksum %d)%n",
+          evaluation == 0 ? "center count" : "evaluation",
+          1e9 * ROUNDS * positions.size() / bestNanos, 100.0 * agreements[0] / decided[0],
+          decided[0], 100.0 * agreements[1] / decided[1], decided[1], sink);
+    }
+  }
+
+  private static int evaluate(final int evaluation, final BitBoard position) {
+    final int player = getPlayer(position);
+    return evaluation == 0
+        ? Long.bitCount(position.getMask(player) & CENTER)
+            - Long.bitCount(position.getMask(1 - player) & CENTER)
+        : Evaluation.evaluate(position, player);
+  }
+
+  private static List<BitBoard> samplePositions(final int positionNumber, final Random random) {
+    final List<BitBoard> positions = new ArrayList<>();
+    while (positions.size() < positionNumber) {
+      final BitBoard position = new BitBoard();
+      final int moves = MIN_MOVES + random.nextInt(MAX_MOVES - MIN_MOVES + 1);
+      while (position.getMoveCount() < moves && !position.isWon()) {
+        position.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER), getPlayer(position));
+      }
+      if (!position.isWon()) {
+        positions.add(position);
+      }
+    }
+    return positions;
+  }
+
+  private static int getPlayer(final BitBoard position) {
+    return position.getMoveCount() % 2;
+  }
+}
@@ -0,0 +1,78 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.record.GameRecord;
+import edu.nyu.pqs.ps4.model.record.GameRecordReader;
+import edu.nyu.pqs.ps4.model.record.GameRecordWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * This class measures the game-record archive format. Random games are written to an in-memory
+ * archive, whose bytes per game are compared with the text of Board.toString(), and the archive is
+ * read back, replaying every game on a reused bitboard and, for a share of the games, on a board.
+ * The games per second of each are printed. The arguments are optional: the number of games,
+ * 1000000 by default.
+ */
+public class GameRecordBenchmark {
+  private static final int GAMES = 1_000_000;
+  private static final int BOARD_SHARE = 10;
+  private static final long SEED = 42;
+
+  /**
+   * Runs the benchmark and prints the sizes and speeds.
+   */
+  public static void main(final String[] args) throws IOException {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+    final Random random = new Random(SEED);
+    final BitBoard bitBoard = new BitBoard();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    long moves = 0;
+    long start = System.nanoTime();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      for (int game = 0; game < games; game++) {
+        bitBoard.clear();
+        while (!bitBoard.isWon() && !bitBoard.isFull()) {
+          bitBoard.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER),
+              bitBoard.getMoveCount() % 2);
+        }
+        moves += bitBoard.getMoveCount();
+        writer.write(bitBoard);
+      }
+    }
+    System.out.printf("%d games, %.1f moves per game, written in %.0f ms%n", games,
+        moves / (double) games, (System.nanoTime() - start) / 1e6);
+    final byte[] archive = output.toByteArray();
+    final Board board = Board.newInstance();
+    GameRecord.of(bitBoard).replay(board);
+    System.out.printf("bytes per game: %.1f binary, %d as Board.toString() of the last game%n",
+        archive.length / (double) games, board.toString().length());
+    for (int round = 0; round < 3; round++) {
+      long wins = 0;
+      start = System.nanoTime();
+      try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(archive))) {
+        while (reader.next(bitBoard)) {
+          wins += bitBoard.isWon() ? 1 : 0;
+        }
+      }
+      final long bitBoardNanos = System.nanoTime() - start;
+      start = System.nanoTime();
+      int replayed = 0;
+      try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(archive))) {
+        for (GameRecord record = reader.read(); record != null; record = reader.read()) {
+          if (replayed++ % BOARD_SHARE == 0) {
+            record.replay(board);
+          }
+        }
+      }
+      final long boardNanos = System.nanoTime() - start;
+      System.out.printf("decoded onto bitboard: %,.0f games/s (%d won), into records with every"
+          + " %dth on a board: %,.0f games/s%n", games / (bitBoardNanos / 1e9), wins, BOARD_SHARE,
+          games / (boardNanos / 1e9));
+    }
+  }
+}
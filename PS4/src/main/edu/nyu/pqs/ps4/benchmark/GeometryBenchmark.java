@@ -0,0 +1,69 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Geometry;
+import java.util.Random;
+
+/**
+ * This class measures {@link Board} on the hosted geometries, each backed by its own engine: the
+ * standard bitboard, a bitboard of one long, or a bitset of several longs. For every geometry,
+ * random games are played to the end with a win check after each drop and then unmade move by
+ * move, and the nanoseconds per move are printed. The arguments are optional: the number of games
+ * per geometry, 200000 by default.
+ */
+public class GeometryBenchmark {
+  private static final int GAMES = 200_000;
+  private static final int ROUNDS = 3;
+  private static final long SEED = 42;
+  private static final Geometry[] GEOMETRIES = {
+      Geometry.STANDARD,
+      new Geometry.Builder().consecutiveCount(5).build(),
+      new Geometry.Builder().columnNumber(8).rowNumber(7).build(),
+      new Geometry.Builder().columnNumber(9).rowNumber(7).build(),
+      new Geometry.Builder().columnNumber(9).rowNumber(7).consecutiveCount(5).build()};
+
+  /**
+   * Runs the benchmark and prints the nanoseconds per move of every geometry.
+   */
+  public static void main(final String[] args) {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+    for (final Geometry geometry : GEOMETRIES) {
+      final Board board = Board.newInstance(geometry);
+      run(board, games / 10, new Random(SEED));
+      long bestNanos = Long.MAX_VALUE;
+      long moves = 0;
+      for (int round = 0; round < ROUNDS; round++) {
+        final long start = System.nanoTime();
+        moves = run(board, games, new Random(SEED));
+        bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+      }
+      System.out.printf("%dx%d connect-%d (%s): %5.1f ns/move, %.1f moves/game%n",
+          geometry.getColumnNumber(), geometry.getRowNumber(), geometry.getConsecutiveCount(),
+          geometry.isStandard() ? "BitBoard" : geometry.fitsInLong() ? "one long" : "multi-word",
+          bestNanos / (double) moves, moves / (double) games);
+    }
+  }
+
+  private static long run(final Board board, final int games, final Random random) {
+    final int columnNumber = board.getGeometry().getColumnNumber();
+    long moves = 0;
+    for (int game = 0; game < games; game++) {
+      int moveCount = 0;
+      while (!board.isWon() && !board.isFull()) {
+        final boolean first = moveCount % 2 == 0;
+        if (board.drop(
+            first ? ConnectFourSetting.PLAYER_ONE_NAME : ConnectFourSetting.PLAYER_TWO_NAME,
+            first ? ConnectFourSetting.PLAYER_ONE_COLOR : ConnectFourSetting.PLAYER_TWO_COLOR,
+            random.nextInt(columnNumber)) != null) {
+          moveCount++;
+        }
+      }
+      for (int i = 0; i < moveCount; i++) {
+        board.cancelLastMove();
+      }
+      moves += moveCount;
+    }
+    return moves;
+  }
+}
@@ -0,0 +1,75 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.LazySmpSearch;
+import edu.nyu.pqs.ps4.model.search.NegamaxSearch;
+import edu.nyu.pqs.ps4.model.search.Search;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class compares single-threaded {@link NegamaxSearch} with {@link LazySmpSearch} at 2, 4 and
+ * 8 threads on a fixed set of positions, given as strings of 1-based columns. Each position is
+ * searched with iterative deepening from depth 1 to a fixed depth, and the time to reach each depth
+ * is summed over the positions. Each configuration starts with an empty transposition table.
+ */
+public class LazySmpBenchmark {
+  private static final String[] POSITIONS = {"", "4453", "44435525", "3345", "44455554221"};
+  private static final int[] THREADS = {1, 2, 4, 8};
+  private static final int DEPTH = 12;
+
+  /**
+   * Runs the benchmark and prints the nodes per second and the time to each depth per thread count.
+   */
+  public static void main(final String[] args) {
+    final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEPTH;
+    System.out.printf("available processors: %d, depth: %d%n",
+        Runtime.getRuntime().availableProcessors(), depth);
+    run(1, depth);
+    for (final int threads : THREADS) {
+      final double[] millis = new double[depth + 1];
+      final long nodes = run(threads, depth, millis);
+      final StringBuilder builder = new StringBuilder();
+      for (int d = 2; d <= depth; d += 2) {
+        builder.append(String.format(" d%d: %8.1f", d, millis[d]));
+      }
+      System.out.printf("threads: %d, nps: %,12.0f, time to depth (ms):%s%n", threads,
+          nodes * 1e3 / millis[depth], builder);
+    }
+  }
+
+  private static long run(final int threads, final int depth) {
+    return run(threads, depth, new double[depth + 1]);
+  }
+
+  private static long run(final int threads, final int depth, final double[] millis) {
+    final ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads - 1) : null;
+    final TranspositionTable table =
+        new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES);
+    final Search search = executor != null ? new LazySmpSearch(executor, threads, table)
+        : new NegamaxSearch(0, table);
+    long nodes = 0;
+    for (final String position : POSITIONS) {
+      table.clear();
+      final BitBoard bitBoard = new BitBoard();
+      for (int i = 0; i < position.length(); i++) {
+        bitBoard.drop(position.charAt(i) - '1', i % 2);
+      }
+      final long start = System.nanoTime();
+      int[] pv = new int[0];
+      for (int d = 1; d <= depth; d++) {
+        final SearchResult result = search.search(bitBoard, position.length() % 2, d, 0L, pv);
+        nodes += result.getNodes();
+        pv = result.getPrincipalVariation();
+        millis[d] += (System.nanoTime() - start) / 1e6;
+      }
+    }
+    if (executor != null) {
+      executor.shutdown();
+    }
+    return nodes;
+  }
+}
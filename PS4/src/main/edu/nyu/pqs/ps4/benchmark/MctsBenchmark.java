@@ -0,0 +1,68 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.ParallelMonteCarloTreeSearch;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class compares the playing strength of root-parallel MCTS at N threads against 1 thread at
+ * an equal wall-clock budget per move. For each N of 2, 4 and 8, the two players play a number of
+ * games from the empty board, taking turns to move first, and the score of N threads and the
+ * rollouts per second of both are printed. The arguments are optional: the number of games, 20 by
+ * default, and the budget per move in milliseconds, 100 by default.
+ */
+public class MctsBenchmark {
+  private static final int[] THREADS = {2, 4, 8};
+  private static final int GAMES = 20;
+  private static final long MOVE_MILLIS = 100;
+
+  /**
+   * Runs the benchmark and prints the results per thread count.
+   */
+  public static void main(final String[] args) {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+    final long moveMillis = args.length > 1 ? Long.parseLong(args[1]) : MOVE_MILLIS;
+    System.out.printf("available processors: %d, games: %d, move: %d ms%n",
+        Runtime.getRuntime().availableProcessors(), games, moveMillis);
+    for (final int threads : THREADS) {
+      final ExecutorService executor = Executors.newFixedThreadPool(threads - 1);
+      int wins = 0;
+      int draws = 0;
+      final long[] rollouts = new long[2];
+      final long[] nanos = new long[2];
+      for (int game = 0; game < games; game++) {
+        final ParallelMonteCarloTreeSearch[] players = new ParallelMonteCarloTreeSearch[2];
+        final int parallel = game % 2;
+        players[parallel] = new ParallelMonteCarloTreeSearch(executor, threads,
+            ConnectFourSetting.MCTS_NODE_CAPACITY, true, game * 2L + 1);
+        players[1 - parallel] = new ParallelMonteCarloTreeSearch(null, 1,
+            ConnectFourSetting.MCTS_NODE_CAPACITY, true, game * 2L + 2);
+        final BitBoard bitBoard = new BitBoard();
+        int player = 0;
+        while (!bitBoard.isWon() && !bitBoard.isFull()) {
+          final SearchResult result = players[player].search(bitBoard, player, 0,
+              System.nanoTime() + moveMillis * 1_000_000L);
+          final int index = player == parallel ? 1 : 0;
+          rollouts[index] += result.getNodes();
+          nanos[index] += result.getElapsedNanos();
+          bitBoard.drop(result.getColumn(), player);
+          player = 1 - player;
+        }
+        if (!bitBoard.isWon()) {
+          draws++;
+        } else if (1 - player == parallel) {
+          wins++;
+        }
+      }
+      executor.shutdown();
+      System.out.printf(
+          "threads: %d vs 1, wins: %d, draws: %d, losses: %d, score: %.1f%%, "
+              + "rollouts/s: %,.0f vs %,.0f%n",
+          threads, wins, draws, games - wins - draws, (wins + draws / 2.0) * 100 / games,
+          rollouts[1] * 1e9 / nanos[1], rollouts[0] * 1e9 / nanos[0]);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.model.player.MachinePlayer;
+import edu.nyu.pqs.ps4.model.player.Player;
+import java.awt.Color;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedList;
+
+/**
+ * This class profiles the allocations of the move path of {@link Board}. It counts the bytes
+ * allocated by the running thread, as reported by the HotSpot thread bean, and the collections of
+ * every collector over make/unmake loops and machine player advices, once warmed up so that the
+ * flyweight moves are cached. For comparison, it also runs the make/unmake loop building a move
+ * per drop and keeping it in a linked list, as drop used to. The bytes per operation and the
+ * collections are printed.
+ */
+public class MoveAllocationBenchmark {
+  private static final int WARMUP_ROUNDS = 200_000;
+  private static final int ROUNDS = 2_000_000;
+  private static final int[] POSITION = {3, 3, 2, 4, 4, 2, 1, 5};
+
+  /**
+   * Runs the benchmark and prints the allocations.
+   */
+  public static void main(final String[] args) {
+    final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long thread = Thread.currentThread().getId();
+    final Board board = Board.newInstance();
+    for (int i = 0; i < POSITION.length; i++) {
+      board.drop(getName(i), getColor(i), POSITION[i]);
+    }
+    final Player player = new MachinePlayer.Builder().name(getName(POSITION.length))
+        .color(getColor(POSITION.length)).board(board).build();
+    long sink = makeUnmake(board, WARMUP_ROUNDS) + advise(player, WARMUP_ROUNDS)
+        + buildMoves(board, WARMUP_ROUNDS);
+
+    long collections = getCollections();
+    long bytes = threads.getThreadAllocatedBytes(thread);
+    sink += makeUnmake(board, ROUNDS);
+    bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+    collections = getCollections() - collections;
+    final long moves = (long) ROUNDS * ConnectFourSetting.COLUMN_NUMBER;
+    System.out.printf("Make/unmake:         %6.2f bytes/move, %d collections over %,d moves%n",
+        bytes / (double) moves, collections, moves);
+
+    collections = getCollections();
+    bytes = threads.getThreadAllocatedBytes(thread);
+    sink += advise(player, ROUNDS);
+    bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+    collections = getCollections() - collections;
+    System.out.printf("Machine advice:      %6.2f bytes/advice, %d collections over %,d advices%n",
+        bytes / (double) ROUNDS, collections, ROUNDS);
+
+    collections = getCollections();
+    bytes = threads.getThreadAllocatedBytes(thread);
+    sink += buildMoves(board, ROUNDS);
+    bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+    collections = getCollections() - collections;
+    System.out.printf("Building every move: %6.2f bytes/move, %d collections over %,d moves "
+        + "(checksum %d)%n", bytes / (double) moves, collections, moves, sink);
+  }
+
+  private static long makeUnmake(final Board board, final int rounds) {
+    long wins = 0;
+    for (int i = 0; i < rounds; i++) {
+      for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+        if (board.drop(getName(i), getColor(i), column) != null) {
+          wins += board.isWon() ? 1 : 0;
+          board.cancelLastMove();
+        }
+      }
+    }
+    return wins;
+  }
+
+  private static long advise(final Player player, final int rounds) {
+    long columns = 0;
+    for (int i = 0; i < rounds; i++) {
+      columns += player.getMoveColumnAdvice();
+    }
+    return columns;
+  }
+
+  private static long buildMoves(final Board board, final int rounds) {
+    final LinkedList<Move> history = new LinkedList<>();
+    long rows = 0;
+    for (int i = 0; i < rounds; i++) {
+      for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+        final Move cached = board.drop(getName(i), getColor(i), column);
+        if (cached != null) {
+          final Move move = new Move.Builder().playerName(getName(i)).playerColor(getColor(i))
+              .column(column).row(cached.getRow()).build();
+          history.add(move);
+          rows += history.pollLast().getRow();
+          board.cancelLastMove();
+        }
+      }
+    }
+    return rows;
+  }
+
+  private static long getCollections() {
+    long collections = 0;
+    for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      collections += Math.max(0, collector.getCollectionCount());
+    }
+    return collections;
+  }
+
+  private static String getName(final int i) {
+    return i % 2 == 0 ? ConnectFourSetting.PLAYER_ONE_NAME : ConnectFourSetting.PLAYER_TWO_NAME;
+  }
+
+  private static Color getColor(final int i) {
+    return i % 2 == 0 ? ConnectFourSetting.PLAYER_ONE_COLOR : ConnectFourSetting.PLAYER_TWO_COLOR;
+  }
+}
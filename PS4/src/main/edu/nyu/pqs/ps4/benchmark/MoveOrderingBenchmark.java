@@ -0,0 +1,63 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.HeuristicMoveOrdering;
+import edu.nyu.pqs.ps4.model.search.IterativeDeepeningSearch;
+import edu.nyu.pqs.ps4.model.search.NegamaxSearch;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+
+/**
+ * This class measures the nodes {@link NegamaxSearch} searches under the heuristics of
+ * {@link HeuristicMoveOrdering}: columns tried from left to right, then from the center outwards,
+ * then the best column of the transposition table first, then the killer columns, the history
+ * scores or both on top of those. Every position of the suite, given as a string of 1-based
+ * columns, is searched by iterative deepening to the same depth with a new transposition table, so
+ * that each run starts cold. The total nodes, the effective branching factor, which is the
+ * depth-th root of the nodes averaged geometrically over the positions, and the reduction of the
+ * nodes against left to right are printed. The arguments are optional: the depth, 12 by default.
+ */
+public class MoveOrderingBenchmark {
+  private static final String[] POSITIONS =
+      {"", "4453", "44435525", "44455554221", "3435443", "4444326", "1277442"};
+  private static final int DEPTH = 12;
+  private static final String[] NAMES = {"left to right", "center first", "+ table move",
+      "+ table, killers", "+ table, history", "all"};
+
+  /**
+   * Runs the benchmark and prints the nodes and effective branching factor of every ordering.
+   */
+  public static void main(final String[] args) {
+    final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEPTH;
+    long baseNodes = 0;
+    for (int heuristics = 0; heuristics < NAMES.length; heuristics++) {
+      long nodes = 0;
+      double logBranching = 0;
+      long nanos = 0;
+      for (final String position : POSITIONS) {
+        final BitBoard bitBoard = new BitBoard();
+        for (int i = 0; i < position.length(); i++) {
+          bitBoard.drop(position.charAt(i) - '1', i % 2);
+        }
+        final HeuristicMoveOrdering ordering = new HeuristicMoveOrdering.Builder()
+            .centerFirst(heuristics >= 1).tableMove(heuristics >= 2)
+            .killers(heuristics == 3 || heuristics == 5).history(heuristics >= 4).build();
+        final TranspositionTable table =
+            new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES);
+        final SearchResult result =
+            new IterativeDeepeningSearch(new NegamaxSearch(0, table, ordering))
+                .search(bitBoard, position.length() % 2, Long.MAX_VALUE / 2_000_000L, depth);
+        nodes += result.getNodes();
+        nanos += result.getElapsedNanos();
+        logBranching += Math.log(result.getNodes()) / result.getDepth();
+      }
+      if (heuristics == 0) {
+        baseNodes = nodes;
+      }
+      System.out.printf("%-17s %,13d nodes, branching factor %.2f, %5.1f%% fewer nodes, %,d ms%n",
+          NAMES[heuristics], nodes, Math.exp(logBranching / POSITIONS.length),
+          100.0 * (baseNodes - nodes) / baseNodes, nanos / 1_000_000L);
+    }
+  }
+}
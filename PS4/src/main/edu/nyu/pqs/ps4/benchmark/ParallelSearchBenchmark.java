@@ -0,0 +1,59 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.ParallelSearch;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class measures the scaling of {@link ParallelSearch} at 1, 2, 4, 8 and 16 threads on a fixed
+ * set of positions, given as strings of 1-based columns, searched to a fixed depth. Each thread
+ * count starts with an empty transposition table, and the speedup is relative to 1 thread.
+ */
+public class ParallelSearchBenchmark {
+  private static final String[] POSITIONS =
+      {"", "4453", "44435525", "3345", "44455554221", "4412", "33333"};
+  private static final int[] THREADS = {1, 2, 4, 8, 16};
+  private static final int DEPTH = 12;
+
+  /**
+   * Runs the benchmark and prints the time, nodes per second and speedup per thread count.
+   */
+  public static void main(final String[] args) {
+    final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEPTH;
+    System.out.printf("available processors: %d, depth: %d%n",
+        Runtime.getRuntime().availableProcessors(), depth);
+    run(1, depth);
+    double baseMillis = 0;
+    for (final int threads : THREADS) {
+      final long start = System.nanoTime();
+      final long nodes = run(threads, depth);
+      final double millis = (System.nanoTime() - start) / 1e6;
+      if (threads == 1) {
+        baseMillis = millis;
+      }
+      System.out.printf("threads: %2d, time: %8.1f ms, nps: %,12.0f, speedup: %.2fx%n", threads,
+          millis, nodes * 1e3 / millis, baseMillis / millis);
+    }
+  }
+
+  private static long run(final int threads, final int depth) {
+    final ForkJoinPool pool = new ForkJoinPool(threads);
+    final ParallelSearch search = new ParallelSearch(pool,
+        new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES));
+    long nodes = 0;
+    for (final String position : POSITIONS) {
+      final BitBoard bitBoard = new BitBoard();
+      for (int i = 0; i < position.length(); i++) {
+        bitBoard.drop(position.charAt(i) - '1', i % 2);
+      }
+      final SearchResult result =
+          search.search(bitBoard, position.length() % 2, depth, 0L, new int[0]);
+      nodes += result.getNodes();
+    }
+    pool.shutdown();
+    return nodes;
+  }
+}
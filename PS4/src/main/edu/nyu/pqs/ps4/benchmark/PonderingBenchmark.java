@@ -0,0 +1,83 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.player.SearchPlayer;
+import java.util.Random;
+
+/**
+ * This class measures how long a {@link SearchPlayer} takes to answer a human move, without and
+ * with pondering. The machine plays first with the SEARCH settings of the man-machine mode,
+ * SEARCH_DEPTH plies within SEARCH_TIME_BUDGET_MILLIS per move. A simulated human thinks for a
+ * fixed time before each move, and plays the advice of a shallow search most of the time and a
+ * random column otherwise, so that the reply the machine ponders is sometimes wrong. For each
+ * setting, the mean and maximum time the machine took to answer, and the number of answers found by
+ * pondering, are printed. Both settings play the same human moves from the same seed, although the
+ * games differ once the machine's moves do. The arguments are optional: the number of games, 3 by
+ * default, and the thinking time of the human in milliseconds, 1000 by default.
+ */
+public class PonderingBenchmark {
+  private static final int GAMES = 3;
+  private static final long THINK_MILLIS = 1_000;
+  private static final int HUMAN_DEPTH = 6;
+  private static final double HUMAN_RANDOM_RATE = 0.25;
+  private static final long SEED = 42;
+
+  /**
+   * Runs the benchmark and prints the response times of the machine without and with pondering.
+   */
+  public static void main(final String[] args) throws InterruptedException {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+    final long thinkMillis = args.length > 1 ? Long.parseLong(args[1]) : THINK_MILLIS;
+    for (final boolean pondering : new boolean[] {false, true}) {
+      final Random random = new Random(SEED);
+      long totalNanos = 0;
+      long maxNanos = 0;
+      int answers = 0;
+      int hits = 0;
+      for (int game = 0; game < games; game++) {
+        final Board board = Board.newInstance();
+        final SearchPlayer machine = new SearchPlayer.Builder()
+            .name(ConnectFourSetting.PLAYER_ONE_NAME).color(ConnectFourSetting.PLAYER_ONE_COLOR)
+            .board(board).depth(ConnectFourSetting.SEARCH_DEPTH)
+            .timeBudgetMillis(ConnectFourSetting.SEARCH_TIME_BUDGET_MILLIS).build();
+        final SearchPlayer human = new SearchPlayer.Builder()
+            .name(ConnectFourSetting.PLAYER_TWO_NAME).color(ConnectFourSetting.PLAYER_TWO_COLOR)
+            .board(board).depth(HUMAN_DEPTH).build();
+        board.drop(machine.getName(), machine.getColor(), machine.getMoveColumnAdvice());
+        while (!board.isWon() && !board.isFull()) {
+          if (pondering) {
+            machine.startPondering();
+          }
+          final int column = random.nextDouble() < HUMAN_RANDOM_RATE
+              ? getRandomColumn(board, random) : human.getMoveColumnAdvice();
+          Thread.sleep(thinkMillis);
+          board.drop(human.getName(), human.getColor(), column);
+          if (board.isWon() || board.isFull()) {
+            break;
+          }
+          final long start = System.nanoTime();
+          final int answer = machine.getMoveColumnAdvice();
+          final long nanos = System.nanoTime() - start;
+          totalNanos += nanos;
+          maxNanos = Math.max(maxNanos, nanos);
+          answers++;
+          board.drop(machine.getName(), machine.getColor(), answer);
+        }
+        machine.close();
+        hits += machine.getPonderHitCount();
+      }
+      System.out.printf("pondering %-5s %6.0f ms mean, %6.0f ms max answer, %d of %d answers "
+          + "found by pondering%n", pondering, totalNanos / 1e6 / answers, maxNanos / 1e6, hits,
+          answers);
+    }
+  }
+
+  private static int getRandomColumn(final Board board, final Random random) {
+    int column;
+    do {
+      column = random.nextInt(ConnectFourSetting.COLUMN_NUMBER);
+    } while (!board.copyBitBoard().canDrop(column));
+    return column;
+  }
+}
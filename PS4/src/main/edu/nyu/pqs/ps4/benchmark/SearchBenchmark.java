@@ -0,0 +1,39 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.NegamaxSearch;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+
+/**
+ * This class measures the nodes searched per second by {@link NegamaxSearch} on a few positions,
+ * given as strings of 1-based columns, at increasing depths, without and with a transposition
+ * table.
+ */
+public class SearchBenchmark {
+  private static final String[] POSITIONS = {"", "4453", "44435525", "44455554221"};
+  private static final int MAX_DEPTH = 10;
+
+  /**
+   * Runs the benchmark and prints one search result per position and depth.
+   */
+  public static void main(final String[] args) {
+    for (final String position : POSITIONS) {
+      final BitBoard bitBoard = new BitBoard();
+      for (int i = 0; i < position.length(); i++) {
+        bitBoard.drop(position.charAt(i) - '1', i % 2);
+      }
+      for (int depth = 2; depth <= MAX_DEPTH; depth += 2) {
+        final SearchResult result =
+            new NegamaxSearch().search(bitBoard, position.length() % 2, depth);
+        System.out.printf("position: \"%s\", %s%n", position, result);
+        final TranspositionTable table =
+            new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES);
+        final SearchResult cachedResult =
+            new NegamaxSearch(0, table).search(bitBoard, position.length() % 2, depth);
+        System.out.printf("position: \"%s\", table: %s%n", position, cachedResult);
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Mode;
+import edu.nyu.pqs.ps4.server.CallerRunsSessionExecutor;
+import edu.nyu.pqs.ps4.server.EventLoopSessionExecutor;
+import edu.nyu.pqs.ps4.server.GameSessionManager;
+import edu.nyu.pqs.ps4.server.GameState;
+import edu.nyu.pqs.ps4.server.GameStatus;
+import edu.nyu.pqs.ps4.server.SessionExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * This class compares the session executors. It measures the heap taken by idle sessions, and the
+ * moves per second when client threads submit moves to a few hot games, so that most commands
+ * contend for a game. Clients submit windows of WINDOW asynchronous moves and wait for the last
+ * one. The arguments are optional: the number of idle sessions, 50000 by default, the number of
+ * hot games, 16 by default, the number of client threads, 8 by default, and the duration per
+ * executor in seconds, 5 by default.
+ */
+public class SessionExecutorBenchmark {
+  private static final int IDLE_SESSIONS = 50_000;
+  private static final int HOT_GAMES = 16;
+  private static final int CLIENTS = 8;
+  private static final int SECONDS = 5;
+  private static final int WINDOW = 64;
+
+  /**
+   * Runs the benchmark and prints the heap per idle session and the throughput per executor.
+   */
+  public static void main(final String[] args) throws InterruptedException {
+    final int idleSessions = args.length > 0 ? Integer.parseInt(args[0]) : IDLE_SESSIONS;
+    final int hotGames = args.length > 1 ? Integer.parseInt(args[1]) : HOT_GAMES;
+    final int clients = args.length > 2 ? Integer.parseInt(args[2]) : CLIENTS;
+    final int seconds = args.length > 3 ? Integer.parseInt(args[3]) : SECONDS;
+    System.out.printf("available processors: %d%n", Runtime.getRuntime().availableProcessors());
+    run("caller-runs", CallerRunsSessionExecutor::new, idleSessions, hotGames, clients, seconds);
+    run("event-loop x1", EventLoopSessionExecutor::new, idleSessions, hotGames, clients, seconds);
+    run("event-loop x4", () -> new EventLoopSessionExecutor(4), idleSessions, hotGames, clients,
+        seconds);
+  }
+
+  private static void run(final String name, final Supplier<SessionExecutor> factory,
+      final int idleSessions, final int hotGames, final int clients, final int seconds)
+      throws InterruptedException {
+    try (SessionExecutor executor = factory.get()) {
+      final GameSessionManager manager = new GameSessionManager(executor);
+      final Runtime runtime = Runtime.getRuntime();
+      System.gc();
+      final long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+      for (int i = 0; i < idleSessions; i++) {
+        manager.startGame(Mode.MULTIPLAYER);
+      }
+      System.gc();
+      final long bytes = (runtime.totalMemory() - runtime.freeMemory() - usedBefore)
+          / Math.max(1, idleSessions);
+      final AtomicLongArray ids = new AtomicLongArray(hotGames);
+      for (int i = 0; i < hotGames; i++) {
+        ids.set(i, manager.startGame(Mode.MULTIPLAYER).getGameId());
+      }
+      final long[] moves = new long[clients];
+      final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+      final Thread[] threads = new Thread[clients];
+      for (int t = 0; t < clients; t++) {
+        final int client = t;
+        threads[t] = new Thread(() -> {
+          final ThreadLocalRandom random = ThreadLocalRandom.current();
+          while (System.nanoTime() - deadline < 0) {
+            final int index = random.nextInt(hotGames);
+            final long id = ids.get(index);
+            CompletableFuture<GameState> last = null;
+            try {
+              for (int i = 0; i < WINDOW; i++) {
+                last = manager.makeMoveAsync(id,
+                    random.nextInt(ConnectFourSetting.COLUMN_NUMBER));
+              }
+            } catch (final IllegalArgumentException e) {
+              // Another client ended the game meanwhile.
+              continue;
+            }
+            if (last.join().getStatus() != GameStatus.IN_PROGRESS
+                && ids.compareAndSet(index, id, manager.startGame(Mode.MULTIPLAYER).getGameId())) {
+              manager.endGame(id);
+            }
+            moves[client] += WINDOW;
+          }
+        });
+        threads[t].start();
+      }
+      long total = 0;
+      for (int t = 0; t < clients; t++) {
+        threads[t].join();
+        total += moves[t];
+      }
+      System.out.printf("%s: heap per idle session: %d bytes, moves/s: %,.0f%n", name, bytes,
+          total / (double) seconds);
+    }
+  }
+}
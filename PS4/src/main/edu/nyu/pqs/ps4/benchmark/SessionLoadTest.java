@@ -0,0 +1,99 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Mode;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
+import edu.nyu.pqs.ps4.server.CallerRunsSessionExecutor;
+import edu.nyu.pqs.ps4.server.GameSessionManager;
+import edu.nyu.pqs.ps4.server.GameState;
+import edu.nyu.pqs.ps4.server.GameStatus;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class load-tests a {@link GameSessionManager} hosting many concurrent games. Client threads
+ * each own a share of the games and make random moves in random games of their share for a
+ * duration; a game that is over is ended and replaced by a new one. The heap per game, the moves
+ * per second and the median and p99 latency of a move command are printed. In man-machine games a
+ * move command includes the reply of the machine player, which searches with the time budget given
+ * and the transposition table shared by the sessions, allocated before the heap is measured. The
+ * arguments are optional: the number of games, 10000 by default, the number of client threads, 4
+ * by default, the duration in seconds, 10 by default, the game mode, MULTIPLAYER by default, and
+ * the time budget of the machine player in milliseconds, 1 by default.
+ */
+public class SessionLoadTest {
+  private static final int GAMES = 10_000;
+  private static final int THREADS = 4;
+  private static final int SECONDS = 10;
+  private static final long MACHINE_MILLIS = 1;
+  private static final int SAMPLES = 1 << 20;
+
+  /**
+   * Runs the load test and prints the throughput and latencies.
+   */
+  public static void main(final String[] args) throws InterruptedException {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+    final int threads = args.length > 1 ? Integer.parseInt(args[1]) : THREADS;
+    final int seconds = args.length > 2 ? Integer.parseInt(args[2]) : SECONDS;
+    final Mode mode = args.length > 3 ? Mode.valueOf(args[3]) : Mode.MULTIPLAYER;
+    final long machineMillis = args.length > 4 ? Long.parseLong(args[4]) : MACHINE_MILLIS;
+    final GameSessionManager manager = new GameSessionManager(new CallerRunsSessionExecutor(),
+        new PlayerFactory.Builder().timeBudgetMillis(machineMillis).sharedTranspositionTable(true)
+            .build());
+    final Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    final long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+    final long[][] ids = new long[threads][];
+    for (int t = 0; t < threads; t++) {
+      ids[t] = new long[(games + threads - 1 - t) / threads];
+      for (int i = 0; i < ids[t].length; i++) {
+        ids[t][i] = manager.startGame(mode).getGameId();
+      }
+    }
+    System.gc();
+    System.out.printf("mode: %s, games: %d, threads: %d, heap per game: %d bytes%n", mode,
+        manager.getGameNumber(), threads,
+        (runtime.totalMemory() - runtime.freeMemory() - usedBefore) / Math.max(1, games));
+    final long[][] latencies = new long[threads][SAMPLES];
+    final long[] moves = new long[threads];
+    final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+    final Thread[] clients = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      final int client = t;
+      clients[t] = new Thread(() -> {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long[] own = ids[client];
+        while (System.nanoTime() - deadline < 0) {
+          final int index = random.nextInt(own.length);
+          final long start = System.nanoTime();
+          final GameState state =
+              manager.makeMove(own[index], random.nextInt(ConnectFourSetting.COLUMN_NUMBER));
+          latencies[client][(int) (moves[client]++ & (SAMPLES - 1))] = System.nanoTime() - start;
+          if (state.getStatus() != GameStatus.IN_PROGRESS) {
+            manager.endGame(own[index]);
+            own[index] = manager.startGame(mode).getGameId();
+          }
+        }
+      });
+      clients[t].start();
+    }
+    long total = 0;
+    int sampleNumber = 0;
+    for (int t = 0; t < threads; t++) {
+      clients[t].join();
+      total += moves[t];
+      sampleNumber += (int) Math.min(moves[t], SAMPLES);
+    }
+    final long[] samples = new long[sampleNumber];
+    int offset = 0;
+    for (int t = 0; t < threads; t++) {
+      final int length = (int) Math.min(moves[t], SAMPLES);
+      System.arraycopy(latencies[t], 0, samples, offset, length);
+      offset += length;
+    }
+    Arrays.sort(samples);
+    System.out.printf("moves/s: %,.0f, p50: %.1f us, p99: %.1f us%n", total / (double) seconds,
+        samples[samples.length / 2] / 1e3, samples[(int) (samples.length * 0.99)] / 1e3);
+    manager.close();
+  }
+}
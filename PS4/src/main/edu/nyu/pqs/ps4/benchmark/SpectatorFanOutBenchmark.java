@@ -0,0 +1,212 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Mode;
+import edu.nyu.pqs.ps4.model.Model;
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.server.EncodedEvent;
+import edu.nyu.pqs.ps4.server.Spectator;
+import edu.nyu.pqs.ps4.server.SpectatorFanOut;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * This class compares broadcasting the events of one game to many observers by adding every
+ * observer to the model, which encodes the event once per observer on the thread making the
+ * moves, and by adding one {@link SpectatorFanOut}, which encodes it once and delivers the shared
+ * bytes on its dispatch threads. The same random games are played both ways, and the time per move
+ * on the moving thread and the time until every observer has every event are printed. The arguments
+ * are optional: the number of observers, 10000 by default, the number of games, 200 by default,
+ * and the number of dispatch threads, 1 by default.
+ */
+public class SpectatorFanOutBenchmark {
+  private static final int OBSERVERS = 10_000;
+  private static final int GAMES = 200;
+  private static final int THREADS = 1;
+  private static final long SEED = 42;
+
+  /**
+   * Runs the benchmark and prints the times of both ways.
+   */
+  public static void main(final String[] args) throws InterruptedException {
+    final int observers = args.length > 0 ? Integer.parseInt(args[0]) : OBSERVERS;
+    final int games = args.length > 1 ? Integer.parseInt(args[1]) : GAMES;
+    final int threads = args.length > 2 ? Integer.parseInt(args[2]) : THREADS;
+    System.out.printf("observers: %d, games: %d, dispatch threads: %d%n", observers, games,
+        threads);
+    for (int round = 0; round < 3; round++) {
+      runListeners(observers, games);
+      runFanOut(observers, games, threads);
+    }
+  }
+
+  private static void runListeners(final int observers, final int games) {
+    final Model model = Model.newInstance(Board.newInstance());
+    final EncodingListener[] listeners = new EncodingListener[observers];
+    for (int i = 0; i < observers; i++) {
+      listeners[i] = new EncodingListener();
+      model.addListener(listeners[i]);
+    }
+    final long start = System.nanoTime();
+    final long events = play(model, games);
+    final long elapsed = System.nanoTime() - start;
+    long bytes = 0;
+    for (final EncodingListener listener : listeners) {
+      bytes += listener.bytes;
+    }
+    System.out.printf("listeners: %d events, %.1f us per event on the mover, %.0f ms in all,"
+        + " %d bytes encoded%n", events, elapsed / 1e3 / events, elapsed / 1e6, bytes);
+  }
+
+  private static void runFanOut(final int observers, final int games, final int threads)
+      throws InterruptedException {
+    final Model model = Model.newInstance(Board.newInstance());
+    try (SpectatorFanOut fanOut = new SpectatorFanOut(1 << 16, threads)) {
+      final CountingSpectator[] spectators = new CountingSpectator[observers];
+      for (int i = 0; i < observers; i++) {
+        spectators[i] = new CountingSpectator();
+        fanOut.subscribe(spectators[i]);
+      }
+      model.addListener(fanOut);
+      final long start = System.nanoTime();
+      final long events = play(model, games);
+      final long moverElapsed = System.nanoTime() - start;
+      for (final CountingSpectator spectator : spectators) {
+        while (spectator.events < events && fanOut.getEvictedSpectators() == 0) {
+          Thread.sleep(1);
+        }
+      }
+      final long elapsed = System.nanoTime() - start;
+      System.out.printf("fan-out:   %d events, %.1f us per event on the mover, %.0f ms in all,"
+          + " %d evicted%n", events, moverElapsed / 1e3 / events, elapsed / 1e6,
+          fanOut.getEvictedSpectators());
+    }
+  }
+
+  /**
+   * Plays random games on the model.
+   *
+   * @param model The model.
+   * @param games The number of games.
+   * @return The number of events fired.
+   */
+  private static long play(final Model model, final int games) {
+    final Random random = new Random(SEED);
+    final CountingListener counter = new CountingListener();
+    model.addListener(counter);
+    model.setMode(Mode.MULTIPLAYER);
+    for (int game = 0; game < games; game++) {
+      model.startGame();
+      while (!counter.over) {
+        model.makeMove(random.nextInt(ConnectFourSetting.COLUMN_NUMBER));
+      }
+      counter.over = false;
+    }
+    return counter.events;
+  }
+
+  /**
+   * This class encodes every event it is notified of, as each observer of a plain listener loop
+   * would.
+   */
+  private static final class EncodingListener implements Listener {
+    private long bytes;
+
+    private void encode(final Move move, final String name) {
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream(32);
+      try (DataOutputStream output = new DataOutputStream(buffer)) {
+        if (move != null) {
+          output.writeByte(move.getColumn());
+          output.writeByte(move.getRow());
+          output.writeInt(move.getPlayerColor().getRGB());
+          output.writeUTF(move.getPlayerName());
+        }
+        if (name != null) {
+          output.writeUTF(name);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      bytes += buffer.size();
+    }
+
+    @Override
+    public void gameStarted(final String nextPlayerName) {
+      encode(null, nextPlayerName);
+    }
+
+    @Override
+    public void gameContinue(final Move move, final String nextPlayerName) {
+      encode(move, nextPlayerName);
+    }
+
+    @Override
+    public void invalidMoveMade(final String nextPlayerName) {
+      encode(null, nextPlayerName);
+    }
+
+    @Override
+    public void gameTied(final Move move) {
+      encode(move, null);
+    }
+
+    @Override
+    public void gameWon(final Move move) {
+      encode(move, null);
+    }
+  }
+
+  /**
+   * This class counts the shared events delivered and their bytes.
+   */
+  private static final class CountingSpectator implements Spectator {
+    private volatile long events;
+    private long bytes;
+
+    @Override
+    public void onEvent(final EncodedEvent event) {
+      bytes += event.getSize();
+      events++;
+    }
+  }
+
+  /**
+   * This class counts the events fired and tells when a game is over.
+   */
+  private static final class CountingListener implements Listener {
+    private long events;
+    private boolean over;
+
+    @Override
+    public void gameStarted(final String nextPlayerName) {
+      events++;
+    }
+
+    @Override
+    public void gameContinue(final Move move, final String nextPlayerName) {
+      events++;
+    }
+
+    @Override
+    public void invalidMoveMade(final String nextPlayerName) {
+      events++;
+    }
+
+    @Override
+    public void gameTied(final Move move) {
+      events++;
+      over = true;
+    }
+
+    @Override
+    public void gameWon(final Move move) {
+      events++;
+      over = true;
+    }
+  }
+}
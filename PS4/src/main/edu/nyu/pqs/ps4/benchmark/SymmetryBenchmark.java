@@ -0,0 +1,50 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This class counts the positions reachable from the empty board within each number of plies, by
+ * their Zobrist key and by their canonical key, which a position shares with its mirror. A cache or
+ * opening book keyed by the canonical key holds the second number of entries rather than the
+ * first. The arguments are optional: the maximum number of plies, 8 by default.
+ */
+public class SymmetryBenchmark {
+  private static final int MAX_PLIES = 8;
+
+  /**
+   * Runs the benchmark and prints the number of positions by key and canonical key per ply.
+   */
+  public static void main(final String[] args) {
+    final int maxPlies = args.length > 0 ? Integer.parseInt(args[0]) : MAX_PLIES;
+    final Set<Long> keys = new HashSet<>();
+    final Set<Long> canonicalKeys = new HashSet<>();
+    for (int plies = 0; plies <= maxPlies; plies++) {
+      keys.clear();
+      canonicalKeys.clear();
+      final long start = System.nanoTime();
+      visit(new BitBoard(), plies, keys, canonicalKeys);
+      System.out.printf("%d plies: %,10d positions, %,10d canonical (%.1f%%), %,d ms%n", plies,
+          keys.size(), canonicalKeys.size(), 100.0 * canonicalKeys.size() / keys.size(),
+          (System.nanoTime() - start) / 1_000_000L);
+    }
+  }
+
+  private static void visit(final BitBoard position, final int plies, final Set<Long> keys,
+      final Set<Long> canonicalKeys) {
+    if (!keys.add(position.getKey())) {
+      return;
+    }
+    canonicalKeys.add(position.getCanonicalKey());
+    for (int column = 0; plies > 0 && column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      if (position.drop(column, position.getMoveCount() % 2) >= 0) {
+        if (!position.isWon()) {
+          visit(position, plies - 1, keys, canonicalKeys);
+        }
+        position.cancelLastMove();
+      }
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package edu.nyu.pqs.ps4.benchmark;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class compares three ways to detect a win in a make/unmake search loop. Every detector walks
+ * the same full-width tree below a mid-game position, checking the win status after each drop
+ * QUERIES_PER_MOVE times, as the model does in drop, makeSingleMove and makeMove:
+ *
+ * <ul>
+ * <li>the grid scan of the old board, which counts the chips in a row on the column, the row and
+ * the two diagonals through the last move on every query;</li>
+ * <li>per-line counters, which keep the number of chips of each player on every line of
+ * CONSECUTIVE_COUNT cells, updated on drop and cancel, so that a query reads a cached flag;</li>
+ * <li>{@link BitBoard}, which shifts and ANDs the mover's whole mask once per drop and caches the
+ * flag.</li>
+ * </ul>
+ *
+ * <p>The nanoseconds per move of each are printed. The arguments are optional: the depth of the
+ * tree, 7 by default.
+ */
+public class WinDetectionBenchmark {
+  private static final int DEPTH = 7;
+  private static final int ROUNDS = 5;
+  private static final int QUERIES_PER_MOVE = 3;
+  private static final int[] POSITION = {3, 3, 2, 4, 4, 2, 1, 5};
+  private static final int WIDTH = ConnectFourSetting.COLUMN_NUMBER;
+  private static final int HEIGHT = ConnectFourSetting.ROW_NUMBER;
+  private static final int RUN = ConnectFourSetting.CONSECUTIVE_COUNT;
+
+  /**
+   * Runs the benchmark and prints the nanoseconds per move of every detector.
+   */
+  public static void main(final String[] args) {
+    final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEPTH;
+    final GridBoard grid = new GridBoard();
+    final LineCounterBoard counters = new LineCounterBoard();
+    final BitBoard bitBoard = new BitBoard();
+    for (int i = 0; i < POSITION.length; i++) {
+      grid.drop(POSITION[i], i % 2);
+      counters.drop(POSITION[i], i % 2);
+      bitBoard.drop(POSITION[i], i % 2);
+    }
+    final int player = POSITION.length % 2;
+    final long[] bestNanos = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+    final long[] moves = new long[3];
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      moves[0] = walk(grid, player, depth);
+      bestNanos[0] = Math.min(bestNanos[0], System.nanoTime() - start);
+      start = System.nanoTime();
+      moves[1] = walk(counters, player, depth);
+      bestNanos[1] = Math.min(bestNanos[1], System.nanoTime() - start);
+      start = System.nanoTime();
+      moves[2] = walk(bitBoard, player, depth);
+      bestNanos[2] = Math.min(bestNanos[2], System.nanoTime() - start);
+    }
+    if (moves[0] != moves[1] || moves[0] != moves[2]) {
+      throw new IllegalStateException("detectors disagree: " + moves[0] + ", " + moves[1] + ", "
+          + moves[2]);
+    }
+    System.out.printf("%,d moves per walk at depth %d, %d queries per move%n", moves[0], depth,
+        QUERIES_PER_MOVE);
+    System.out.printf("Grid scan:     %5.1f ns/move%n", bestNanos[0] / (double) moves[0]);
+    System.out.printf("Line counters: %5.1f ns/move%n", bestNanos[1] / (double) moves[1]);
+    System.out.printf("BitBoard:      %5.1f ns/move%n", bestNanos[2] / (double) moves[2]);
+  }
+
+  private static long walk(final GridBoard board, final int player, final int depth) {
+    long moves = 0;
+    for (int column = 0; column < WIDTH; column++) {
+      if (board.canDrop(column)) {
+        board.drop(column, player);
+        moves++;
+        boolean won = false;
+        for (int i = 0; i < QUERIES_PER_MOVE; i++) {
+          won = board.isWon();
+        }
+        if (!won && depth > 1) {
+          moves += walk(board, 1 - player, depth - 1);
+        }
+        board.cancelLastMove();
+      }
+    }
+    return moves;
+  }
+
+  private static long walk(final LineCounterBoard board, final int player, final int depth) {
+    long moves = 0;
+    for (int column = 0; column < WIDTH; column++) {
+      if (board.canDrop(column)) {
+        board.drop(column, player);
+        moves++;
+        boolean won = false;
+        for (int i = 0; i < QUERIES_PER_MOVE; i++) {
+          won = board.isWon();
+        }
+        if (!won && depth > 1) {
+          moves += walk(board, 1 - player, depth - 1);
+        }
+        board.cancelLastMove();
+      }
+    }
+    return moves;
+  }
+
+  private static long walk(final BitBoard board, final int player, final int depth) {
+    long moves = 0;
+    for (int column = 0; column < WIDTH; column++) {
+      if (board.drop(column, player) >= 0) {
+        moves++;
+        boolean won = false;
+        for (int i = 0; i < QUERIES_PER_MOVE; i++) {
+          won = board.isWon();
+        }
+        if (!won && depth > 1) {
+          moves += walk(board, 1 - player, depth - 1);
+        }
+        board.cancelLastMove();
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * A grid of player indexes plus one, 0 for empty, whose win status is scanned from the last move
+   * on every query.
+   */
+  private static class GridBoard {
+    private final int[][] cells = new int[WIDTH][HEIGHT];
+    private final int[] heights = new int[WIDTH];
+    private final int[] history = new int[WIDTH * HEIGHT];
+    private int moveCount;
+
+    boolean canDrop(final int column) {
+      return heights[column] < HEIGHT;
+    }
+
+    void drop(final int column, final int player) {
+      cells[column][heights[column]++] = player + 1;
+      history[moveCount++] = column;
+    }
+
+    void cancelLastMove() {
+      final int column = history[--moveCount];
+      cells[column][--heights[column]] = 0;
+    }
+
+    boolean isWon() {
+      if (moveCount == 0) {
+        return false;
+      }
+      final int column = history[moveCount - 1];
+      final int row = heights[column] - 1;
+      return count(column, row, 0, 1) >= RUN || count(column, row, 1, 0) >= RUN
+          || count(column, row, 1, 1) >= RUN || count(column, row, 1, -1) >= RUN;
+    }
+
+    private int count(final int column, final int row, final int dc, final int dr) {
+      final int chip = cells[column][row];
+      int count = 1;
+      for (int c = column + dc, r = row + dr; c >= 0 && c < WIDTH && r >= 0 && r < HEIGHT
+          && cells[c][r] == chip; c += dc, r += dr) {
+        count++;
+      }
+      for (int c = column - dc, r = row - dr; c >= 0 && c < WIDTH && r >= 0 && r < HEIGHT
+          && cells[c][r] == chip; c -= dc, r -= dr) {
+        count++;
+      }
+      return count;
+    }
+  }
+
+  /**
+   * A board keeping the number of chips of each player on every line of RUN cells. A drop adds
+   * the chip to the lines through its cell and the win status is cached until the board changes.
+   */
+  private static class LineCounterBoard {
+    private static final int[][] CELL_LINES = getCellLines();
+    private final int[][] counts = new int[2][getLineNumber()];
+    private final int[] heights = new int[WIDTH];
+    private final int[] history = new int[WIDTH * HEIGHT];
+    private int moveCount;
+    private boolean won;
+
+    boolean canDrop(final int column) {
+      return heights[column] < HEIGHT;
+    }
+
+    void drop(final int column, final int player) {
+      final int[] playerCounts = counts[player];
+      for (final int line : CELL_LINES[column * HEIGHT + heights[column]]) {
+        if (++playerCounts[line] == RUN) {
+          won = true;
+        }
+      }
+      heights[column]++;
+      history[moveCount++] = column << 1 | player;
+    }
+
+    void cancelLastMove() {
+      final int move = history[--moveCount];
+      final int column = move >>> 1;
+      final int[] playerCounts = counts[move & 1];
+      for (final int line : CELL_LINES[column * HEIGHT + --heights[column]]) {
+        playerCounts[line]--;
+      }
+      won = false;
+    }
+
+    boolean isWon() {
+      return won;
+    }
+
+    private static int getLineNumber() {
+      int lines = 0;
+      for (final int[] cellLines : CELL_LINES) {
+        for (final int line : cellLines) {
+          lines = Math.max(lines, line + 1);
+        }
+      }
+      return lines;
+    }
+
+    private static int[][] getCellLines() {
+      final List<List<Integer>> cellLines = new ArrayList<>();
+      for (int cell = 0; cell < WIDTH * HEIGHT; cell++) {
+        cellLines.add(new ArrayList<>());
+      }
+      final int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+      int line = 0;
+      for (final int[] direction : directions) {
+        for (int column = 0; column < WIDTH; column++) {
+          for (int row = 0; row < HEIGHT; row++) {
+            final int lastColumn = column + direction[0] * (RUN - 1);
+            final int lastRow = row + direction[1] * (RUN - 1);
+            if (lastColumn < WIDTH && lastRow >= 0 && lastRow < HEIGHT) {
+              for (int i = 0; i < RUN; i++) {
+                cellLines.get((column + direction[0] * i) * HEIGHT + row + direction[1] * i)
+                    .add(line);
+              }
+              line++;
+            }
+          }
+        }
+      }
+      final int[][] result = new int[cellLines.size()][];
+      for (int cell = 0; cell < result.length; cell++) {
+        result[cell] = cellLines.get(cell).stream().mapToInt(Integer::intValue).toArray();
+      }
+      return result;
+    }
+  }
+}
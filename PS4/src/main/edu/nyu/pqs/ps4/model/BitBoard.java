@@ -0,0 +1,357 @@
+package edu.nyu.pqs.ps4.model;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+
+/**
+ * This class is a bitboard representation of the board, meant for fast make/unmake loops. Each
+ * player's chips are kept in a long mask where a column takes ROW_NUMBER + 1 bits, bit (column *
+ * (ROW_NUMBER + 1) + row) standing for the cell. The extra bit on top of every column always stays
+ * empty so that shifting a mask never carries a line over to the next column. A height array keeps
+ * the next free row of each column, and the history keeps the columns and players of the moves.
+ * A Zobrist key of the chips is updated along with the masks, see {@link Zobrist}, and so is the
+ * key of the mirrored chips, so that a position and its mirror share a canonical key. This is the
+ * engine of the standard geometry, the one the searches are written for.
+ */
+public class BitBoard implements BoardEngine {
+  /**
+   * Number of bits taken by a column including the empty sentinel bit on top.
+   */
+  public static final int COLUMN_HEIGHT = ConnectFourSetting.ROW_NUMBER + 1;
+  /**
+   * Number of cells of the board.
+   */
+  public static final int CELL_NUMBER =
+      ConnectFourSetting.COLUMN_NUMBER * ConnectFourSetting.ROW_NUMBER;
+  private static final int HALF_RUN = (ConnectFourSetting.CONSECUTIVE_COUNT + 1) / 2;
+  private static final long BOTTOM_MASK = getBottomMask();
+  private static final long BOARD_MASK = BOTTOM_MASK * ((1L << ConnectFourSetting.ROW_NUMBER) - 1);
+  private final long[] masks = new long[2];
+  private final int[] heights = new int[ConnectFourSetting.COLUMN_NUMBER];
+  private final int[] history = new int[CELL_NUMBER];
+  private int moveCount;
+  private long key;
+  private long mirrorKey;
+  private boolean won;
+
+  /**
+   * Constructor of an empty bitboard.
+   */
+  public BitBoard() {}
+
+  /**
+   * Copy constructor.
+   *
+   * @param other The bitboard to copy.
+   */
+  public BitBoard(final BitBoard other) {
+    copyFrom(other);
+  }
+
+  /**
+   * Sets this bitboard to the same chips and history as another bitboard.
+   *
+   * @param other The bitboard to copy.
+   */
+  public void copyFrom(final BitBoard other) {
+    masks[0] = other.masks[0];
+    masks[1] = other.masks[1];
+    System.arraycopy(other.heights, 0, heights, 0, heights.length);
+    System.arraycopy(other.history, 0, history, 0, other.moveCount);
+    moveCount = other.moveCount;
+    key = other.key;
+    mirrorKey = other.mirrorKey;
+    won = other.won;
+  }
+
+  /**
+   * Clears the bitboard and history.
+   */
+  @Override
+  public void clear() {
+    masks[0] = 0L;
+    masks[1] = 0L;
+    for (int i = 0; i < heights.length; i++) {
+      heights[i] = 0;
+    }
+    moveCount = 0;
+    key = 0L;
+    mirrorKey = 0L;
+    won = false;
+  }
+
+  /**
+   * Checks whether a chip can be dropped to the column, i.e. the column is in range and not full.
+   *
+   * @param column The column to check.
+   * @return A boolean indicating the status.
+   */
+  public boolean canDrop(final int column) {
+    return column >= 0 && column < ConnectFourSetting.COLUMN_NUMBER
+        && heights[column] < ConnectFourSetting.ROW_NUMBER;
+  }
+
+  /**
+   * Drops a chip of the player to the board. Fails if the column is out of range or full, or the
+   * game is already won.
+   *
+   * @param column The column to drop the chip.
+   * @param player The index of the player, 0 or 1.
+   * @return The row where the chip lands, -1 if fails to drop.
+   */
+  @Override
+  public int drop(final int column, final int player) {
+    if (won || !canDrop(column)) {
+      return -1;
+    }
+    final int row = heights[column]++;
+    final int bit = column * COLUMN_HEIGHT + row;
+    masks[player] |= 1L << bit;
+    key ^= Zobrist.getChip(player, bit);
+    mirrorKey ^= Zobrist.getChip(player, mirror(column) * COLUMN_HEIGHT + row);
+    history[moveCount++] = column << 1 | player;
+    won = hasAlignment(masks[player]);
+    return row;
+  }
+
+  /**
+   * Cancels the last move made with removing it from the history and the board. As no chip can be
+   * dropped after a win, the game is never won after cancelling a move.
+   */
+  @Override
+  public void cancelLastMove() {
+    if (moveCount > 0) {
+      final int move = history[--moveCount];
+      final int column = move >>> 1;
+      final int row = --heights[column];
+      final int bit = column * COLUMN_HEIGHT + row;
+      masks[move & 1] &= ~(1L << bit);
+      key ^= Zobrist.getChip(move & 1, bit);
+      mirrorKey ^= Zobrist.getChip(move & 1, mirror(column) * COLUMN_HEIGHT + row);
+      won = false;
+    }
+  }
+
+  /**
+   * Checks whether the player who made the last move win the game. The status is computed once when
+   * the move is dropped.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Override
+  public boolean isWon() {
+    return won;
+  }
+
+  /**
+   * Checks whether the board is full or not.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Override
+  public boolean isFull() {
+    return moveCount == CELL_NUMBER;
+  }
+
+  /**
+   * Returns the number of moves made.
+   *
+   * @return The number of moves made.
+   */
+  public int getMoveCount() {
+    return moveCount;
+  }
+
+  /**
+   * Returns the column of the move at the index of the history.
+   *
+   * @param index The index in the history.
+   * @return The column of the move.
+   */
+  public int getColumnAt(final int index) {
+    return history[index] >>> 1;
+  }
+
+  /**
+   * Returns the player index of the move at the index of the history.
+   *
+   * @param index The index in the history.
+   * @return The player index of the move, 0 or 1.
+   */
+  public int getPlayerAt(final int index) {
+    return history[index] & 1;
+  }
+
+  /**
+   * Returns the number of chips in the column.
+   *
+   * @param column The column.
+   * @return The number of chips in the column.
+   */
+  public int getHeight(final int column) {
+    return heights[column];
+  }
+
+  /**
+   * Returns the Zobrist key of the chips on the board.
+   *
+   * @return The Zobrist key.
+   */
+  public long getKey() {
+    return key;
+  }
+
+  /**
+   * Returns the Zobrist key of the chips on the board mirrored left to right, which is kept along
+   * with the key.
+   *
+   * @return The Zobrist key of the mirrored board.
+   */
+  public long getMirrorKey() {
+    return mirrorKey;
+  }
+
+  /**
+   * Returns the smaller of the key and the mirrored key, which is the same for a position and its
+   * mirror, so that caches keyed by it hold one entry for both. The columns cached along with it
+   * are of the mirrored board if {@link #isMirrored()}.
+   *
+   * @return The canonical Zobrist key.
+   */
+  public long getCanonicalKey() {
+    return Math.min(key, mirrorKey);
+  }
+
+  /**
+   * Checks whether the canonical key is the key of the mirrored board, so that columns cached under
+   * it must be mirrored.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean isMirrored() {
+    return mirrorKey < key;
+  }
+
+  /**
+   * Returns the column mirrored left to right, or -1 for -1.
+   *
+   * @param column The column, or -1.
+   * @return The mirrored column, or -1.
+   */
+  public static int mirror(final int column) {
+    return column < 0 ? column : ConnectFourSetting.COLUMN_NUMBER - 1 - column;
+  }
+
+  /**
+   * Returns the chip mask of the player.
+   *
+   * @param player The index of the player, 0 or 1.
+   * @return The chip mask of the player.
+   */
+  public long getMask(final int player) {
+    return masks[player];
+  }
+
+  /**
+   * Returns the mask of the cells where the next chip of each column not full would land.
+   *
+   * @return The mask of playable cells.
+   */
+  public long getPlayableCells() {
+    return ((masks[0] | masks[1]) + BOTTOM_MASK) & BOARD_MASK;
+  }
+
+  /**
+   * Returns the mask of the empty cells that would complete CONSECUTIVE_COUNT chips in a row of
+   * the player if the player had a chip there, whether or not a chip can be dropped there yet.
+   *
+   * @param player The index of the player, 0 or 1.
+   * @return The mask of winning cells of the player.
+   */
+  public long getWinningCells(final int player) {
+    final long mask = masks[player];
+    return (winningCells(mask, 1) | winningCells(mask, COLUMN_HEIGHT)
+        | winningCells(mask, COLUMN_HEIGHT - 1) | winningCells(mask, COLUMN_HEIGHT + 1))
+        & BOARD_MASK & ~(masks[0] | masks[1]);
+  }
+
+  /**
+   * Checks whether a mask contains CONSECUTIVE_COUNT chips in a row in any of the vertical,
+   * horizontal and two diagonal directions by shifting and ANDing the mask along the direction.
+   *
+   * @param mask The chip mask.
+   * @return A boolean indicating the status.
+   */
+  static boolean hasAlignment(final long mask) {
+    return (alignments(mask, 1) | alignments(mask, COLUMN_HEIGHT)
+        | alignments(mask, COLUMN_HEIGHT - 1) | alignments(mask, COLUMN_HEIGHT + 1)) != 0;
+  }
+
+  /**
+   * Returns the mask of cells starting CONSECUTIVE_COUNT chips in a row in the direction. A line of
+   * CONSECUTIVE_COUNT chips is found as two overlapping lines of HALF_RUN chips.
+   *
+   * @param mask The chip mask.
+   * @param direction The bit distance between two neighboring cells in the direction.
+   * @return The mask of cells starting a line.
+   */
+  private static long alignments(final long mask, final int direction) {
+    long half = mask;
+    for (int i = 1; i < HALF_RUN; i++) {
+      half &= mask >>> (direction * i);
+    }
+    return half & (half >>> (direction * (ConnectFourSetting.CONSECUTIVE_COUNT - HALF_RUN)));
+  }
+
+  /**
+   * Returns the mask of cells completing CONSECUTIVE_COUNT chips in a row in the direction, for
+   * each position the cell may take in the line. Bits shifted over the board or its sentinel row
+   * are dropped by the caller.
+   *
+   * @param mask The chip mask.
+   * @param direction The bit distance between two neighboring cells in the direction.
+   * @return The mask of cells completing a line, including occupied and off-board ones.
+   */
+  private static long winningCells(final long mask, final int direction) {
+    long cells = 0L;
+    for (int j = 0; j < ConnectFourSetting.CONSECUTIVE_COUNT; j++) {
+      long line = -1L;
+      for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+        final int distance = direction * (i - j);
+        if (i != j) {
+          line &= distance > 0 ? mask >>> distance : mask << -distance;
+        }
+      }
+      cells |= line;
+    }
+    return cells;
+  }
+
+  /**
+   * Returns the mask of the bottom cell of every column.
+   *
+   * @return The mask of bottom cells.
+   */
+  private static long getBottomMask() {
+    long mask = 0L;
+    for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      mask |= 1L << (column * COLUMN_HEIGHT);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the string representation of this bitboard. The string follows the format: "bitboard:
+   * {history: [C1, C2, ...]}" where C1, C2, etc. are the columns of the moves made.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < moveCount; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(getColumnAt(i));
+    }
+    return String.format("bitboard: {history: [%s]}", builder.toString());
+  }
+}
@@ -3,26 +3,56 @@ package edu.nyu.pqs.ps4.model;
 import edu.nyu.pqs.ps4.ConnectFourSetting;
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This class maintains the board and keeps the history of moves. It also checks the status for
- * winning, tied, etc.
+ * winning, tied, etc. The board has a {@link Geometry}, and the status checks are backed by the
+ * engine that fits it: a {@link BitBoard} for the standard geometry, a bitboard of one long for the
+ * other geometries that fit in one, and a bitset of several longs beyond that.
+ *
+ * <p>Making and unmaking moves doesn't allocate. The history is a preallocated int array holding
+ * the cell and player of each move, along with the identity, i.e. the name and color, each move
+ * was made with. The moves returned by drop are immutable flyweights cached per identity and cell,
+ * so a move keeps the name and color it was made with when its player drops the next chips under
+ * another name.
  */
 public class Board {
-  private static final Board BOARD = new Board();
-  private final Color[][] board =
-      new Color[ConnectFourSetting.COLUMN_NUMBER][ConnectFourSetting.ROW_NUMBER];
-  private final LinkedList<Move> moveHistory = new LinkedList<>();
+  private static final Board BOARD = new Board(Geometry.STANDARD);
+  private final Geometry geometry;
+  private final Color[][] board;
+  private final int[] history;
+  private final BoardEngine engine;
+  private final int[] historyIdentities;
+  private final int[] playerIdentities = {-1, -1};
+  private final List<String> identityNames = new ArrayList<>();
+  private final List<Color> identityColors = new ArrayList<>();
+  private final List<Move[]> moves = new ArrayList<>();
+  private int moveCount;
 
   /**
    * Private constructor.
+   *
+   * @param geometry The geometry of the board.
    */
-  private Board() {}
+  private Board(final Geometry geometry) {
+    this.geometry = geometry;
+    board = new Color[geometry.getColumnNumber()][geometry.getRowNumber()];
+    history = new int[geometry.getCellNumber()];
+    historyIdentities = new int[geometry.getCellNumber()];
+    if (geometry.isStandard()) {
+      engine = new BitBoard();
+    } else if (geometry.fitsInLong()) {
+      engine = new LongBitBoard(geometry);
+    } else {
+      engine = new MultiWordBitBoard(geometry);
+    }
+  }
 
   /**
-   * Returns the static instance of this class which exercises the singleton pattern.
+   * Returns the static instance of this class which exercises the singleton pattern. It has the
+   * standard geometry.
    *
    * @return The static instance of this class.
    */
@@ -30,20 +60,66 @@ public class Board {
     return BOARD;
   }
 
+  /**
+   * Returns a new empty instance of this class of the standard geometry, independent of the static
+   * instance, for searches or games that need their own board.
+   *
+   * @return A new instance of this class.
+   */
+  public static Board newInstance() {
+    return new Board(Geometry.STANDARD);
+  }
+
+  /**
+   * Returns a new empty instance of this class of the geometry, independent of the static instance.
+   *
+   * @param geometry The geometry of the board.
+   * @return A new instance of this class.
+   */
+  public static Board newInstance(final Geometry geometry) {
+    return new Board(Objects.requireNonNull(geometry));
+  }
+
+  /**
+   * Returns a new instance of this class with the same geometry, chips and history as this board.
+   *
+   * @return A copy of this board.
+   */
+  public Board copy() {
+    final Board copy = new Board(geometry);
+    for (int i = 0; i < moveCount; i++) {
+      final Move move = getMoveAt(i);
+      copy.drop(move.getPlayerName(), move.getPlayerColor(), move.getColumn());
+    }
+    return copy;
+  }
+
+  /**
+   * Gets the geometry of the board.
+   *
+   * @return The geometry of the board.
+   */
+  public Geometry getGeometry() {
+    return geometry;
+  }
+
   /**
    * Clears the board and history.
    */
   public void clear() {
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
-      for (int j = 0; j < ConnectFourSetting.ROW_NUMBER; j++) {
-        board[i][j] = null;
+    for (final Color[] column : board) {
+      for (int j = 0; j < column.length; j++) {
+        column[j] = null;
       }
     }
-    moveHistory.clear();
+    moveCount = 0;
+    engine.clear();
   }
 
   /**
-   * Drops a chip to the board and adds the move to the history if succeed.
+   * Drops a chip to the board and adds the move to the history if succeed. The move returned is
+   * shared by every drop to the same cell with the same name and color, so it is only built the
+   * first time.
    *
    * @param playerName The name of the player who makes this move.
    * @param playerColor The color of the player who makes this move.
@@ -51,19 +127,22 @@ public class Board {
    * @return The move made with player name, color, column and row, null if fails to drop.
    */
   public Move drop(final String playerName, final Color playerColor, final int column) {
-    if (column >= ConnectFourSetting.COLUMN_NUMBER || column < 0 || isWon()) {
+    final int player = getPlayerIndex(playerColor);
+    final int row = engine.drop(column, player);
+    if (row < 0) {
       return null;
     }
-    for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
-      if (board[column][i] == null) {
-        final Move move = new Move.Builder().playerName(playerName).playerColor(playerColor)
-            .column(column).row(i).build();
-        board[column][i] = playerColor;
-        moveHistory.add(move);
-        return move;
-      }
+    int identity = playerIdentities[player];
+    if (identity < 0 || !playerName.equals(identityNames.get(identity))
+        || !playerColor.equals(identityColors.get(identity))) {
+      identity = getIdentity(playerName, playerColor);
+      playerIdentities[player] = identity;
     }
-    return null;
+    board[column][row] = playerColor;
+    final int cell = column * geometry.getRowNumber() + row;
+    historyIdentities[moveCount] = identity;
+    history[moveCount++] = cell << 1 | player;
+    return getMove(identity, cell);
   }
 
   /**
@@ -72,12 +151,7 @@ public class Board {
    * @return A boolean indicating the status.
    */
   public boolean isFull() {
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
-      if (board[i][ConnectFourSetting.ROW_NUMBER - 1] == null) {
-        return false;
-      }
-    }
-    return true;
+    return engine.isFull();
   }
 
   /**
@@ -86,112 +160,113 @@ public class Board {
    * @return A boolean indicating the status.
    */
   public boolean isWon() {
-    if (moveHistory.size() < 1) {
-      return false;
-    }
-    final Move move = moveHistory.peekLast();
-    return isWonInVertical(move) || isWonInHorizontal(move) || isWonInDiagonal(move);
+    return engine.isWon();
   }
 
   /**
    * Cancels the last move made with removing it from the history and the board.
    */
   public void cancelLastMove() {
-    if (moveHistory.size() > 0) {
-      final Move move = moveHistory.pollLast();
-      board[move.getColumn()][move.getRow()] = null;
+    if (moveCount > 0) {
+      final int cell = history[--moveCount] >>> 1;
+      board[cell / geometry.getRowNumber()][cell % geometry.getRowNumber()] = null;
+      engine.cancelLastMove();
     }
   }
 
   /**
-   * Checks whether the player who made the last move win the game in consecutive moves in vertical.
+   * Returns the number of moves made.
    *
-   * @param move The last move made.
-   * @return A boolean indicating the status.
+   * @return The number of moves made.
    */
-  private boolean isWonInVertical(final Move move) {
-    if (move.getRow() < ConnectFourSetting.CONSECUTIVE_COUNT - 1) {
-      return false;
-    }
-    int consecutiveCount = 0;
-    for (int i = move.getRow(); i >= 0; i--) {
-      if (move.getPlayerColor().equals(board[move.getColumn()][i])) {
-        consecutiveCount++;
-      } else {
-        consecutiveCount = 0;
-      }
-    }
-    if (consecutiveCount == ConnectFourSetting.CONSECUTIVE_COUNT) {
-      return true;
-    }
-    return false;
+  public int getMoveCount() {
+    return moveCount;
   }
 
   /**
-   * Checks whether the player who made the last move win the game in consecutive moves in
-   * horizontal.
+   * Returns the move at the index of the history, with the name and color it was made with.
    *
-   * @param move The last move made.
-   * @return A boolean indicating the status.
+   * @param index The index in the history, from 0 to the number of moves made exclusive.
+   * @return The move.
    */
-  private boolean isWonInHorizontal(final Move move) {
-    int consecutiveCount = 0;
-    int maxConsecutiveCount = 0;
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
-      if (move.getPlayerColor().equals(board[i][move.getRow()])) {
-        consecutiveCount++;
-        maxConsecutiveCount = Math.max(maxConsecutiveCount, consecutiveCount);
-      } else {
-        consecutiveCount = 0;
-      }
+  public Move getMoveAt(final int index) {
+    if (index < 0 || index >= moveCount) {
+      throw new IndexOutOfBoundsException("no move at " + index);
     }
-    if (maxConsecutiveCount == ConnectFourSetting.CONSECUTIVE_COUNT) {
-      return true;
+    return getMove(historyIdentities[index], history[index] >>> 1);
+  }
+
+  /**
+   * Returns a copy of the bitboard backing this board, which can be searched without changing the
+   * board. Only boards of the standard geometry are backed by a bitboard.
+   *
+   * @return A copy of the bitboard.
+   * @throws IllegalStateException If the board isn't of the standard geometry.
+   */
+  public BitBoard copyBitBoard() {
+    if (!geometry.isStandard()) {
+      throw new IllegalStateException("no bitboard for " + geometry);
     }
-    return false;
+    return new BitBoard((BitBoard) engine);
   }
 
   /**
-   * Checks whether the player who made the last move win the game in consecutive moves in two
-   * diagonals.
+   * Returns the index of the player with the color in the bitboard, 0 for PLAYER_ONE_COLOR and 1
+   * for PLAYER_TWO_COLOR.
    *
-   * @param move The last move made.
-   * @return A boolean indicating the status.
+   * @param playerColor The color of the player.
+   * @return The index of the player.
+   * @throws IllegalArgumentException If the color is neither player's color.
    */
-  private boolean isWonInDiagonal(final Move move) {
-    return isWonInDiagonalHelper(move, 1) || isWonInDiagonalHelper(move, -1);
+  public static int getPlayerIndex(final Color playerColor) {
+    if (ConnectFourSetting.PLAYER_ONE_COLOR.equals(playerColor)) {
+      return 0;
+    } else if (ConnectFourSetting.PLAYER_TWO_COLOR.equals(playerColor)) {
+      return 1;
+    }
+    throw new IllegalArgumentException("not a player color: " + playerColor);
   }
 
   /**
-   * Checks whether the player who made the last move win the game in consecutive moves in diagonal.
+   * Returns the index of the identity with the name and color, adding it the first time.
    *
-   * @param move The last move made.
-   * @param c The orientation of the diagonal.
-   * @return A boolean indicating the status.
+   * @param playerName The name of the player.
+   * @param playerColor The color of the player.
+   * @return The index of the identity.
    */
-  private boolean isWonInDiagonalHelper(final Move move, final int c) {
-    int consecutiveCount = 0;
-    int maxConsecutiveCount = 0;
-    for (int i =
-        -ConnectFourSetting.CONSECUTIVE_COUNT + 1; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
-      final int column = move.getColumn() + i;
-      final int row = move.getRow() + c * i;
-      if (column < 0 || column >= ConnectFourSetting.COLUMN_NUMBER || row < 0
-          || row >= ConnectFourSetting.ROW_NUMBER) {
-        consecutiveCount = 0;
-        continue;
-      }
-      if (move.getPlayerColor().equals(board[column][row])) {
-        consecutiveCount++;
-        maxConsecutiveCount = Math.max(maxConsecutiveCount, consecutiveCount);
-      } else {
-        consecutiveCount = 0;
-      }
-      if (maxConsecutiveCount == ConnectFourSetting.CONSECUTIVE_COUNT) {
-        return true;
+  private int getIdentity(final String playerName, final Color playerColor) {
+    for (int i = 0; i < identityNames.size(); i++) {
+      if (playerName.equals(identityNames.get(i)) && playerColor.equals(identityColors.get(i))) {
+        return i;
       }
     }
-    return false;
+    identityNames.add(playerName);
+    identityColors.add(playerColor);
+    moves.add(null);
+    return identityNames.size() - 1;
+  }
+
+  /**
+   * Returns the flyweight move of the identity at the cell, building it the first time.
+   *
+   * @param identity The index of the identity the move was made with.
+   * @param cell The index of the cell, column * ROW_NUMBER + row.
+   * @return The move.
+   */
+  private Move getMove(final int identity, final int cell) {
+    Move[] identityMoves = moves.get(identity);
+    if (identityMoves == null) {
+      identityMoves = new Move[history.length];
+      moves.set(identity, identityMoves);
+    }
+    Move move = identityMoves[cell];
+    if (move == null) {
+      move = new Move.Builder().playerName(identityNames.get(identity))
+          .playerColor(identityColors.get(identity)).column(cell / geometry.getRowNumber())
+          .row(cell % geometry.getRowNumber()).build();
+      identityMoves[cell] = move;
+    }
+    return move;
   }
 
   /**
@@ -209,6 +284,10 @@ public class Board {
    * @return The move history.
    */
   List<Move> getMoveHistory() {
+    final List<Move> moveHistory = new ArrayList<>(moveCount);
+    for (int i = 0; i < moveCount; i++) {
+      moveHistory.add(getMoveAt(i));
+    }
     return moveHistory;
   }
 
@@ -219,9 +298,9 @@ public class Board {
   @Override
   public String toString() {
     final List<String> moveStrings = new ArrayList<>();
-    moveHistory.forEach(m -> {
-      moveStrings.add(m.toString());
-    });
+    for (int i = 0; i < moveCount; i++) {
+      moveStrings.add(getMoveAt(i).toString());
+    }
     return String.format("board: {history: [%s]}", String.join(", ", moveStrings));
   }
 }
@@ -0,0 +1,42 @@
+package edu.nyu.pqs.ps4.model;
+
+/**
+ * This interface is the engine that keeps the chips of a {@link Board} and computes its status. A
+ * player is an index, 0 for the player who moves first and 1 for the other, and the win status is
+ * computed once per drop so that it can be queried any number of times for free.
+ */
+interface BoardEngine {
+  /**
+   * Drops a chip of the player to the board. Fails if the column is out of range or full, or the
+   * game is already won.
+   *
+   * @param column The column to drop the chip.
+   * @param player The index of the player, 0 or 1.
+   * @return The row where the chip lands, -1 if fails to drop.
+   */
+  int drop(int column, int player);
+
+  /**
+   * Cancels the last move made, if any.
+   */
+  void cancelLastMove();
+
+  /**
+   * Checks whether the player who made the last move win the game.
+   *
+   * @return A boolean indicating the status.
+   */
+  boolean isWon();
+
+  /**
+   * Checks whether the board is full or not.
+   *
+   * @return A boolean indicating the status.
+   */
+  boolean isFull();
+
+  /**
+   * Clears the board and history.
+   */
+  void clear();
+}
@@ -0,0 +1,194 @@
+package edu.nyu.pqs.ps4.model;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+
+/**
+ * This class consists of the rules of a board that vary between games: the number of columns, the
+ * number of rows, and the number of consecutive chips that wins. A board of this geometry is backed
+ * by the fastest engine that fits it, see {@link Board}.
+ */
+public class Geometry {
+  /**
+   * Geometry of the classic game, COLUMN_NUMBER by ROW_NUMBER with CONSECUTIVE_COUNT to win.
+   */
+  public static final Geometry STANDARD = new Geometry.Builder().build();
+  private final int columnNumber;
+  private final int rowNumber;
+  private final int consecutiveCount;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private int columnNumber = ConnectFourSetting.COLUMN_NUMBER;
+    private int rowNumber = ConnectFourSetting.ROW_NUMBER;
+    private int consecutiveCount = ConnectFourSetting.CONSECUTIVE_COUNT;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the number of columns when building an instance. Defaults to COLUMN_NUMBER.
+     *
+     * @param c The input number of columns.
+     * @return The altered builder class.
+     */
+    public Builder columnNumber(final int c) {
+      columnNumber = c;
+      return this;
+    }
+
+    /**
+     * Sets the number of rows when building an instance. Defaults to ROW_NUMBER.
+     *
+     * @param r The input number of rows.
+     * @return The altered builder class.
+     */
+    public Builder rowNumber(final int r) {
+      rowNumber = r;
+      return this;
+    }
+
+    /**
+     * Sets the number of consecutive chips that wins when building an instance. Defaults to
+     * CONSECUTIVE_COUNT.
+     *
+     * @param c The input number of consecutive chips.
+     * @return The altered builder class.
+     */
+    public Builder consecutiveCount(final int c) {
+      consecutiveCount = c;
+      return this;
+    }
+
+    /**
+     * Builds the geometry instance. Require the numbers of columns and rows to be positive, and the
+     * number of consecutive chips to be at least 2 and to fit in a row or a column.
+     *
+     * @return The built geometry instance.
+     */
+    public Geometry build() {
+      if (columnNumber < 1 || rowNumber < 1) {
+        throw new IllegalArgumentException("numbers of columns and rows must be positive");
+      }
+      if (consecutiveCount < 2 || consecutiveCount > Math.max(columnNumber, rowNumber)) {
+        throw new IllegalArgumentException("consecutive count must be from 2 to the board size");
+      }
+      return new Geometry(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private Geometry(final Builder builder) {
+    columnNumber = builder.columnNumber;
+    rowNumber = builder.rowNumber;
+    consecutiveCount = builder.consecutiveCount;
+  }
+
+  /**
+   * Gets the number of columns.
+   *
+   * @return The number of columns.
+   */
+  public int getColumnNumber() {
+    return columnNumber;
+  }
+
+  /**
+   * Gets the number of rows.
+   *
+   * @return The number of rows.
+   */
+  public int getRowNumber() {
+    return rowNumber;
+  }
+
+  /**
+   * Gets the number of consecutive chips that wins.
+   *
+   * @return The number of consecutive chips.
+   */
+  public int getConsecutiveCount() {
+    return consecutiveCount;
+  }
+
+  /**
+   * Gets the number of cells of the board.
+   *
+   * @return The number of cells.
+   */
+  public int getCellNumber() {
+    return columnNumber * rowNumber;
+  }
+
+  /**
+   * Gets the number of bits a bitboard of this geometry takes, a column taking ROW_NUMBER + 1 bits
+   * including an empty sentinel bit on top.
+   *
+   * @return The number of bits.
+   */
+  public int getBitNumber() {
+    return columnNumber * (rowNumber + 1);
+  }
+
+  /**
+   * Checks whether this is the standard geometry, whose boards can be searched by the machine
+   * players on a {@link BitBoard}.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean isStandard() {
+    return equals(STANDARD);
+  }
+
+  /**
+   * Checks whether a bitboard of this geometry fits in one long.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean fitsInLong() {
+    return getBitNumber() <= Long.SIZE;
+  }
+
+  /**
+   * Checks whether this geometry equals another object, i.e. it is a geometry with the same numbers
+   * of columns, rows and consecutive chips.
+   */
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof Geometry)) {
+      return false;
+    }
+    final Geometry other = (Geometry) object;
+    return columnNumber == other.columnNumber && rowNumber == other.rowNumber
+        && consecutiveCount == other.consecutiveCount;
+  }
+
+  /**
+   * Returns the hash code of this geometry.
+   */
+  @Override
+  public int hashCode() {
+    return (columnNumber * 31 + rowNumber) * 31 + consecutiveCount;
+  }
+
+  /**
+   * Returns the string representation of this geometry. The string follows the format: "geometry:
+   * {columns: C, rows: R, connect: K}" where C, R and K are the numbers of columns, rows and
+   * consecutive chips.
+   */
+  @Override
+  public String toString() {
+    return String.format("geometry: {columns: %d, rows: %d, connect: %d}", columnNumber,
+        rowNumber, consecutiveCount);
+  }
+}
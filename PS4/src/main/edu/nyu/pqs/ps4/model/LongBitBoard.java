@@ -0,0 +1,157 @@
+package edu.nyu.pqs.ps4.model;
+
+/**
+ * This class is the engine of the geometries whose bitboard fits in one long but are not the
+ * standard one. It keeps the same layout as {@link BitBoard}, a column taking ROW_NUMBER + 1 bits
+ * with an empty sentinel bit on top, but reads the sizes and the number of consecutive chips from
+ * the geometry, so the shifts of the win check are computed per instance instead of being
+ * constants.
+ */
+class LongBitBoard implements BoardEngine {
+  private final int columnNumber;
+  private final int rowNumber;
+  private final int columnHeight;
+  private final int consecutiveCount;
+  private final int halfRun;
+  private final long[] masks = new long[2];
+  private final int[] heights;
+  private final int[] history;
+  private int moveCount;
+  private boolean won;
+
+  /**
+   * Constructor of an empty board.
+   *
+   * @param geometry The geometry of the board, which must fit in a long.
+   */
+  LongBitBoard(final Geometry geometry) {
+    if (!geometry.fitsInLong()) {
+      throw new IllegalArgumentException("geometry doesn't fit in a long: " + geometry);
+    }
+    columnNumber = geometry.getColumnNumber();
+    rowNumber = geometry.getRowNumber();
+    columnHeight = rowNumber + 1;
+    consecutiveCount = geometry.getConsecutiveCount();
+    halfRun = (consecutiveCount + 1) / 2;
+    heights = new int[columnNumber];
+    history = new int[geometry.getCellNumber()];
+  }
+
+  /**
+   * Drops a chip of the player to the board and checks the mover's mask for a win. Fails if the
+   * column is out of range or full, or the game is already won.
+   *
+   * @param column The column to drop the chip.
+   * @param player The index of the player, 0 or 1.
+   * @return The row where the chip lands, -1 if fails to drop.
+   */
+  @Override
+  public int drop(final int column, final int player) {
+    if (won || column < 0 || column >= columnNumber || heights[column] == rowNumber) {
+      return -1;
+    }
+    final int row = heights[column]++;
+    masks[player] |= 1L << (column * columnHeight + row);
+    history[moveCount++] = column << 1 | player;
+    won = hasAlignment(masks[player]);
+    return row;
+  }
+
+  /**
+   * Cancels the last move made. As no chip can be dropped after a win, the game is never won after
+   * cancelling a move.
+   */
+  @Override
+  public void cancelLastMove() {
+    if (moveCount > 0) {
+      final int move = history[--moveCount];
+      final int column = move >>> 1;
+      masks[move & 1] &= ~(1L << (column * columnHeight + --heights[column]));
+      won = false;
+    }
+  }
+
+  /**
+   * Checks whether the player who made the last move win the game. The status is computed once when
+   * the move is dropped.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Override
+  public boolean isWon() {
+    return won;
+  }
+
+  /**
+   * Checks whether the board is full or not.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Override
+  public boolean isFull() {
+    return moveCount == history.length;
+  }
+
+  /**
+   * Clears the board and history.
+   */
+  @Override
+  public void clear() {
+    masks[0] = 0L;
+    masks[1] = 0L;
+    for (int i = 0; i < heights.length; i++) {
+      heights[i] = 0;
+    }
+    moveCount = 0;
+    won = false;
+  }
+
+  /**
+   * Returns the chip mask of the player, for tests only.
+   *
+   * @param player The index of the player, 0 or 1.
+   * @return The chip mask of the player.
+   */
+  long getMask(final int player) {
+    return masks[player];
+  }
+
+  /**
+   * Checks whether a mask contains the consecutive chips in a row in any of the vertical,
+   * horizontal and two diagonal directions.
+   *
+   * @param mask The chip mask.
+   * @return A boolean indicating the status.
+   */
+  private boolean hasAlignment(final long mask) {
+    return (alignments(mask, 1) | alignments(mask, columnHeight)
+        | alignments(mask, columnHeight - 1) | alignments(mask, columnHeight + 1)) != 0;
+  }
+
+  /**
+   * Returns the mask of cells starting the consecutive chips in a row in the direction, found as
+   * two overlapping lines of half as many chips like {@link BitBoard} does.
+   *
+   * @param mask The chip mask.
+   * @param direction The bit distance between two neighboring cells in the direction.
+   * @return The mask of cells starting a line.
+   */
+  private long alignments(final long mask, final int direction) {
+    long half = mask;
+    for (int i = 1; i < halfRun; i++) {
+      half &= shift(mask, direction * i);
+    }
+    return half & shift(half, direction * (consecutiveCount - halfRun));
+  }
+
+  /**
+   * Shifts a mask right without sign, to 0 if the distance takes every bit out.
+   *
+   * @param mask The mask.
+   * @param distance The distance, at least 0.
+   * @return The shifted mask.
+   */
+  private static long shift(final long mask, final int distance) {
+    return distance < Long.SIZE ? mask >>> distance : 0L;
+  }
+}
@@ -7,23 +7,32 @@ import edu.nyu.pqs.ps4.model.player.PlayerType;
 import edu.nyu.pqs.ps4.view.Listener;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This class is the game model of Connect Four. It is responsible for maintaining the game logic
- * and interacts with its listeners.
+ * and interacts with its listeners. Closing the model closes its players.
  */
-public class Model {
-  private static final Model MODEL = new Model();
+public class Model implements AutoCloseable {
+  private static final Model MODEL = new Model(Board.getInstance(), new PlayerFactory());
   private final List<Listener> listeners = new ArrayList<>();
-  private final Board board = Board.getInstance();
-  private final PlayerFactory playerFactory = new PlayerFactory();
+  private final Board board;
+  private final PlayerFactory playerFactory;
   private Player[] players;
   private int hand;
+  private boolean pondering;
+  private boolean deferredMachineMoves;
 
   /**
    * Private constructor.
+   *
+   * @param board The board of the game.
+   * @param playerFactory The factory building the players of the game.
    */
-  private Model() {}
+  private Model(final Board board, final PlayerFactory playerFactory) {
+    this.board = board;
+    this.playerFactory = playerFactory;
+  }
 
   /**
    * Returns the static instance of this class which exercises the singleton pattern.
@@ -34,6 +43,29 @@ public class Model {
     return MODEL;
   }
 
+  /**
+   * Returns a new instance of this class playing on the board, independent of the static instance,
+   * for hosting several games in one process.
+   *
+   * @param board The board of the game, which the game clears when it starts.
+   * @return A new instance of this class.
+   */
+  public static Model newInstance(final Board board) {
+    return newInstance(board, new PlayerFactory());
+  }
+
+  /**
+   * Returns a new instance of this class playing on the board with the players built by the
+   * factory, independent of the static instance, for hosting several games in one process.
+   *
+   * @param board The board of the game, which the game clears when it starts.
+   * @param playerFactory The factory building the players of the game, which may be shared.
+   * @return A new instance of this class.
+   */
+  public static Model newInstance(final Board board, final PlayerFactory playerFactory) {
+    return new Model(Objects.requireNonNull(board), Objects.requireNonNull(playerFactory));
+  }
+
   /**
    * Adds a listener to notify.
    *
@@ -44,15 +76,74 @@ public class Model {
   }
 
   /**
-   * Creates two players of MACHINE type or HUMAN type given the desired game mode and resets the
-   * starter.
+   * Gets the geometry of the board of the game.
+   *
+   * @return The geometry of the board.
+   */
+  public Geometry getGeometry() {
+    return board.getGeometry();
+  }
+
+  /**
+   * Sets whether a machine player thinks on the opponent's time in MANMACHINE mode, from its move
+   * until the human's move arrives. Defaults to false.
+   *
+   * @param p The input pondering status.
+   */
+  public void setPondering(final boolean p) {
+    pondering = p;
+    if (!pondering) {
+      stopPondering();
+    }
+  }
+
+  /**
+   * Sets whether the moves of a machine player are left to the caller instead of made at once after
+   * the previous move, e.g. to search them on another thread. When set, the caller checks
+   * isMachineTurn() after starting the game or making a move, asks getMachineMoveAdvice(), which
+   * only reads the board, and plays the advice with makeMove. Defaults to false.
+   *
+   * @param d The input deferred machine moves status.
+   */
+  public void setDeferredMachineMoves(final boolean d) {
+    deferredMachineMoves = d;
+  }
+
+  /**
+   * Returns whether the game is in progress with a machine player to do the next turn.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean isMachineTurn() {
+    return players != null && !board.isWon() && !board.isFull()
+        && !PlayerType.HUMAN.equals(players[hand].getPlayerType());
+  }
+
+  /**
+   * Gets the advice of the machine player to do the next turn without making the move. No move may
+   * be made while the advice is searched.
+   *
+   * @return The column advised.
+   */
+  public int getMachineMoveAdvice() {
+    return players[hand].getMoveColumnAdvice();
+  }
+
+  /**
+   * Creates two players of SEARCH type or HUMAN type given the desired game mode and resets the
+   * starter. The SEARCH player thinks at most SEARCH_TIME_BUDGET_MILLIS per move. As the searches
+   * are written for the standard geometry, a board of another geometry gets a MACHINE player
+   * instead. The players of the previous mode are closed.
    *
    * @param mode The desired game mode.
    */
   public void setMode(final Mode mode) {
+    close();
     if (mode.equals(Mode.MANMACHINE)) {
+      final PlayerType machineType =
+          board.getGeometry().isStandard() ? PlayerType.SEARCH : PlayerType.MACHINE;
       players = new Player[] {
-          playerFactory.getPlayer(PlayerType.MACHINE, ConnectFourSetting.PLAYER_ONE_NAME,
+          playerFactory.getPlayer(machineType, ConnectFourSetting.PLAYER_ONE_NAME,
               ConnectFourSetting.PLAYER_ONE_COLOR, board),
           playerFactory.getPlayer(PlayerType.HUMAN, ConnectFourSetting.PLAYER_TWO_NAME,
               ConnectFourSetting.PLAYER_TWO_COLOR, board)};
@@ -67,28 +158,65 @@ public class Model {
   }
 
   /**
-   * Starts the game. If the player for the first turn is machine, automatically make the first
-   * move.
+   * Closes the players of the current mode, stopping their thinking and releasing their threads
+   * and tables. A new mode must be set before the next game.
+   */
+  @Override
+  public void close() {
+    if (players != null) {
+      for (final Player player : players) {
+        player.close();
+      }
+    }
+  }
+
+  /**
+   * Starts the game. If the player for the first turn is not human, automatically make the first
+   * move, unless machine moves are deferred.
    */
   public void startGame() {
+    stopPondering();
     board.clear();
     fireGameStartedEvent(players[hand].getName());
-    if (PlayerType.MACHINE.equals(players[hand].getPlayerType())) {
-      makeSingleMove(players[hand].getMoveColumnAdvice());
+    if (!deferredMachineMoves && !PlayerType.HUMAN.equals(players[hand].getPlayerType())) {
+      makeMachineMove();
     }
   }
 
   /**
    * Makes a move according to the input column. If this move doesn't result in the end of the game
-   * and the next player is a MACHINE player, then automatically make the next move.
+   * and the next player is not a HUMAN player, then automatically make the next move, unless
+   * machine moves are deferred.
    *
    * @param column The column to make move.
    */
   public void makeMove(final int column) {
     makeSingleMove(column);
-    if (!board.isWon() && !board.isFull()
-        && PlayerType.MACHINE.equals(players[hand].getPlayerType())) {
-      makeSingleMove(players[hand].getMoveColumnAdvice());
+    if (!deferredMachineMoves && isMachineTurn()) {
+      makeMachineMove();
+    }
+  }
+
+  /**
+   * Makes the move advised by the machine player of the turn and, if pondering and the game goes
+   * on with the opponent to move, lets the machine player think on the opponent's time.
+   */
+  private void makeMachineMove() {
+    final Player player = players[hand];
+    makeSingleMove(player.getMoveColumnAdvice());
+    if (pondering && !board.isWon() && !board.isFull() && players[hand] != player) {
+      player.startPondering();
+    }
+  }
+
+  /**
+   * Stops the players thinking on the opponent's time.
+   */
+  private void stopPondering() {
+    if (players != null) {
+      for (final Player player : players) {
+        player.stopPondering();
+      }
     }
   }
 
@@ -102,9 +230,11 @@ public class Model {
     final Move move = board.drop(players[hand].getName(), players[hand].getColor(), column);
     if (move != null) {
       if (board.isWon()) {
+        stopPondering();
         fireGameWonEvent(move);
       } else {
         if (board.isFull()) {
+          stopPondering();
           fireGameTiedEvent(move);
         } else {
           hand = (hand + 1) % 2;
@@ -0,0 +1,146 @@
+package edu.nyu.pqs.ps4.model;
+
+/**
+ * This class is the engine of the geometries whose bitboard takes more than one long. Each
+ * player's chips are kept in a bitset of longs with the layout of {@link BitBoard}, a column taking
+ * ROW_NUMBER + 1 bits with an empty sentinel bit on top. As shifting a whole bitset costs a pass
+ * over every word, a drop only counts the chips in a row on the four lines through the new chip,
+ * stepping by the bit distance of the direction until a cell of another player, the empty sentinel
+ * or the end of the bitset stops the run.
+ */
+class MultiWordBitBoard implements BoardEngine {
+  private final int columnNumber;
+  private final int rowNumber;
+  private final int columnHeight;
+  private final int bitNumber;
+  private final int consecutiveCount;
+  private final long[][] masks;
+  private final int[] heights;
+  private final int[] history;
+  private int moveCount;
+  private boolean won;
+
+  /**
+   * Constructor of an empty board.
+   *
+   * @param geometry The geometry of the board, of any size.
+   */
+  MultiWordBitBoard(final Geometry geometry) {
+    columnNumber = geometry.getColumnNumber();
+    rowNumber = geometry.getRowNumber();
+    columnHeight = rowNumber + 1;
+    bitNumber = geometry.getBitNumber();
+    consecutiveCount = geometry.getConsecutiveCount();
+    masks = new long[2][(bitNumber + Long.SIZE - 1) / Long.SIZE];
+    heights = new int[columnNumber];
+    history = new int[geometry.getCellNumber()];
+  }
+
+  /**
+   * Drops a chip of the player to the board and checks the lines through it for a win. Fails if
+   * the column is out of range or full, or the game is already won.
+   *
+   * @param column The column to drop the chip.
+   * @param player The index of the player, 0 or 1.
+   * @return The row where the chip lands, -1 if fails to drop.
+   */
+  @Override
+  public int drop(final int column, final int player) {
+    if (won || column < 0 || column >= columnNumber || heights[column] == rowNumber) {
+      return -1;
+    }
+    final int row = heights[column]++;
+    final int bit = column * columnHeight + row;
+    final long[] mask = masks[player];
+    mask[bit >>> 6] |= 1L << bit;
+    history[moveCount++] = column << 1 | player;
+    won = countRun(mask, bit, 1) >= consecutiveCount
+        || countRun(mask, bit, columnHeight) >= consecutiveCount
+        || countRun(mask, bit, columnHeight - 1) >= consecutiveCount
+        || countRun(mask, bit, columnHeight + 1) >= consecutiveCount;
+    return row;
+  }
+
+  /**
+   * Cancels the last move made. As no chip can be dropped after a win, the game is never won after
+   * cancelling a move.
+   */
+  @Override
+  public void cancelLastMove() {
+    if (moveCount > 0) {
+      final int move = history[--moveCount];
+      final int column = move >>> 1;
+      final int bit = column * columnHeight + --heights[column];
+      masks[move & 1][bit >>> 6] &= ~(1L << bit);
+      won = false;
+    }
+  }
+
+  /**
+   * Checks whether the player who made the last move win the game. The status is computed once when
+   * the move is dropped.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Override
+  public boolean isWon() {
+    return won;
+  }
+
+  /**
+   * Checks whether the board is full or not.
+   *
+   * @return A boolean indicating the status.
+   */
+  @Override
+  public boolean isFull() {
+    return moveCount == history.length;
+  }
+
+  /**
+   * Clears the board and history.
+   */
+  @Override
+  public void clear() {
+    for (final long[] mask : masks) {
+      for (int i = 0; i < mask.length; i++) {
+        mask[i] = 0L;
+      }
+    }
+    for (int i = 0; i < heights.length; i++) {
+      heights[i] = 0;
+    }
+    moveCount = 0;
+    won = false;
+  }
+
+  /**
+   * Returns the number of the player's chips in a row through the bit in the direction, both ways.
+   *
+   * @param mask The chip bitset of the player, which has the bit set.
+   * @param bit The bit index of the cell.
+   * @param direction The bit distance between two neighboring cells in the direction.
+   * @return The number of chips in a row, at least 1.
+   */
+  private int countRun(final long[] mask, final int bit, final int direction) {
+    int count = 1;
+    for (int i = bit + direction; i < bitNumber && isSet(mask, i); i += direction) {
+      count++;
+    }
+    for (int i = bit - direction; i >= 0 && isSet(mask, i); i -= direction) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Checks whether the bit of the bitset is set.
+   *
+   * @param mask The bitset.
+   * @param bit The bit index.
+   * @return A boolean indicating the status.
+   */
+  private static boolean isSet(final long[] mask, final int bit) {
+    return (mask[bit >>> 6] & 1L << bit) != 0;
+  }
+}
@@ -0,0 +1,46 @@
+package edu.nyu.pqs.ps4.model;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import java.util.Random;
+
+/**
+ * This class holds the random numbers of Zobrist hashing. The key of a position is the XOR of the
+ * numbers of its chips, each chip having a number per player and cell, so that it can be updated
+ * with one XOR when a chip is dropped or cancelled. The numbers come from a fixed seed so that keys
+ * are the same across runs.
+ */
+public class Zobrist {
+  /**
+   * Number XORed into a key when the second player is to move.
+   */
+  public static final long SIDE;
+  private static final long SEED = 0x5eedc0ffeeL;
+  private static final long[][] CHIPS =
+      new long[2][ConnectFourSetting.COLUMN_NUMBER * BitBoard.COLUMN_HEIGHT];
+
+  static {
+    final Random random = new Random(SEED);
+    for (int i = 0; i < CHIPS.length; i++) {
+      for (int j = 0; j < CHIPS[i].length; j++) {
+        CHIPS[i][j] = random.nextLong();
+      }
+    }
+    SIDE = random.nextLong();
+  }
+
+  /**
+   * Private constructor.
+   */
+  private Zobrist() {}
+
+  /**
+   * Returns the number of a chip of the player at the bit of the bitboard.
+   *
+   * @param player The index of the player, 0 or 1.
+   * @param bit The bit index of the cell in the bitboard.
+   * @return The number of the chip.
+   */
+  public static long getChip(final int player, final int bit) {
+    return CHIPS[player][bit];
+  }
+}
@@ -0,0 +1,132 @@
+package edu.nyu.pqs.ps4.model.book;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.Outcome;
+import edu.nyu.pqs.ps4.model.search.Solution;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class looks up solved positions in an opening book file written by
+ * {@link OpeningBookGenerator}. The file is memory-mapped rather than read, so opening a book costs
+ * no heap whatever its size, and a lookup is a binary search over the mapped records. Lookups only
+ * read the buffer at absolute offsets, so a book can be shared by threads.
+ *
+ * <p>The file starts with a header of MAGIC and the number of records as two ints, followed by the
+ * records sorted by key. A record is RECORD_BYTES long: the canonical Zobrist key of the position
+ * as a long, then the ordinal of the outcome for the player to move, the number of plies to the end
+ * and the best column as one byte each. A position and its mirror share one record, whose column
+ * is of the mirrored board if the canonical key is the mirrored one, see
+ * {@link BitBoard#getCanonicalKey()}.
+ */
+public class OpeningBook implements Closeable {
+  /**
+   * Magic number at the start of an opening book file. Books keyed by the plain Zobrist key, which
+   * started with 0x43344f42, are rejected.
+   */
+  public static final int MAGIC = 0x43344f53;
+  /**
+   * Number of bytes of the header.
+   */
+  public static final int HEADER_BYTES = 2 * Integer.BYTES;
+  /**
+   * Number of bytes of a record.
+   */
+  public static final int RECORD_BYTES = Long.BYTES + 3;
+  private static final Outcome[] OUTCOMES = Outcome.values();
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private final int recordNumber;
+
+  /**
+   * Private constructor.
+   *
+   * @param channel The channel of the file.
+   * @param buffer The buffer mapping the file.
+   * @param recordNumber The number of records.
+   */
+  private OpeningBook(final FileChannel channel, final ByteBuffer buffer,
+      final int recordNumber) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.recordNumber = recordNumber;
+  }
+
+  /**
+   * Opens an opening book file by mapping it into memory.
+   *
+   * @param path The path of the file.
+   * @return The opening book.
+   * @throws IOException If the file can't be read or isn't an opening book.
+   */
+  public static OpeningBook open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      final long size = channel.size();
+      if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+        throw new IOException("invalid opening book size: " + size);
+      }
+      final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      final int recordNumber = buffer.getInt(Integer.BYTES);
+      if (buffer.getInt(0) != MAGIC || recordNumber < 0
+          || HEADER_BYTES + (long) recordNumber * RECORD_BYTES != size) {
+        throw new IOException("invalid opening book: " + path);
+      }
+      return new OpeningBook(channel, buffer, recordNumber);
+    } catch (final IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the number of positions in the book.
+   *
+   * @return The number of positions.
+   */
+  public int getRecordNumber() {
+    return recordNumber;
+  }
+
+  /**
+   * Looks up the solution of the position for the player to move, the player who moves first being
+   * to move after an even number of moves. The position or its mirror may be in the book, the
+   * column being mirrored back in the latter case.
+   *
+   * @param position The position to look up.
+   * @return The solution, whose nodes and time are 0, or null if the position isn't in the book.
+   */
+  public Solution lookup(final BitBoard position) {
+    final long key = position.getCanonicalKey();
+    int low = 0;
+    int high = recordNumber - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int offset = HEADER_BYTES + middle * RECORD_BYTES;
+      final int comparison = Long.compare(buffer.getLong(offset), key);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return new Solution.Builder().outcome(OUTCOMES[buffer.get(offset + Long.BYTES)])
+            .pliesToEnd(buffer.get(offset + Long.BYTES + 1))
+            .column(position.isMirrored() ? BitBoard.mirror(buffer.get(offset + Long.BYTES + 2))
+                : buffer.get(offset + Long.BYTES + 2)).build();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Closes the file. The mapping itself is released when the book is garbage collected.
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
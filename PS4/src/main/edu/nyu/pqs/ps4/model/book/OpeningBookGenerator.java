@@ -0,0 +1,90 @@
+package edu.nyu.pqs.ps4.model.book;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.Solution;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class generates an opening book by solving every position reachable from a root position
+ * within a number of plies, and writes it in the format read by {@link OpeningBook}. Positions
+ * reached through different move orders are solved once, and so are mirrored positions, which
+ * roughly halves the book. Children are solved before their parent
+ * so that the transposition table of the solver already holds most of the bounds the parent needs.
+ */
+public class OpeningBookGenerator {
+  private final Solver solver;
+  private final Map<Long, Solution> solutions = new TreeMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param solver The solver to solve the positions with.
+   */
+  public OpeningBookGenerator(final Solver solver) {
+    this.solver = solver;
+  }
+
+  /**
+   * Solves the positions within the plies from the root, the player who moves first being to move
+   * after an even number of moves, and writes the book to the path.
+   *
+   * @param root The root position, which is restored afterwards.
+   * @param plies The number of plies from the root to include, at least 0.
+   * @param path The path of the file to write.
+   * @return The number of positions written.
+   * @throws IOException If the file can't be written.
+   */
+  public int generate(final BitBoard root, final int plies, final Path path) throws IOException {
+    solutions.clear();
+    if (!root.isWon() && !root.isFull()) {
+      visit(root, plies);
+    }
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      output.writeInt(OpeningBook.MAGIC);
+      output.writeInt(solutions.size());
+      for (final Map.Entry<Long, Solution> entry : solutions.entrySet()) {
+        output.writeLong(entry.getKey());
+        output.writeByte(entry.getValue().getOutcome().ordinal());
+        output.writeByte(entry.getValue().getPliesToEnd());
+        output.writeByte(entry.getValue().getColumn());
+      }
+    }
+    return solutions.size();
+  }
+
+  /**
+   * Solves the position and the positions within the plies below it not solved yet.
+   *
+   * @param position The position, where the game isn't over.
+   * @param plies The number of plies below the position to include.
+   */
+  private void visit(final BitBoard position, final int plies) {
+    if (solutions.containsKey(position.getCanonicalKey())) {
+      return;
+    }
+    final int player = position.getMoveCount() % 2;
+    for (int column = 0; plies > 0 && column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      if (position.drop(column, player) >= 0) {
+        if (!position.isWon() && !position.isFull()) {
+          visit(position, plies - 1);
+        }
+        position.cancelLastMove();
+      }
+    }
+    final Solution solution = solver.solve(position, player);
+    solutions.put(position.getCanonicalKey(), position.isMirrored()
+        ? new Solution.Builder().outcome(solution.getOutcome())
+            .pliesToEnd(solution.getPliesToEnd()).column(BitBoard.mirror(solution.getColumn()))
+            .nodes(solution.getNodes()).elapsedNanos(solution.getElapsedNanos()).build()
+        : solution);
+  }
+}
@@ -0,0 +1,429 @@
+package edu.nyu.pqs.ps4.model.dispatch;
+
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class is a listener that notifies another listener asynchronously, so a slow listener
+ * doesn't stall the thread making the moves. Events are put on a bounded ring buffer of
+ * preallocated slots, and a dedicated daemon thread takes them in batches and notifies the
+ * delegate in order. When the buffer is full, the overflow policy drops the event, blocks the
+ * notifying thread or coalesces the event with the newest pending one. Add it to a model like any
+ * other listener, and close it to stop the thread after the pending events are delivered.
+ *
+ * <p>A delegate throwing on an event, even an error, doesn't stop the delivery of the next events.
+ * Should the thread die anyway, the listener is closed, so that notifying threads blocked on a full
+ * buffer go on and later events are dropped.
+ *
+ * <p>The listener reports its lag: the number of pending events, the events delivered, dropped and
+ * coalesced, and the time from the notification of the last delivered event to its delivery.
+ */
+public class AsyncListener implements Listener, AutoCloseable {
+  private static final byte GAME_STARTED = 0;
+  private static final byte GAME_CONTINUE = 1;
+  private static final byte INVALID_MOVE_MADE = 2;
+  private static final byte GAME_TIED = 3;
+  private static final byte GAME_WON = 4;
+  private final Listener delegate;
+  private final OverflowPolicy overflowPolicy;
+  private final int batchSize;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final byte[] types;
+  private final Move[] moves;
+  private final String[] names;
+  private final long[] times;
+  private final byte[] batchTypes;
+  private final Move[] batchMoves;
+  private final String[] batchNames;
+  private final long[] batchTimes;
+  private final Thread thread;
+  private int head;
+  private int count;
+  private boolean closed;
+  private volatile long deliveredEvents;
+  private volatile long droppedEvents;
+  private volatile long coalescedEvents;
+  private volatile long failedEvents;
+  private volatile long lastLagNanos;
+  private volatile long maxLagNanos;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private Listener delegate;
+    private int capacity = 1024;
+    private int batchSize = 64;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the listener to notify when building an instance.
+     *
+     * @param d The input listener.
+     * @return The altered builder class.
+     */
+    public Builder delegate(final Listener d) {
+      delegate = d;
+      return this;
+    }
+
+    /**
+     * Sets the number of events the buffer holds when building an instance. Defaults to 1024.
+     *
+     * @param c The input capacity.
+     * @return The altered builder class.
+     */
+    public Builder capacity(final int c) {
+      capacity = c;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of events taken from the buffer at once when building an instance.
+     * Defaults to 64.
+     *
+     * @param b The input batch size.
+     * @return The altered builder class.
+     */
+    public Builder batchSize(final int b) {
+      batchSize = b;
+      return this;
+    }
+
+    /**
+     * Sets what to do with an event when the buffer is full when building an instance. Defaults
+     * to BLOCK.
+     *
+     * @param o The input overflow policy.
+     * @return The altered builder class.
+     */
+    public Builder overflowPolicy(final OverflowPolicy o) {
+      overflowPolicy = o;
+      return this;
+    }
+
+    /**
+     * Builds the asynchronous listener instance and starts its thread. Require delegate and
+     * overflow policy to be non-null values, and capacity and batch size to be positive.
+     *
+     * @return The built asynchronous listener instance.
+     */
+    public AsyncListener build() {
+      Objects.requireNonNull(delegate);
+      Objects.requireNonNull(overflowPolicy);
+      if (capacity < 1) {
+        throw new IllegalArgumentException("capacity must be positive");
+      }
+      if (batchSize < 1) {
+        throw new IllegalArgumentException("batch size must be positive");
+      }
+      final AsyncListener listener = new AsyncListener(this);
+      listener.thread.start();
+      return listener;
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private AsyncListener(final Builder builder) {
+    delegate = builder.delegate;
+    overflowPolicy = builder.overflowPolicy;
+    batchSize = Math.min(builder.batchSize, builder.capacity);
+    types = new byte[builder.capacity];
+    moves = new Move[builder.capacity];
+    names = new String[builder.capacity];
+    times = new long[builder.capacity];
+    batchTypes = new byte[batchSize];
+    batchMoves = new Move[batchSize];
+    batchNames = new String[batchSize];
+    batchTimes = new long[batchSize];
+    thread = new Thread(this::dispatch, "listener-dispatch");
+    thread.setDaemon(true);
+  }
+
+  /**
+   * Queues the notification that the game has started.
+   *
+   * @param nextPlayerName The name of the player to do the next turn.
+   */
+  @Override
+  public void gameStarted(final String nextPlayerName) {
+    publish(GAME_STARTED, null, nextPlayerName);
+  }
+
+  /**
+   * Queues the notification that a move was made and the game continues.
+   *
+   * @param move The last move made.
+   * @param nextPlayerName The name of the player to do the next turn.
+   */
+  @Override
+  public void gameContinue(final Move move, final String nextPlayerName) {
+    publish(GAME_CONTINUE, move, nextPlayerName);
+  }
+
+  /**
+   * Queues the notification that an invalid move was made.
+   *
+   * @param nextPlayerName The name of the player to do the next turn.
+   */
+  @Override
+  public void invalidMoveMade(final String nextPlayerName) {
+    publish(INVALID_MOVE_MADE, null, nextPlayerName);
+  }
+
+  /**
+   * Queues the notification that a move was made and the game tied.
+   *
+   * @param move The last move made.
+   */
+  @Override
+  public void gameTied(final Move move) {
+    publish(GAME_TIED, move, null);
+  }
+
+  /**
+   * Queues the notification that a move was made and one player won.
+   *
+   * @param move The last move made.
+   */
+  @Override
+  public void gameWon(final Move move) {
+    publish(GAME_WON, move, null);
+  }
+
+  /**
+   * Stops accepting events, waits for the pending events to be delivered and stops the thread.
+   * Events notified afterwards are dropped.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    if (Thread.currentThread() != thread) {
+      try {
+        thread.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of events waiting in the buffer.
+   *
+   * @return The number of pending events.
+   */
+  public int getPendingEvents() {
+    lock.lock();
+    try {
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of events delivered to the delegate, including those it threw on.
+   *
+   * @return The number of delivered events.
+   */
+  public long getDeliveredEvents() {
+    return deliveredEvents;
+  }
+
+  /**
+   * Returns the number of events dropped because the buffer was full or the listener was closed.
+   *
+   * @return The number of dropped events.
+   */
+  public long getDroppedEvents() {
+    return droppedEvents;
+  }
+
+  /**
+   * Returns the number of pending events replaced by a newer event because the buffer was full.
+   *
+   * @return The number of coalesced events.
+   */
+  public long getCoalescedEvents() {
+    return coalescedEvents;
+  }
+
+  /**
+   * Returns the number of delivered events on which the delegate threw, even an error, which
+   * doesn't stop the delivery of the next events.
+   *
+   * @return The number of failed events.
+   */
+  public long getFailedEvents() {
+    return failedEvents;
+  }
+
+  /**
+   * Returns the time from the notification of the last delivered event to its delivery.
+   *
+   * @return The lag in nanoseconds, 0 if no event was delivered.
+   */
+  public long getLastLagNanos() {
+    return lastLagNanos;
+  }
+
+  /**
+   * Returns the longest time from the notification of an event to its delivery.
+   *
+   * @return The lag in nanoseconds, 0 if no event was delivered.
+   */
+  public long getMaxLagNanos() {
+    return maxLagNanos;
+  }
+
+  /**
+   * Puts an event on the buffer, applying the overflow policy if it is full.
+   *
+   * @param type The type of the event.
+   * @param move The move of the event, null if none.
+   * @param name The next player name of the event, null if none.
+   */
+  private void publish(final byte type, final Move move, final String name) {
+    final long now = System.nanoTime();
+    lock.lock();
+    try {
+      if (overflowPolicy == OverflowPolicy.BLOCK) {
+        while (count == types.length && !closed) {
+          notFull.awaitUninterruptibly();
+        }
+      }
+      final int slot;
+      if (closed || count == types.length && overflowPolicy == OverflowPolicy.DROP) {
+        droppedEvents++;
+        return;
+      } else if (count == types.length) {
+        slot = (head + count - 1) % types.length;
+        coalescedEvents++;
+      } else {
+        slot = (head + count++) % types.length;
+      }
+      types[slot] = type;
+      moves[slot] = move;
+      names[slot] = name;
+      times[slot] = now;
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Takes the events from the buffer in batches and delivers them until the listener is closed and
+   * the buffer is empty.
+   */
+  private void dispatch() {
+    try {
+      while (true) {
+        final int taken = take();
+        if (taken == 0) {
+          return;
+        }
+        for (int i = 0; i < taken; i++) {
+          try {
+            deliver(batchTypes[i], batchMoves[i], batchNames[i]);
+          } catch (final Throwable e) {
+            failedEvents++;
+          }
+          final long lag = System.nanoTime() - batchTimes[i];
+          lastLagNanos = lag;
+          if (lag > maxLagNanos) {
+            maxLagNanos = lag;
+          }
+          deliveredEvents++;
+          batchMoves[i] = null;
+          batchNames[i] = null;
+        }
+      }
+    } finally {
+      lock.lock();
+      try {
+        closed = true;
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Waits for events and moves up to a batch of them from the buffer to the batch arrays.
+   *
+   * @return The number of events taken, 0 if the listener is closed and the buffer is empty.
+   */
+  private int take() {
+    lock.lock();
+    try {
+      while (count == 0 && !closed) {
+        notEmpty.awaitUninterruptibly();
+      }
+      final int taken = Math.min(count, batchSize);
+      for (int i = 0; i < taken; i++) {
+        batchTypes[i] = types[head];
+        batchMoves[i] = moves[head];
+        batchNames[i] = names[head];
+        batchTimes[i] = times[head];
+        moves[head] = null;
+        names[head] = null;
+        head = (head + 1) % types.length;
+      }
+      count -= taken;
+      notFull.signalAll();
+      return taken;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Notifies the delegate of an event.
+   *
+   * @param type The type of the event.
+   * @param move The move of the event, null if none.
+   * @param name The next player name of the event, null if none.
+   */
+  private void deliver(final byte type, final Move move, final String name) {
+    switch (type) {
+      case GAME_STARTED:
+        delegate.gameStarted(name);
+        break;
+      case GAME_CONTINUE:
+        delegate.gameContinue(move, name);
+        break;
+      case INVALID_MOVE_MADE:
+        delegate.invalidMoveMade(name);
+        break;
+      case GAME_TIED:
+        delegate.gameTied(move);
+        break;
+      default:
+        delegate.gameWon(move);
+        break;
+    }
+  }
+}
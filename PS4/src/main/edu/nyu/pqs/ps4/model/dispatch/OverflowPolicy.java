@@ -0,0 +1,20 @@
+package edu.nyu.pqs.ps4.model.dispatch;
+
+/**
+ * This enum lists what an {@link AsyncListener} does with an event when its buffer is full.
+ */
+public enum OverflowPolicy {
+  /**
+   * Drops the new event.
+   */
+  DROP,
+  /**
+   * Blocks the notifying thread until the listener makes room.
+   */
+  BLOCK,
+  /**
+   * Replaces the newest pending event with the new one, so the listener still gets the latest
+   * state of the game.
+   */
+  COALESCE
+}
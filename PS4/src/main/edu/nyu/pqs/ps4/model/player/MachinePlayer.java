@@ -1,11 +1,8 @@
 package edu.nyu.pqs.ps4.model.player;
 
-import edu.nyu.pqs.ps4.ConnectFourSetting;
 import edu.nyu.pqs.ps4.model.Board;
 import edu.nyu.pqs.ps4.model.Move;
 import java.awt.Color;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 
@@ -18,6 +15,8 @@ public class MachinePlayer implements Player {
   private final String name;
   private final Color color;
   private final Board board;
+  private final Random random = new Random();
+  private int[] possibleColumns = new int[0];
 
   /**
    * Builder class.
@@ -120,14 +119,20 @@ public class MachinePlayer implements Player {
   }
 
   /**
-   * Gets the advice of the move to a win, otherwise a random column that is not full.
+   * Gets the advice of the move to a win, otherwise a random column that is not full. The columns
+   * are tried on the board, whose moves are cached, and kept in a reused array, so that an advice
+   * doesn't allocate.
    *
    * @return The column to make the next move.
    */
   @Override
   public int getMoveColumnAdvice() {
-    final List<Integer> possibleColumns = new ArrayList<>();
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+    final int columnNumber = board.getGeometry().getColumnNumber();
+    if (possibleColumns.length < columnNumber) {
+      possibleColumns = new int[columnNumber];
+    }
+    int possibleColumnNumber = 0;
+    for (int i = 0; i < columnNumber; i++) {
       final Move move = board.drop(name, color, i);
       if (move != null) {
         final boolean isWon = board.isWon();
@@ -135,13 +140,11 @@ public class MachinePlayer implements Player {
         if (isWon) {
           return move.getColumn();
         } else {
-          possibleColumns.add(move.getColumn());
+          possibleColumns[possibleColumnNumber++] = move.getColumn();
         }
       }
     }
-    return possibleColumns.size() > 0
-        ? possibleColumns.get(new Random().nextInt(possibleColumns.size()))
-        : -1;
+    return possibleColumnNumber > 0 ? possibleColumns[random.nextInt(possibleColumnNumber)] : -1;
   }
 
   /**
@@ -0,0 +1,280 @@
+package edu.nyu.pqs.ps4.model.player;
+
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.search.ParallelMonteCarloTreeSearch;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import java.awt.Color;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class is an implementation of player as a machine player that searches a copy of the board
+ * with Monte Carlo tree search to make decisions about moves. The search stops at an iteration
+ * budget or a time budget, whichever comes first. If configured, the tree is kept between the
+ * consecutive moves of a game, and independent trees are searched by several threads and merged at
+ * the root. The helper threads are shut down when the player is closed.
+ */
+public class MctsPlayer implements Player {
+  private static final PlayerType PLAYER_TYPE = PlayerType.MCTS;
+  private final String name;
+  private final Color color;
+  private final Board board;
+  private final long iterationBudget;
+  private final long timeBudgetMillis;
+  private final ExecutorService executor;
+  private final ParallelMonteCarloTreeSearch search;
+  private SearchResult lastSearchResult;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private String name;
+    private Color color;
+    private Board board;
+    private long iterationBudget;
+    private long timeBudgetMillis;
+    private int nodeCapacity = 1 << 16;
+    private boolean treeReuse;
+    private long seed = System.nanoTime();
+    private int threads = 1;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets name when building an instance.
+     *
+     * @param n The input name.
+     * @return The altered builder class.
+     */
+    public Builder name(final String n) {
+      name = n;
+      return this;
+    }
+
+    /**
+     * Sets color when building an instance.
+     *
+     * @param c The input color.
+     * @return The altered builder class.
+     */
+    public Builder color(final Color c) {
+      color = c;
+      return this;
+    }
+
+    /**
+     * Sets board when building an instance.
+     *
+     * @param b The input board.
+     * @return The altered builder class.
+     */
+    public Builder board(final Board b) {
+      board = b;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of iterations per move when building an instance. Defaults to 0,
+     * which means no limit.
+     *
+     * @param i The input iteration budget.
+     * @return The altered builder class.
+     */
+    public Builder iterationBudget(final long i) {
+      iterationBudget = i;
+      return this;
+    }
+
+    /**
+     * Sets the time budget per move in milliseconds when building an instance. Defaults to 0,
+     * which means no limit.
+     *
+     * @param t The input time budget.
+     * @return The altered builder class.
+     */
+    public Builder timeBudgetMillis(final long t) {
+      timeBudgetMillis = t;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of nodes of the tree when building an instance. Defaults to 65536.
+     *
+     * @param n The input number of nodes.
+     * @return The altered builder class.
+     */
+    public Builder nodeCapacity(final int n) {
+      nodeCapacity = n;
+      return this;
+    }
+
+    /**
+     * Sets whether to keep the tree between consecutive moves when building an instance. Defaults
+     * to false.
+     *
+     * @param t The input tree reuse status.
+     * @return The altered builder class.
+     */
+    public Builder treeReuse(final boolean t) {
+      treeReuse = t;
+      return this;
+    }
+
+    /**
+     * Sets the seed of the random moves when building an instance. Defaults to the time of
+     * building.
+     *
+     * @param s The input seed.
+     * @return The altered builder class.
+     */
+    public Builder seed(final long s) {
+      seed = s;
+      return this;
+    }
+
+    /**
+     * Sets the number of threads to search with when building an instance, each growing its own
+     * tree with the node capacity. Defaults to 1. With more than one thread the iteration budget is
+     * per thread.
+     *
+     * @param t The input number of threads.
+     * @return The altered builder class.
+     */
+    public Builder threads(final int t) {
+      threads = t;
+      return this;
+    }
+
+    /**
+     * Builds the MCTS player instance. Require name, color and board to be non-null values, at
+     * least one of the budgets to be positive, and the node capacity and threads to be positive.
+     *
+     * @return The built MCTS player instance.
+     */
+    public MctsPlayer build() {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(color);
+      Objects.requireNonNull(board);
+      if (iterationBudget <= 0 && timeBudgetMillis <= 0) {
+        throw new IllegalArgumentException("iteration or time budget must be positive");
+      }
+      if (nodeCapacity < 1) {
+        throw new IllegalArgumentException("node capacity must be positive");
+      }
+      if (threads < 1) {
+        throw new IllegalArgumentException("threads must be positive");
+      }
+      return new MctsPlayer(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private MctsPlayer(final Builder builder) {
+    name = builder.name;
+    color = builder.color;
+    board = builder.board;
+    iterationBudget = builder.iterationBudget;
+    timeBudgetMillis = builder.timeBudgetMillis;
+    executor = builder.threads > 1
+        ? Executors.newFixedThreadPool(builder.threads - 1, r -> {
+          final Thread thread = new Thread(r, "mcts-helper");
+          thread.setDaemon(true);
+          return thread;
+        }) : null;
+    search = new ParallelMonteCarloTreeSearch(executor, builder.threads, builder.nodeCapacity,
+        builder.treeReuse, builder.seed);
+  }
+
+  /**
+   * Gets the name of the player.
+   *
+   * @return The name of the player.
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the color of the player.
+   *
+   * @return The color of the player.
+   */
+  @Override
+  public Color getColor() {
+    return color;
+  }
+
+  /**
+   * Gets the type of the player.
+   *
+   * @return The type of the player.
+   */
+  @Override
+  public PlayerType getPlayerType() {
+    return PLAYER_TYPE;
+  }
+
+  /**
+   * Gets the advice of the move visited the most by the search.
+   *
+   * @return The column to make the next move, -1 if there is no column to drop.
+   */
+  @Override
+  public int getMoveColumnAdvice() {
+    final long deadline =
+        timeBudgetMillis > 0 ? System.nanoTime() + timeBudgetMillis * 1_000_000L : 0L;
+    lastSearchResult = search.search(board.copyBitBoard(), Board.getPlayerIndex(color),
+        iterationBudget, deadline);
+    return lastSearchResult.getColumn();
+  }
+
+  /**
+   * Shuts the helper threads of the search down, so that the player and its trees can be
+   * collected.
+   */
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Returns the result of the last search, whose nodes are the rollouts, null if no search was
+   * made.
+   *
+   * @return The result of the last search.
+   */
+  public SearchResult getLastSearchResult() {
+    return lastSearchResult;
+  }
+
+  /**
+   * Returns the number of rollouts per second of the last search, 0 if no search was made.
+   *
+   * @return The number of rollouts per second.
+   */
+  public double getRolloutsPerSecond() {
+    return lastSearchResult != null ? lastSearchResult.getNodesPerSecond() : 0;
+  }
+
+  /**
+   * Returns the string representation of the player instance. The string follows the format:
+   * "{name: N, color: C, type: MCTS}" where N is the name and C is the color.
+   */
+  @Override
+  public String toString() {
+    return String.format("{name: %s, color: %s, type: %s}", name, color.toString(),
+        PLAYER_TYPE.name());
+  }
+}
@@ -3,9 +3,10 @@ package edu.nyu.pqs.ps4.model.player;
 import java.awt.Color;
 
 /**
- * This is the interface of player which includes all functions that a player should have.
+ * This is the interface of player which includes all functions that a player should have. A player
+ * holding threads or large tables releases them when closed.
  */
-public interface Player {
+public interface Player extends AutoCloseable {
   /**
    * Gets the name of the player.
    *
@@ -33,4 +34,23 @@ public interface Player {
    * @return The column to make the next move.
    */
   int getMoveColumnAdvice();
+
+  /**
+   * Starts thinking on the opponent's time, once the last advice of the player has been played and
+   * the opponent is to move. Does nothing by default.
+   */
+  default void startPondering() {}
+
+  /**
+   * Stops thinking on the opponent's time and waits for the thinking to end. Does nothing by
+   * default.
+   */
+  default void stopPondering() {}
+
+  /**
+   * Stops thinking and releases the threads and tables of the player, which must not be used
+   * afterwards. Does nothing by default.
+   */
+  @Override
+  default void close() {}
 }
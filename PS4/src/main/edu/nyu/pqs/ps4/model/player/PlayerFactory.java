@@ -1,14 +1,141 @@
 package edu.nyu.pqs.ps4.model.player;
 
+import edu.nyu.pqs.ps4.ConnectFourSetting;
 import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.book.OpeningBook;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
 import java.awt.Color;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
- * This class provide factory method to build instances of human players or machine players.
+ * This class provide factory method to build instances of human players, machine players, search
+ * players or MCTS players. A factory may be shared by several games, which then share its opening
+ * book and, if configured, one transposition table for all search players. Closing the factory
+ * closes the book.
  */
-public class PlayerFactory {
+public class PlayerFactory implements AutoCloseable {
+  private final long timeBudgetMillis;
+  private final Path openingBookPath;
+  private final int mctsThreads;
+  private final TranspositionTable sharedTable;
+  private OpeningBook openingBook;
+  private boolean openingBookOpened;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private long timeBudgetMillis = ConnectFourSetting.SEARCH_TIME_BUDGET_MILLIS;
+    private Path openingBookPath = Paths.get(ConnectFourSetting.OPENING_BOOK_PATH);
+    private boolean sharedTranspositionTable;
+    private int mctsThreads = ConnectFourSetting.MCTS_THREADS;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the time budget per move in milliseconds of the search and MCTS players when building an
+     * instance. Defaults to SEARCH_TIME_BUDGET_MILLIS.
+     *
+     * @param t The input time budget.
+     * @return The altered builder class.
+     */
+    public Builder timeBudgetMillis(final long t) {
+      timeBudgetMillis = t;
+      return this;
+    }
+
+    /**
+     * Sets the path of the opening book of the search players when building an instance. Defaults
+     * to OPENING_BOOK_PATH, and null means no book.
+     *
+     * @param p The input path.
+     * @return The altered builder class.
+     */
+    public Builder openingBookPath(final Path p) {
+      openingBookPath = p;
+      return this;
+    }
+
+    /**
+     * Sets the number of threads each MCTS player searches with when building an instance. Each
+     * thread keeps its own tree of MCTS_NODE_CAPACITY nodes, about 19 MB, so the memory of an MCTS
+     * player grows with its threads. Defaults to MCTS_THREADS, the number of available processors,
+     * which suits one game at a time.
+     *
+     * @param m The input number of threads.
+     * @return The altered builder class.
+     */
+    public Builder mctsThreads(final int m) {
+      mctsThreads = m;
+      return this;
+    }
+
+    /**
+     * Sets whether all search players share one transposition table of TRANSPOSITION_TABLE_BYTES
+     * instead of having one each when building an instance, so that the memory of many games
+     * doesn't grow with the number of search players. Defaults to false.
+     *
+     * @param s The input shared transposition table status.
+     * @return The altered builder class.
+     */
+    public Builder sharedTranspositionTable(final boolean s) {
+      sharedTranspositionTable = s;
+      return this;
+    }
+
+    /**
+     * Builds the player factory instance. Require the time budget and the number of MCTS threads
+     * to be positive.
+     *
+     * @return The built player factory instance.
+     */
+    public PlayerFactory build() {
+      if (timeBudgetMillis < 1) {
+        throw new IllegalArgumentException("time budget must be positive");
+      }
+      if (mctsThreads < 1) {
+        throw new IllegalArgumentException("MCTS threads must be positive");
+      }
+      return new PlayerFactory(this);
+    }
+  }
+
+  /**
+   * Constructor of a factory with the default settings.
+   */
+  public PlayerFactory() {
+    this(new Builder());
+  }
+
   /**
-   * Builds instances of human players or machine players as requested.
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private PlayerFactory(final Builder builder) {
+    timeBudgetMillis = builder.timeBudgetMillis;
+    openingBookPath = builder.openingBookPath;
+    mctsThreads = builder.mctsThreads;
+    sharedTable = builder.sharedTranspositionTable
+        ? new TranspositionTable(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES)
+        : null;
+  }
+
+  /**
+   * Builds instances of human players, machine players, search players or MCTS players as
+   * requested. Search players search up to SEARCH_DEPTH plies within the time budget per move,
+   * with a transposition table of TRANSPOSITION_TABLE_BYTES, their own or the shared one, and play
+   * from the opening book if there is a file at its path, failing with an
+   * {@link UncheckedIOException} if that file isn't a readable book. MCTS players search the time
+   * budget per move in a tree of MCTS_NODE_CAPACITY nodes kept between moves for each of their
+   * threads.
    *
    * @param playerType The type of the player.
    * @param name The name of the player.
@@ -20,8 +147,55 @@ public class PlayerFactory {
       final Board board) {
     if (playerType.equals(PlayerType.HUMAN)) {
       return new HumanPlayer.Builder().name(name).color(color).build();
+    } else if (playerType.equals(PlayerType.SEARCH)) {
+      return new SearchPlayer.Builder().name(name).color(color).board(board)
+          .depth(ConnectFourSetting.SEARCH_DEPTH).timeBudgetMillis(timeBudgetMillis)
+          .transpositionTableBytes(ConnectFourSetting.TRANSPOSITION_TABLE_BYTES)
+          .transpositionTable(sharedTable).openingBook(getOpeningBook()).build();
+    } else if (playerType.equals(PlayerType.MCTS)) {
+      return new MctsPlayer.Builder().name(name).color(color).board(board)
+          .timeBudgetMillis(timeBudgetMillis)
+          .nodeCapacity(ConnectFourSetting.MCTS_NODE_CAPACITY).treeReuse(true)
+          .threads(mctsThreads).build();
     } else {
       return new MachinePlayer.Builder().name(name).color(color).board(board).build();
     }
   }
+
+  /**
+   * Opens the opening book at the path the first time it is asked for, and shares it among the
+   * players built afterwards, whatever threads build them.
+   *
+   * @return The opening book, null if there is no path or no file at the path.
+   * @throws UncheckedIOException If the file at the path can't be read or isn't an opening book.
+   */
+  private synchronized OpeningBook getOpeningBook() {
+    if (!openingBookOpened) {
+      if (openingBookPath != null && Files.exists(openingBookPath)) {
+        try {
+          openingBook = OpeningBook.open(openingBookPath);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      openingBookOpened = true;
+    }
+    return openingBook;
+  }
+
+  /**
+   * Closes the opening book, if it was opened. The players built by the factory must not be used
+   * afterwards.
+   */
+  @Override
+  public synchronized void close() {
+    if (openingBook != null) {
+      try {
+        openingBook.close();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      openingBook = null;
+    }
+  }
 }
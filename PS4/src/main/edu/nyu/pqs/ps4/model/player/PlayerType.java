@@ -4,5 +4,5 @@ package edu.nyu.pqs.ps4.model.player;
  * The class is the player types available.
  */
 public enum PlayerType {
-  HUMAN, MACHINE
+  HUMAN, MACHINE, SEARCH, MCTS
 }
@@ -0,0 +1,522 @@
+package edu.nyu.pqs.ps4.model.player;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.book.OpeningBook;
+import edu.nyu.pqs.ps4.model.search.HeuristicMoveOrdering;
+import edu.nyu.pqs.ps4.model.search.IterativeDeepeningSearch;
+import edu.nyu.pqs.ps4.model.search.LazySmpSearch;
+import edu.nyu.pqs.ps4.model.search.MoveOrdering;
+import edu.nyu.pqs.ps4.model.search.NegamaxSearch;
+import edu.nyu.pqs.ps4.model.search.ParallelSearch;
+import edu.nyu.pqs.ps4.model.search.Search;
+import edu.nyu.pqs.ps4.model.search.SearchResult;
+import edu.nyu.pqs.ps4.model.search.Solution;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class is an implementation of player as a machine player that searches a copy of the board
+ * with depth-limited negamax and alpha-beta pruning to make decisions about moves. If a time budget
+ * is configured, the player searches with iterative deepening up to the depth until the time is up.
+ * If configured, the player keeps a transposition table across its moves, and searches with
+ * several threads either by splitting the root columns or by Lazy SMP. If given an opening book,
+ * the player plays the best column of the book without searching while the position is in it.
+ *
+ * <p>The player can ponder: once its advice has been played, it searches on a background thread
+ * the position after the reply its principal variation predicts. If the opponent plays that reply,
+ * the next advice takes the pondering search over, which has the time budget counted from when it
+ * started, so the answer comes sooner and at least as deep. Otherwise the pondering search is
+ * stopped and the position is searched anew, with the entries pondering left in the table. The
+ * pondering search is single-threaded and orders the columns with a default
+ * {@link HeuristicMoveOrdering}. A pondering search that fails counts as a miss: its cause is kept
+ * for {@link #getLastPonderFailure()} and the position is searched anew.
+ */
+public class SearchPlayer implements Player {
+  private static final PlayerType PLAYER_TYPE = PlayerType.SEARCH;
+  private static final long PONDER_TIME_BUDGET_MILLIS = TimeUnit.DAYS.toMillis(1);
+  private final String name;
+  private final Color color;
+  private final Board board;
+  private final int depth;
+  private final long nodeBudget;
+  private final long timeBudgetMillis;
+  private final TranspositionTable table;
+  private final int threads;
+  private final boolean lazySmp;
+  private final ForkJoinPool pool;
+  private final ExecutorService helperExecutor;
+  private final OpeningBook openingBook;
+  private final MoveOrdering moveOrdering;
+  private MoveOrdering ponderOrdering;
+  private ExecutorService ponderExecutor;
+  private NegamaxSearch ponderSearch;
+  private Future<SearchResult> ponderFuture;
+  private long ponderKey;
+  private int ponderMoveCount;
+  private long ponderStartNanos;
+  private int ponderHitCount;
+  private Throwable lastPonderFailure;
+  private SearchResult lastSearchResult;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private String name;
+    private Color color;
+    private Board board;
+    private int depth = 1;
+    private long nodeBudget;
+    private long timeBudgetMillis;
+    private long transpositionTableBytes;
+    private TranspositionTable transpositionTable;
+    private int threads = 1;
+    private boolean lazySmp;
+    private OpeningBook openingBook;
+    private MoveOrdering moveOrdering;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets name when building an instance.
+     *
+     * @param n The input name.
+     * @return The altered builder class.
+     */
+    public Builder name(final String n) {
+      name = n;
+      return this;
+    }
+
+    /**
+     * Sets color when building an instance.
+     *
+     * @param c The input color.
+     * @return The altered builder class.
+     */
+    public Builder color(final Color c) {
+      color = c;
+      return this;
+    }
+
+    /**
+     * Sets board when building an instance.
+     *
+     * @param b The input board.
+     * @return The altered builder class.
+     */
+    public Builder board(final Board b) {
+      board = b;
+      return this;
+    }
+
+    /**
+     * Sets the number of plies to search when building an instance. Defaults to 1.
+     *
+     * @param d The input depth.
+     * @return The altered builder class.
+     */
+    public Builder depth(final int d) {
+      depth = d;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of nodes to search per move when building an instance. Defaults to 0,
+     * which means no limit.
+     *
+     * @param n The input node budget.
+     * @return The altered builder class.
+     */
+    public Builder nodeBudget(final long n) {
+      nodeBudget = n;
+      return this;
+    }
+
+    /**
+     * Sets the time budget per move in milliseconds when building an instance, which makes the
+     * depth the maximum depth of iterative deepening. Defaults to 0, which means searching the depth
+     * without time limit.
+     *
+     * @param t The input time budget.
+     * @return The altered builder class.
+     */
+    public Builder timeBudgetMillis(final long t) {
+      timeBudgetMillis = t;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of the transposition table when building an instance.
+     * Defaults to 0, which means no table.
+     *
+     * @param b The input number of bytes.
+     * @return The altered builder class.
+     */
+    public Builder transpositionTableBytes(final long b) {
+      transpositionTableBytes = b;
+      return this;
+    }
+
+    /**
+     * Sets a transposition table to use instead of a table of its own when building an instance,
+     * e.g. one shared by the players of many games. Defaults to null, which means a table of
+     * transpositionTableBytes. As the table is lock-free, the players may search at the same time.
+     *
+     * @param t The input transposition table.
+     * @return The altered builder class.
+     */
+    public Builder transpositionTable(final TranspositionTable t) {
+      transpositionTable = t;
+      return this;
+    }
+
+    /**
+     * Sets the number of threads to search with when building an instance. Defaults to 1. With more
+     * than one thread the root columns are searched in parallel and the node budget is ignored.
+     *
+     * @param t The input number of threads.
+     * @return The altered builder class.
+     */
+    public Builder threads(final int t) {
+      threads = t;
+      return this;
+    }
+
+    /**
+     * Sets whether to search with Lazy SMP instead of splitting the root columns when there are
+     * more than one thread when building an instance. Defaults to false. As the threads of Lazy
+     * SMP share work only through the transposition table, it requires a table.
+     *
+     * @param l The input Lazy SMP status.
+     * @return The altered builder class.
+     */
+    public Builder lazySmp(final boolean l) {
+      lazySmp = l;
+      return this;
+    }
+
+    /**
+     * Sets the opening book to play from before searching when building an instance. Defaults to
+     * null, which means no book.
+     *
+     * @param o The input opening book.
+     * @return The altered builder class.
+     */
+    public Builder openingBook(final OpeningBook o) {
+      openingBook = o;
+      return this;
+    }
+
+    /**
+     * Sets the ordering of the columns of the single-threaded search when building an instance,
+     * kept across the moves of the player. Defaults to null, which means a default
+     * {@link HeuristicMoveOrdering}. Multi-threaded searches order the columns of each thread with
+     * the default one.
+     *
+     * @param m The input move ordering.
+     * @return The altered builder class.
+     */
+    public Builder moveOrdering(final MoveOrdering m) {
+      moveOrdering = m;
+      return this;
+    }
+
+    /**
+     * Builds the search player instance. Require name, color and board to be non-null values,
+     * depth and threads to be positive, and a transposition table for Lazy SMP with more than one
+     * thread.
+     *
+     * @return The built search player instance.
+     */
+    public SearchPlayer build() {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(color);
+      Objects.requireNonNull(board);
+      if (depth < 1) {
+        throw new IllegalArgumentException("depth must be positive");
+      }
+      if (threads < 1) {
+        throw new IllegalArgumentException("threads must be positive");
+      }
+      if (lazySmp && threads > 1 && transpositionTableBytes <= 0 && transpositionTable == null) {
+        throw new IllegalArgumentException("Lazy SMP needs a transposition table");
+      }
+      return new SearchPlayer(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private SearchPlayer(final Builder builder) {
+    name = builder.name;
+    color = builder.color;
+    board = builder.board;
+    depth = builder.depth;
+    nodeBudget = builder.nodeBudget;
+    timeBudgetMillis = builder.timeBudgetMillis;
+    if (builder.transpositionTable != null) {
+      table = builder.transpositionTable;
+    } else {
+      table = builder.transpositionTableBytes > 0
+          ? new TranspositionTable(builder.transpositionTableBytes)
+          : null;
+    }
+    threads = builder.threads;
+    lazySmp = builder.lazySmp;
+    pool = threads > 1 && !lazySmp ? new ForkJoinPool(threads) : null;
+    helperExecutor = threads > 1 && lazySmp ? Executors.newFixedThreadPool(threads - 1, r -> {
+      final Thread thread = new Thread(r, "lazy-smp-helper");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+    openingBook = builder.openingBook;
+    moveOrdering = builder.moveOrdering != null ? builder.moveOrdering
+        : new HeuristicMoveOrdering.Builder().build();
+  }
+
+  /**
+   * Gets the name of the player.
+   *
+   * @return The name of the player.
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the color of the player.
+   *
+   * @return The color of the player.
+   */
+  @Override
+  public Color getColor() {
+    return color;
+  }
+
+  /**
+   * Gets the type of the player.
+   *
+   * @return The type of the player.
+   */
+  @Override
+  public PlayerType getPlayerType() {
+    return PLAYER_TYPE;
+  }
+
+  /**
+   * Gets the advice of the move with the best score found by the search.
+   *
+   * @return The column to make the next move, -1 if there is no column to drop.
+   */
+  @Override
+  public int getMoveColumnAdvice() {
+    final BitBoard position = board.copyBitBoard();
+    final int player = Board.getPlayerIndex(color);
+    if (openingBook != null && position.getMoveCount() % 2 == player) {
+      final Solution solution = openingBook.lookup(position);
+      if (solution != null && position.canDrop(solution.getColumn())) {
+        stopPondering();
+        lastSearchResult = new SearchResult.Builder().column(solution.getColumn()).build();
+        return solution.getColumn();
+      }
+    }
+    final SearchResult ponderResult = finishPondering(position);
+    if (ponderResult != null) {
+      ponderHitCount++;
+      lastSearchResult = ponderResult;
+      return lastSearchResult.getColumn();
+    }
+    final Search search;
+    if (pool != null) {
+      search = new ParallelSearch(pool, table);
+    } else if (helperExecutor != null) {
+      search = new LazySmpSearch(helperExecutor, threads, table);
+    } else {
+      search = new NegamaxSearch(nodeBudget, table, moveOrdering);
+    }
+    if (timeBudgetMillis > 0) {
+      lastSearchResult = new IterativeDeepeningSearch(search).search(position, player,
+          timeBudgetMillis, depth);
+    } else {
+      lastSearchResult = search.search(position, player, depth, 0L, new int[0]);
+    }
+    return lastSearchResult.getColumn();
+  }
+
+  /**
+   * Starts searching on a background thread the position after the reply to the last advice that
+   * the principal variation predicts, if the advice has been played and the opponent is to move.
+   * A pondering search already running is stopped first.
+   */
+  @Override
+  public void startPondering() {
+    stopPondering();
+    final int player = Board.getPlayerIndex(color);
+    final BitBoard position = board.copyBitBoard();
+    final int moveCount = position.getMoveCount();
+    final int[] principalVariation =
+        lastSearchResult != null ? lastSearchResult.getPrincipalVariation() : new int[0];
+    if (principalVariation.length < 2 || moveCount % 2 == player || moveCount == 0
+        || position.getColumnAt(moveCount - 1) != principalVariation[0]
+        || position.drop(principalVariation[1], 1 - player) < 0 || position.isWon()
+        || position.isFull()) {
+      return;
+    }
+    final int[] expectedVariation =
+        Arrays.copyOfRange(principalVariation, 2, principalVariation.length);
+    if (ponderOrdering == null) {
+      ponderOrdering = new HeuristicMoveOrdering.Builder().build();
+    }
+    final NegamaxSearch search = new NegamaxSearch(nodeBudget, table, ponderOrdering);
+    ponderSearch = search;
+    ponderKey = position.getKey();
+    ponderMoveCount = position.getMoveCount();
+    ponderStartNanos = System.nanoTime();
+    ponderFuture = getPonderExecutor().submit(() -> timeBudgetMillis > 0
+        ? new IterativeDeepeningSearch(search).search(position, player, PONDER_TIME_BUDGET_MILLIS,
+            depth)
+        : search.search(position, player, depth, 0L, expectedVariation));
+  }
+
+  /**
+   * Stops the pondering search, if any, and waits for it to end.
+   */
+  @Override
+  public void stopPondering() {
+    finishPondering(null);
+  }
+
+  /**
+   * Stops pondering and shuts the threads of the pondering and multi-threaded searches down, so
+   * that the player and its transposition table can be collected.
+   */
+  @Override
+  public void close() {
+    stopPondering();
+    if (ponderExecutor != null) {
+      ponderExecutor.shutdown();
+    }
+    if (pool != null) {
+      pool.shutdown();
+    }
+    if (helperExecutor != null) {
+      helperExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Returns the number of advices answered by taking the pondering search over.
+   *
+   * @return The number of pondering hits.
+   */
+  public int getPonderHitCount() {
+    return ponderHitCount;
+  }
+
+  /**
+   * Returns the cause of the last pondering search that failed, null if none did.
+   *
+   * @return The cause of the failure.
+   */
+  public Throwable getLastPonderFailure() {
+    return lastPonderFailure;
+  }
+
+  /**
+   * Ends the pondering search, if any. If the position is the one pondered, the search goes on
+   * until the time budget counted from its start is spent, or to its end without a time budget,
+   * and its result is returned. Otherwise it is stopped at once. A failure of the search is kept
+   * as the last pondering failure rather than thrown.
+   *
+   * @param position The position to advise on, null to stop pondering.
+   * @return The result of the pondering search, null if there is none, it isn't of the position or
+   *         it failed.
+   */
+  private SearchResult finishPondering(final BitBoard position) {
+    if (ponderFuture == null) {
+      return null;
+    }
+    final boolean hit = position != null && position.getKey() == ponderKey
+        && position.getMoveCount() == ponderMoveCount;
+    try {
+      if (!hit) {
+        ponderSearch.stop();
+      } else if (timeBudgetMillis > 0) {
+        final long remainingNanos =
+            timeBudgetMillis * 1_000_000L - (System.nanoTime() - ponderStartNanos);
+        try {
+          ponderFuture.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+          ponderSearch.stop();
+        }
+      }
+      final SearchResult result = ponderFuture.get();
+      return hit ? result : null;
+    } catch (final InterruptedException e) {
+      ponderSearch.stop();
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (final ExecutionException e) {
+      lastPonderFailure = e.getCause();
+      return null;
+    } finally {
+      ponderFuture = null;
+      ponderSearch = null;
+    }
+  }
+
+  /**
+   * Returns the executor of the pondering searches, creating its daemon thread the first time.
+   *
+   * @return The executor.
+   */
+  private ExecutorService getPonderExecutor() {
+    if (ponderExecutor == null) {
+      ponderExecutor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "search-ponder");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return ponderExecutor;
+  }
+
+  /**
+   * Returns the result of the last search including the nodes searched per second, null if no
+   * search was made.
+   *
+   * @return The result of the last search.
+   */
+  public SearchResult getLastSearchResult() {
+    return lastSearchResult;
+  }
+
+  /**
+   * Returns the string representation of the player instance. The string follows the format:
+   * "{name: N, color: C, type: SEARCH, depth: D}" where N is the name, C is the color and D is the
+   * depth.
+   */
+  @Override
+  public String toString() {
+    return String.format("{name: %s, color: %s, type: %s, depth: %d}", name, color.toString(),
+        PLAYER_TYPE.name(), depth);
+  }
+}
@@ -0,0 +1,142 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.Outcome;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class computes the {@link ArchiveStatistics} of an archive of game records as parallel
+ * streams. The records are read in batches of BATCH_SIZE and replayed on a bitboard of the worker
+ * thread, and each worker accumulates its own statistics, which are combined at the end. Each
+ * stream covers at most ROUND_BATCHES batches, four per thread of the common pool and the calling
+ * thread, and the archive is streamed round after round, so the memory taken doesn't depend on the
+ * size of the archive.
+ *
+ * <p>Moves made from the blunder ply on are checked against a {@link Solver}: the position before
+ * and after each move is solved, and the move is a blunder if it makes the outcome of its player
+ * worse. Solving gets slow on early positions, so the blunder ply should be at least about half the
+ * game for large archives. A worker borrows a solver from a queue of the analysis for each game it
+ * checks, and a new solver is only made when all are in use, so an analysis takes at most one
+ * transposition table of tableBytes per thread of the common pool and the calling thread. The
+ * solvers are released when the analysis returns.
+ */
+public class ArchiveAnalyzer {
+  private static final int BATCH_SIZE = 1024;
+  private static final int ROUND_BATCHES = 4 * (ForkJoinPool.getCommonPoolParallelism() + 1);
+  private final int blunderPly;
+  private final ThreadLocal<BitBoard> bitBoards = ThreadLocal.withInitial(BitBoard::new);
+  private final long tableBytes;
+
+  /**
+   * Constructor.
+   *
+   * @param blunderPly The number of moves made before the first move checked for blunders,
+   *        CELL_NUMBER or more for no check.
+   * @param tableBytes The size of the transposition table of each solver.
+   */
+  public ArchiveAnalyzer(final int blunderPly, final long tableBytes) {
+    this.blunderPly = Math.max(0, blunderPly);
+    this.tableBytes = tableBytes;
+  }
+
+  /**
+   * Computes the statistics of the archive read to its end.
+   *
+   * @param reader The reader of the archive.
+   * @return The statistics.
+   * @throws java.io.UncheckedIOException If the archive can't be read or is invalid.
+   */
+  public ArchiveStatistics analyze(final GameRecordReader reader) {
+    final ArchiveStatistics statistics = new ArchiveStatistics();
+    final Queue<Solver> solvers = new ConcurrentLinkedQueue<>();
+    GameRecordSpliterator spliterator;
+    do {
+      spliterator =
+          new GameRecordSpliterator(reader, BATCH_SIZE, (long) BATCH_SIZE * ROUND_BATCHES);
+      statistics.combine(StreamSupport.stream(spliterator, true).collect(ArchiveStatistics::new,
+          (partial, record) -> accumulate(partial, record, solvers), ArchiveStatistics::combine));
+    } while (!spliterator.isEnd());
+    return statistics;
+  }
+
+  /**
+   * Adds a game to the statistics.
+   *
+   * @param statistics The statistics.
+   * @param record The record of the game.
+   * @param solvers The solvers not in use of the analysis.
+   */
+  private void accumulate(final ArchiveStatistics statistics, final GameRecord record,
+      final Queue<Solver> solvers) {
+    final BitBoard bitBoard = bitBoards.get();
+    record.replay(bitBoard);
+    final int moveCount = record.getMoveCount();
+    final int winner = bitBoard.isWon() ? (moveCount - 1) % 2 : -1;
+    statistics.addGame(moveCount, moveCount > 0 ? record.getColumnAt(0) : -1, winner);
+    if (blunderPly < moveCount) {
+      while (bitBoard.getMoveCount() > blunderPly) {
+        bitBoard.cancelLastMove();
+      }
+      Solver solver = solvers.poll();
+      if (solver == null) {
+        solver = new Solver(new TranspositionTable(tableBytes));
+      }
+      try {
+        checkMoves(statistics, record, bitBoard, solver);
+      } finally {
+        solvers.offer(solver);
+      }
+    }
+  }
+
+  /**
+   * Checks the moves of the game from the position of the blunder ply to the end.
+   *
+   * @param statistics The statistics.
+   * @param record The record of the game.
+   * @param bitBoard The position of the blunder ply, which is played to the end.
+   * @param solver The solver.
+   */
+  private void checkMoves(final ArchiveStatistics statistics, final GameRecord record,
+      final BitBoard bitBoard, final Solver solver) {
+    final int moveCount = record.getMoveCount();
+    int blunders = 0;
+    Outcome before = solver.solve(bitBoard, bitBoard.getMoveCount() % 2).getOutcome();
+    for (int i = bitBoard.getMoveCount(); i < moveCount; i++) {
+      bitBoard.drop(record.getColumnAt(i), i % 2);
+      final Outcome next;
+      final Outcome after;
+      if (bitBoard.isWon()) {
+        next = Outcome.LOSS;
+        after = Outcome.WIN;
+      } else if (bitBoard.isFull()) {
+        next = Outcome.DRAW;
+        after = Outcome.DRAW;
+      } else {
+        next = solver.solve(bitBoard, (i + 1) % 2).getOutcome();
+        after = next == Outcome.WIN ? Outcome.LOSS : next == Outcome.LOSS ? Outcome.WIN
+            : Outcome.DRAW;
+      }
+      if (rank(after) < rank(before)) {
+        blunders++;
+      }
+      before = next;
+    }
+    statistics.addCheckedMoves(moveCount - blunderPly, blunders);
+  }
+
+  /**
+   * Ranks an outcome from the worst, a loss, to the best, a win.
+   *
+   * @param outcome The outcome.
+   * @return The rank.
+   */
+  private static int rank(final Outcome outcome) {
+    return outcome == Outcome.WIN ? 2 : outcome == Outcome.DRAW ? 1 : 0;
+  }
+}
@@ -0,0 +1,196 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+
+/**
+ * This class accumulates the statistics of the games of an archive computed by
+ * {@link ArchiveAnalyzer}: the number of games and moves, the results of the games overall and by
+ * the first column played, and the moves checked against the solver and the blunders among them.
+ * A blunder is a move making the outcome of its player worse under perfect play, i.e. turning a
+ * win into a draw or a loss, or a draw into a loss. Statistics of parts of an archive are combined
+ * into those of the whole.
+ */
+public class ArchiveStatistics {
+  private static final int WIDTH = ConnectFourSetting.COLUMN_NUMBER;
+  private long games;
+  private long moves;
+  private long firstPlayerWins;
+  private long secondPlayerWins;
+  private long draws;
+  private final long[] gamesByFirstColumn = new long[WIDTH];
+  private final long[] firstPlayerWinsByFirstColumn = new long[WIDTH];
+  private long checkedMoves;
+  private long blunders;
+
+  /**
+   * Constructor of empty statistics.
+   */
+  public ArchiveStatistics() {}
+
+  /**
+   * Adds a game.
+   *
+   * @param moveCount The number of moves of the game.
+   * @param firstColumn The first column played, -1 if there is no move.
+   * @param winner The index of the winner, -1 for a draw or a game not over.
+   */
+  void addGame(final int moveCount, final int firstColumn, final int winner) {
+    games++;
+    moves += moveCount;
+    if (winner == 0) {
+      firstPlayerWins++;
+    } else if (winner == 1) {
+      secondPlayerWins++;
+    } else {
+      draws++;
+    }
+    if (firstColumn >= 0) {
+      gamesByFirstColumn[firstColumn]++;
+      if (winner == 0) {
+        firstPlayerWinsByFirstColumn[firstColumn]++;
+      }
+    }
+  }
+
+  /**
+   * Adds moves checked against the solver.
+   *
+   * @param checked The number of moves checked.
+   * @param found The number of blunders among them.
+   */
+  void addCheckedMoves(final int checked, final int found) {
+    checkedMoves += checked;
+    blunders += found;
+  }
+
+  /**
+   * Adds the statistics of another part of the archive to these.
+   *
+   * @param other The other statistics.
+   */
+  void combine(final ArchiveStatistics other) {
+    games += other.games;
+    moves += other.moves;
+    firstPlayerWins += other.firstPlayerWins;
+    secondPlayerWins += other.secondPlayerWins;
+    draws += other.draws;
+    for (int column = 0; column < WIDTH; column++) {
+      gamesByFirstColumn[column] += other.gamesByFirstColumn[column];
+      firstPlayerWinsByFirstColumn[column] += other.firstPlayerWinsByFirstColumn[column];
+    }
+    checkedMoves += other.checkedMoves;
+    blunders += other.blunders;
+  }
+
+  /**
+   * Returns the number of games.
+   *
+   * @return The number of games.
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of moves of all games.
+   *
+   * @return The number of moves.
+   */
+  public long getMoves() {
+    return moves;
+  }
+
+  /**
+   * Returns the average number of moves of a game.
+   *
+   * @return The average game length, 0 if there is no game.
+   */
+  public double getAverageLength() {
+    return games == 0 ? 0 : moves / (double) games;
+  }
+
+  /**
+   * Returns the number of games won by the player who moves first.
+   *
+   * @return The number of games.
+   */
+  public long getFirstPlayerWins() {
+    return firstPlayerWins;
+  }
+
+  /**
+   * Returns the number of games won by the player who moves second.
+   *
+   * @return The number of games.
+   */
+  public long getSecondPlayerWins() {
+    return secondPlayerWins;
+  }
+
+  /**
+   * Returns the number of games drawn or not over.
+   *
+   * @return The number of games.
+   */
+  public long getDraws() {
+    return draws;
+  }
+
+  /**
+   * Returns the number of games whose first move is in the column.
+   *
+   * @param column The column.
+   * @return The number of games.
+   */
+  public long getGames(final int column) {
+    return gamesByFirstColumn[column];
+  }
+
+  /**
+   * Returns the share of the games whose first move is in the column won by the player who moves
+   * first.
+   *
+   * @param column The column.
+   * @return The win rate, 0 if there is no such game.
+   */
+  public double getFirstPlayerWinRate(final int column) {
+    final long total = gamesByFirstColumn[column];
+    return total == 0 ? 0 : firstPlayerWinsByFirstColumn[column] / (double) total;
+  }
+
+  /**
+   * Returns the number of moves checked against the solver.
+   *
+   * @return The number of moves.
+   */
+  public long getCheckedMoves() {
+    return checkedMoves;
+  }
+
+  /**
+   * Returns the number of blunders among the moves checked.
+   *
+   * @return The number of blunders.
+   */
+  public long getBlunders() {
+    return blunders;
+  }
+
+  /**
+   * Returns the string representation of the statistics. The string follows the format: "games:
+   * G, average length: L, first player wins: W1, second player wins: W2, draws: D, first player
+   * win rate by first column: [R1, R2, ...], blunders: B of M checked moves".
+   */
+  @Override
+  public String toString() {
+    final StringBuilder rates = new StringBuilder();
+    for (int column = 0; column < WIDTH; column++) {
+      rates.append(column == 0 ? "" : ", ")
+          .append(String.format("%d: %.3f", column + 1, getFirstPlayerWinRate(column)));
+    }
+    return String.format("games: %d, average length: %.2f, first player wins: %d, second player"
+        + " wins: %d, draws: %d, first player win rate by first column: [%s], blunders: %d of %d"
+        + " checked moves", games, getAverageLength(), firstPlayerWins, secondPlayerWins, draws,
+        rates, blunders, checkedMoves);
+  }
+}
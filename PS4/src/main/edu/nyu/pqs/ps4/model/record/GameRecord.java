@@ -0,0 +1,171 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class is the record of a game: the columns of its moves in order, the player who moves
+ * first making the moves of even index. Names and colors aren't recorded, as they are those of
+ * ConnectFourSetting. A record is encoded by {@link GameRecordCodec} and replayed on a bitboard or
+ * a board.
+ */
+public class GameRecord {
+  private final byte[] columns;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private int[] columns;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the columns of the moves when building an instance.
+     *
+     * @param c The input columns, which are copied.
+     * @return The altered builder class.
+     */
+    public Builder columns(final int[] c) {
+      columns = c;
+      return this;
+    }
+
+    /**
+     * Builds the game record instance. Require columns to be non-null and to be a legal game,
+     * which doesn't go on after a win.
+     *
+     * @return The built game record instance.
+     */
+    public GameRecord build() {
+      Objects.requireNonNull(columns);
+      final byte[] bytes = new byte[columns.length];
+      final BitBoard bitBoard = new BitBoard();
+      for (int i = 0; i < columns.length; i++) {
+        if (bitBoard.drop(columns[i], i % 2) < 0) {
+          throw new IllegalArgumentException("illegal move at " + i + ": " + columns[i]);
+        }
+        bytes[i] = (byte) columns[i];
+      }
+      return new GameRecord(bytes);
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param columns The columns of the moves of a legal game, not shared.
+   */
+  GameRecord(final byte[] columns) {
+    this.columns = columns;
+  }
+
+  /**
+   * Returns the record of the moves made on a bitboard.
+   *
+   * @param bitBoard The bitboard.
+   * @return The game record.
+   */
+  public static GameRecord of(final BitBoard bitBoard) {
+    final byte[] columns = new byte[bitBoard.getMoveCount()];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = (byte) bitBoard.getColumnAt(i);
+    }
+    return new GameRecord(columns);
+  }
+
+  /**
+   * Returns the record of the moves made on a board.
+   *
+   * @param board The board.
+   * @return The game record.
+   */
+  public static GameRecord of(final Board board) {
+    return of(board.copyBitBoard());
+  }
+
+  /**
+   * Returns the number of moves.
+   *
+   * @return The number of moves.
+   */
+  public int getMoveCount() {
+    return columns.length;
+  }
+
+  /**
+   * Returns the column of a move.
+   *
+   * @param index The index of the move, from 0.
+   * @return The column of the move.
+   */
+  public int getColumnAt(final int index) {
+    return columns[index];
+  }
+
+  /**
+   * Clears the bitboard and makes the moves of the game on it.
+   *
+   * @param bitBoard The bitboard.
+   */
+  public void replay(final BitBoard bitBoard) {
+    bitBoard.clear();
+    for (int i = 0; i < columns.length; i++) {
+      bitBoard.drop(columns[i], i % 2);
+    }
+  }
+
+  /**
+   * Clears the board and makes the moves of the game on it with the names and colors of the
+   * players of ConnectFourSetting.
+   *
+   * @param board The board.
+   */
+  public void replay(final Board board) {
+    board.clear();
+    for (int i = 0; i < columns.length; i++) {
+      if (i % 2 == 0) {
+        board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR,
+            columns[i]);
+      } else {
+        board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR,
+            columns[i]);
+      }
+    }
+  }
+
+  /**
+   * Checks whether the other object is a record of the same moves.
+   */
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof GameRecord && Arrays.equals(columns, ((GameRecord) o).columns);
+  }
+
+  /**
+   * Returns the hash code of the moves.
+   */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(columns);
+  }
+
+  /**
+   * Returns the string representation of the record. The string follows the format: "record:
+   * {columns: C}" where C are the 1-based columns of the moves, e.g. "4453".
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder(columns.length);
+    for (final byte column : columns) {
+      builder.append((char) ('1' + column));
+    }
+    return String.format("record: {columns: %s}", builder);
+  }
+}
@@ -0,0 +1,120 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+
+/**
+ * This class encodes game records into bytes. A record is a header byte holding the number of
+ * moves, followed by the columns of the moves as 4-bit values, two per byte with the earlier move
+ * in the high bits, the last byte being padded with 0 when the number of moves is odd. A full game
+ * of 42 moves takes 22 bytes. The outcome isn't stored, as replaying the moves gives it.
+ */
+public final class GameRecordCodec {
+  /**
+   * Maximum number of bytes of an encoded record.
+   */
+  public static final int MAX_RECORD_BYTES = getRecordBytes(BitBoard.CELL_NUMBER);
+
+  /**
+   * Private constructor.
+   */
+  private GameRecordCodec() {}
+
+  /**
+   * Returns the number of bytes of an encoded record.
+   *
+   * @param moveCount The number of moves of the record.
+   * @return The number of bytes.
+   */
+  public static int getRecordBytes(final int moveCount) {
+    return 1 + (moveCount + 1) / 2;
+  }
+
+  /**
+   * Encodes a record into new bytes.
+   *
+   * @param record The record.
+   * @return The encoded bytes.
+   */
+  public static byte[] encode(final GameRecord record) {
+    final byte[] bytes = new byte[getRecordBytes(record.getMoveCount())];
+    encode(record, bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Encodes a record into a buffer.
+   *
+   * @param record The record.
+   * @param buffer The buffer, with at least getRecordBytes(moves) bytes from the offset.
+   * @param offset The offset to write at.
+   * @return The number of bytes written.
+   */
+  public static int encode(final GameRecord record, final byte[] buffer, final int offset) {
+    final int moveCount = record.getMoveCount();
+    buffer[offset] = (byte) moveCount;
+    for (int i = 0; i < moveCount; i += 2) {
+      final int low = i + 1 < moveCount ? record.getColumnAt(i + 1) : 0;
+      buffer[offset + 1 + i / 2] = (byte) (record.getColumnAt(i) << 4 | low);
+    }
+    return getRecordBytes(moveCount);
+  }
+
+  /**
+   * Encodes the moves made on a bitboard into a buffer, without creating a record.
+   *
+   * @param bitBoard The bitboard.
+   * @param buffer The buffer, with at least getRecordBytes(moves) bytes from the offset.
+   * @param offset The offset to write at.
+   * @return The number of bytes written.
+   */
+  public static int encode(final BitBoard bitBoard, final byte[] buffer, final int offset) {
+    final int moveCount = bitBoard.getMoveCount();
+    buffer[offset] = (byte) moveCount;
+    for (int i = 0; i < moveCount; i += 2) {
+      final int low = i + 1 < moveCount ? bitBoard.getColumnAt(i + 1) : 0;
+      buffer[offset + 1 + i / 2] = (byte) (bitBoard.getColumnAt(i) << 4 | low);
+    }
+    return getRecordBytes(moveCount);
+  }
+
+  /**
+   * Decodes a record from bytes.
+   *
+   * @param bytes The encoded bytes.
+   * @return The record.
+   * @throws IllegalArgumentException If the bytes aren't a record of a legal game.
+   */
+  public static GameRecord decode(final byte[] bytes) {
+    final BitBoard bitBoard = new BitBoard();
+    if (bytes.length == 0 || bytes.length != getRecordBytes(bytes[0] & 0xff)
+        || !replay(bytes, 0, bitBoard)) {
+      throw new IllegalArgumentException("invalid game record");
+    }
+    return GameRecord.of(bitBoard);
+  }
+
+  /**
+   * Clears the bitboard and makes the moves of an encoded record on it, the player who moves first
+   * making the moves of even index.
+   *
+   * @param buffer The buffer holding the record.
+   * @param offset The offset of the record.
+   * @param bitBoard The bitboard.
+   * @return Whether the record is a legal game, the bitboard being left as far as it got if not.
+   */
+  public static boolean replay(final byte[] buffer, final int offset, final BitBoard bitBoard) {
+    bitBoard.clear();
+    final int moveCount = buffer[offset] & 0xff;
+    if (moveCount > BitBoard.CELL_NUMBER) {
+      return false;
+    }
+    for (int i = 0; i < moveCount; i++) {
+      final int pair = buffer[offset + 1 + i / 2];
+      final int column = (i & 1) == 0 ? pair >> 4 & 0xf : pair & 0xf;
+      if (bitBoard.drop(column, i & 1) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
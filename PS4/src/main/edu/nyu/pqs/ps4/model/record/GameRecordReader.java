@@ -0,0 +1,114 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This class reads an archive of game records written by {@link GameRecordWriter} from a stream.
+ * The stream is read into a buffer a block at a time, and {@link #next(BitBoard)} replays each
+ * record straight from the buffer onto a bitboard reused by the caller, so that reading an archive
+ * allocates nothing per game.
+ */
+public class GameRecordReader implements Closeable {
+  private static final int BUFFER_BYTES = 1 << 16;
+  private final InputStream input;
+  private final byte[] buffer = new byte[BUFFER_BYTES];
+  private final BitBoard bitBoard = new BitBoard();
+  private int position;
+  private int limit;
+  private long recordNumber;
+
+  /**
+   * Constructor, which reads the magic number.
+   *
+   * @param input The stream to read from, closed with the reader.
+   * @throws IOException If the stream can't be read or isn't an archive.
+   */
+  public GameRecordReader(final InputStream input) throws IOException {
+    this.input = input;
+    if (!fill(Integer.BYTES) || ((buffer[0] & 0xff) << 24 | (buffer[1] & 0xff) << 16
+        | (buffer[2] & 0xff) << 8 | buffer[3] & 0xff) != GameRecordWriter.MAGIC) {
+      throw new IOException("invalid game record archive");
+    }
+    position = Integer.BYTES;
+  }
+
+  /**
+   * Reads the next record and replays it on the bitboard, which is cleared first.
+   *
+   * @param target The bitboard to replay on.
+   * @return Whether a record was read, false at the end of the archive.
+   * @throws IOException If the stream can't be read or the record is invalid.
+   */
+  public boolean next(final BitBoard target) throws IOException {
+    if (!fill(1)) {
+      return false;
+    }
+    final int recordBytes = GameRecordCodec.getRecordBytes(buffer[position] & 0xff);
+    if (recordBytes > GameRecordCodec.MAX_RECORD_BYTES || !fill(recordBytes)) {
+      throw new IOException("invalid game record " + recordNumber);
+    }
+    if (!GameRecordCodec.replay(buffer, position, target)) {
+      throw new IOException("illegal game record " + recordNumber);
+    }
+    position += recordBytes;
+    recordNumber++;
+    return true;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return The record, null at the end of the archive.
+   * @throws IOException If the stream can't be read or the record is invalid.
+   */
+  public GameRecord read() throws IOException {
+    return next(bitBoard) ? GameRecord.of(bitBoard) : null;
+  }
+
+  /**
+   * Returns the number of records read.
+   *
+   * @return The number of records.
+   */
+  public long getRecordNumber() {
+    return recordNumber;
+  }
+
+  /**
+   * Closes the stream.
+   *
+   * @throws IOException If the stream can't be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+
+  /**
+   * Makes the buffer hold at least the number of bytes from the position, reading the stream if
+   * needed.
+   *
+   * @param bytes The number of bytes.
+   * @return Whether the buffer holds them, false if the stream ended before.
+   * @throws IOException If the stream can't be read.
+   */
+  private boolean fill(final int bytes) throws IOException {
+    if (limit - position >= bytes) {
+      return true;
+    }
+    System.arraycopy(buffer, position, buffer, 0, limit - position);
+    limit -= position;
+    position = 0;
+    while (limit < bytes) {
+      final int read = input.read(buffer, limit, buffer.length - limit);
+      if (read < 0) {
+        return false;
+      }
+      limit += read;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,105 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * This class is a spliterator over at most a given number of the next records of an archive read
+ * by a {@link GameRecordReader}. It splits off batches of a fixed number of records and estimates
+ * its size as the number of records it may still read, so a parallel stream stops splitting once
+ * the batches split off cover the limit, and holds a bounded number of records whatever the size of
+ * the archive. An archive larger than the limit is streamed by one spliterator after the other
+ * until one reaches the end.
+ */
+class GameRecordSpliterator implements Spliterator<GameRecord> {
+  private final GameRecordReader reader;
+  private final int batchSize;
+  private long remaining;
+  private boolean end;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The reader of the archive.
+   * @param batchSize The number of records of a batch split off.
+   * @param limit The maximum number of records to read.
+   */
+  GameRecordSpliterator(final GameRecordReader reader, final int batchSize, final long limit) {
+    this.reader = reader;
+    this.batchSize = batchSize;
+    remaining = limit;
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super GameRecord> action) {
+    final GameRecord record = read();
+    if (record == null) {
+      return false;
+    }
+    action.accept(record);
+    return true;
+  }
+
+  @Override
+  public Spliterator<GameRecord> trySplit() {
+    final GameRecord[] batch = new GameRecord[batchSize];
+    int size = 0;
+    for (GameRecord record = read(); record != null; record = read()) {
+      batch[size++] = record;
+      if (size == batchSize) {
+        break;
+      }
+    }
+    if (size == 0) {
+      return null;
+    }
+    return Spliterators.spliterator(size == batchSize ? batch : Arrays.copyOf(batch, size), 0,
+        size, characteristics());
+  }
+
+  @Override
+  public long estimateSize() {
+    return end ? 0 : remaining;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL | IMMUTABLE;
+  }
+
+  /**
+   * Returns whether the end of the archive was reached, as opposed to the limit.
+   *
+   * @return A boolean indicating the status.
+   */
+  boolean isEnd() {
+    return end;
+  }
+
+  /**
+   * Reads the next record within the limit.
+   *
+   * @return The record, null at the end of the archive or at the limit.
+   */
+  private GameRecord read() {
+    if (end || remaining == 0) {
+      return null;
+    }
+    final GameRecord record;
+    try {
+      record = reader.read();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (record == null) {
+      end = true;
+    } else {
+      remaining--;
+    }
+    return record;
+  }
+}
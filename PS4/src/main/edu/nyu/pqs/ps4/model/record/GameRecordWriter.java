@@ -0,0 +1,109 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * This class writes an archive of game records to a stream. The archive starts with MAGIC as a
+ * big-endian int, followed by the records encoded by {@link GameRecordCodec} one after another.
+ * Records are encoded into a buffer written to the stream when full, so any number of games can be
+ * archived without holding them in memory.
+ */
+public class GameRecordWriter implements Closeable {
+  /**
+   * Magic number at the start of an archive.
+   */
+  public static final int MAGIC = 0x43344752;
+  private static final int BUFFER_BYTES = 1 << 16;
+  private final OutputStream output;
+  private final byte[] buffer = new byte[BUFFER_BYTES];
+  private int position;
+  private long recordNumber;
+
+  /**
+   * Constructor, which writes the magic number.
+   *
+   * @param output The stream to write to, closed with the writer.
+   * @throws IOException If the stream can't be written.
+   */
+  public GameRecordWriter(final OutputStream output) throws IOException {
+    this.output = output;
+    buffer[0] = (byte) (MAGIC >>> 24);
+    buffer[1] = (byte) (MAGIC >>> 16);
+    buffer[2] = (byte) (MAGIC >>> 8);
+    buffer[3] = (byte) MAGIC;
+    position = Integer.BYTES;
+  }
+
+  /**
+   * Writes a record.
+   *
+   * @param record The record.
+   * @throws IOException If the stream can't be written.
+   */
+  public void write(final GameRecord record) throws IOException {
+    ensureRoom();
+    position += GameRecordCodec.encode(record, buffer, position);
+    recordNumber++;
+  }
+
+  /**
+   * Writes the record of the moves made on a bitboard.
+   *
+   * @param bitBoard The bitboard.
+   * @throws IOException If the stream can't be written.
+   */
+  public void write(final BitBoard bitBoard) throws IOException {
+    ensureRoom();
+    position += GameRecordCodec.encode(bitBoard, buffer, position);
+    recordNumber++;
+  }
+
+  /**
+   * Returns the number of records written.
+   *
+   * @return The number of records.
+   */
+  public long getRecordNumber() {
+    return recordNumber;
+  }
+
+  /**
+   * Writes the buffered records to the stream and flushes it.
+   *
+   * @throws IOException If the stream can't be written.
+   */
+  public void flush() throws IOException {
+    output.write(buffer, 0, position);
+    position = 0;
+    output.flush();
+  }
+
+  /**
+   * Flushes the writer and closes the stream.
+   *
+   * @throws IOException If the stream can't be written.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      output.close();
+    }
+  }
+
+  /**
+   * Writes the buffer to the stream if a record of the maximum size may not fit.
+   *
+   * @throws IOException If the stream can't be written.
+   */
+  private void ensureRoom() throws IOException {
+    if (position + GameRecordCodec.MAX_RECORD_BYTES > buffer.length) {
+      output.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+}
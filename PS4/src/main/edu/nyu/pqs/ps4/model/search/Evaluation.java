@@ -0,0 +1,272 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+
+/**
+ * This class evaluates a quiet bitboard position for the search from the chip masks alone. The
+ * tables of every winning line of the board and of the lines through each cell are computed once.
+ * The score counts, for each player, the lines holding two or three of the player's chips and none
+ * of the opponent's, the threats, which are the empty cells that would complete a line, and the
+ * chips weighted by the number of lines through their cell, which favors the center. A threat
+ * weighs more on the rows where it tends to decide the end of the game: rows 1, 3 and 5 counted
+ * from the bottom for the first player and rows 2, 4 and 6 for the second. A threat the player to
+ * move can play at once, or two the opponent can, decide the position whatever the rest.
+ */
+public class Evaluation {
+  /**
+   * Score of a position the player to move wins with the next chip, or loses with any chip. It is
+   * far below the scores of the wins found by the search.
+   */
+  public static final int DECIDED_SCORE = 10_000;
+  private static final int TWO_COUNT = ConnectFourSetting.CONSECUTIVE_COUNT - 2;
+  private static final int THREE_COUNT = ConnectFourSetting.CONSECUTIVE_COUNT - 1;
+  private static final int TWO_WEIGHT = 2;
+  private static final int THREE_WEIGHT = 6;
+  private static final int THREAT_WEIGHT = 8;
+  private static final int PARITY_THREAT_WEIGHT = 24;
+  private static final int BIT_NUMBER = ConnectFourSetting.COLUMN_NUMBER * BitBoard.COLUMN_HEIGHT;
+  private static final int[] DIRECTIONS =
+      {1, BitBoard.COLUMN_HEIGHT, BitBoard.COLUMN_HEIGHT + 1, BitBoard.COLUMN_HEIGHT - 1};
+  private static final long[] LINES = getLines();
+  private static final long[] LINE_STARTS = getLineStarts();
+  private static final int[][] LINES_BY_CELL = getLinesByCell();
+  private static final long[] WEIGHT_MASKS = getWeightMasks();
+  private static final long[] PARITY_ROWS = {getRowMask(0), getRowMask(1)};
+
+  /**
+   * Private constructor.
+   */
+  private Evaluation() {}
+
+  /**
+   * Evaluates the position from the view of the player to move. The position must not be won.
+   *
+   * @param board The position.
+   * @param player The index of the player to move, 0 or 1.
+   * @return The score of the position, between -DECIDED_SCORE and DECIDED_SCORE.
+   */
+  public static int evaluate(final BitBoard board, final int player) {
+    final long playable = board.getPlayableCells();
+    final long threats = board.getWinningCells(player);
+    if ((threats & playable) != 0) {
+      return DECIDED_SCORE;
+    }
+    final long opponentThreats = board.getWinningCells(1 - player);
+    if (Long.bitCount(opponentThreats & playable) > 1) {
+      return -DECIDED_SCORE;
+    }
+    final long mask = board.getMask(player);
+    final long opponentMask = board.getMask(1 - player);
+    int score = 0;
+    for (int i = 0; i < DIRECTIONS.length; i++) {
+      score += getLineScore(mask, opponentMask, DIRECTIONS[i], LINE_STARTS[i])
+          - getLineScore(opponentMask, mask, DIRECTIONS[i], LINE_STARTS[i]);
+    }
+    score += getThreatScore(threats, player) - getThreatScore(opponentThreats, 1 - player);
+    for (int weight = 0; weight < WEIGHT_MASKS.length; weight++) {
+      score += weight * (Long.bitCount(WEIGHT_MASKS[weight] & mask)
+          - Long.bitCount(WEIGHT_MASKS[weight] & opponentMask));
+    }
+    return score;
+  }
+
+  /**
+   * Returns the mask of the cells of the winning line, for tests and benchmarks.
+   *
+   * @param index The index of the line, from 0 to the number of lines exclusive.
+   * @return The mask of the line.
+   */
+  public static long getLine(final int index) {
+    return LINES[index];
+  }
+
+  /**
+   * Returns the number of winning lines of the board.
+   *
+   * @return The number of lines.
+   */
+  public static int getLineNumber() {
+    return LINES.length;
+  }
+
+  /**
+   * Returns the number of winning lines through the cell.
+   *
+   * @param column The column of the cell.
+   * @param row The row of the cell, 0 at the bottom.
+   * @return The number of lines.
+   */
+  public static int getLineNumber(final int column, final int row) {
+    return LINES_BY_CELL[column * BitBoard.COLUMN_HEIGHT + row].length;
+  }
+
+  /**
+   * Returns the score of the lines of the direction holding CONSECUTIVE_COUNT - 2 or
+   * CONSECUTIVE_COUNT - 1 chips of the player and none of the opponent. The chips of every line
+   * are counted at once, one bit of the count per mask, by adding the mask shifted to each cell of
+   * the lines to the count of their lowest cell.
+   *
+   * @param mask The chip mask of the player.
+   * @param opponentMask The chip mask of the opponent.
+   * @param direction The bit distance between two neighboring cells of the lines.
+   * @param starts The mask of the lowest cells of the lines of the direction.
+   * @return The score of the lines.
+   */
+  private static int getLineScore(final long mask, final long opponentMask, final int direction,
+      final long starts) {
+    long count0 = 0L;
+    long count1 = 0L;
+    long count2 = 0L;
+    long blocked = 0L;
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      final long chips = mask >>> (direction * i);
+      final long carry0 = count0 & chips;
+      count0 ^= chips;
+      final long carry1 = count1 & carry0;
+      count1 ^= carry0;
+      count2 ^= carry1;
+      blocked |= opponentMask >>> (direction * i);
+    }
+    final long open = starts & ~blocked;
+    return TWO_WEIGHT * Long.bitCount(open & equals(count0, count1, count2, TWO_COUNT))
+        + THREE_WEIGHT * Long.bitCount(open & equals(count0, count1, count2, THREE_COUNT));
+  }
+
+  /**
+   * Returns the mask of the bits where the count held one bit per mask equals the number.
+   *
+   * @param count0 The mask of the lowest bit of the count.
+   * @param count1 The mask of the middle bit of the count.
+   * @param count2 The mask of the highest bit of the count.
+   * @param number The number, from 0 to 7.
+   * @return The mask of the bits where the count equals the number.
+   */
+  private static long equals(final long count0, final long count1, final long count2,
+      final int number) {
+    return ((number & 1) != 0 ? count0 : ~count0) & ((number & 2) != 0 ? count1 : ~count1)
+        & ((number & 4) != 0 ? count2 : ~count2);
+  }
+
+  /**
+   * Returns the score of the threats of the player, the ones on the rows of the player's parity
+   * weighing more.
+   *
+   * @param threats The mask of the threats of the player.
+   * @param player The index of the player.
+   * @return The score of the threats.
+   */
+  private static int getThreatScore(final long threats, final int player) {
+    final int parityThreats = Long.bitCount(threats & PARITY_ROWS[player]);
+    return PARITY_THREAT_WEIGHT * parityThreats
+        + THREAT_WEIGHT * (Long.bitCount(threats) - parityThreats);
+  }
+
+  /**
+   * Returns the masks of every line of CONSECUTIVE_COUNT cells of the board, vertical, horizontal
+   * and diagonal.
+   *
+   * @return The masks of the lines.
+   */
+  private static long[] getLines() {
+    final int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+    final long[] lines = new long[4 * BIT_NUMBER];
+    int lineNumber = 0;
+    for (final int[] direction : directions) {
+      for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+        for (int row = 0; row < ConnectFourSetting.ROW_NUMBER; row++) {
+          final int lastColumn = column + direction[0] * (ConnectFourSetting.CONSECUTIVE_COUNT - 1);
+          final int lastRow = row + direction[1] * (ConnectFourSetting.CONSECUTIVE_COUNT - 1);
+          if (lastColumn >= ConnectFourSetting.COLUMN_NUMBER || lastRow < 0
+              || lastRow >= ConnectFourSetting.ROW_NUMBER) {
+            continue;
+          }
+          long line = 0L;
+          for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+            line |= 1L << ((column + direction[0] * i) * BitBoard.COLUMN_HEIGHT + row
+                + direction[1] * i);
+          }
+          lines[lineNumber++] = line;
+        }
+      }
+    }
+    final long[] trimmed = new long[lineNumber];
+    System.arraycopy(lines, 0, trimmed, 0, lineNumber);
+    return trimmed;
+  }
+
+  /**
+   * Returns the masks of the lowest cells of the lines of each direction of DIRECTIONS.
+   *
+   * @return The masks of the lowest cells by direction.
+   */
+  private static long[] getLineStarts() {
+    final long[] starts = new long[DIRECTIONS.length];
+    for (final long line : LINES) {
+      final long start = Long.lowestOneBit(line);
+      for (int i = 0; i < DIRECTIONS.length; i++) {
+        if ((line & start << DIRECTIONS[i]) != 0) {
+          starts[i] |= start;
+        }
+      }
+    }
+    return starts;
+  }
+
+  /**
+   * Returns the indexes of the lines through each bit of the bitboard, none for sentinel bits.
+   *
+   * @return The indexes of the lines by bit.
+   */
+  private static int[][] getLinesByCell() {
+    final int[][] linesByCell = new int[BIT_NUMBER][];
+    for (int bit = 0; bit < BIT_NUMBER; bit++) {
+      int lineNumber = 0;
+      for (final long line : LINES) {
+        lineNumber += (int) (line >>> bit & 1L);
+      }
+      linesByCell[bit] = new int[lineNumber];
+      lineNumber = 0;
+      for (int i = 0; i < LINES.length; i++) {
+        if ((LINES[i] >>> bit & 1L) != 0) {
+          linesByCell[bit][lineNumber++] = i;
+        }
+      }
+    }
+    return linesByCell;
+  }
+
+  /**
+   * Returns the masks of the cells grouped by the number of lines through them, indexed by that
+   * number, so that the weight of the chips of a mask is a few bit counts.
+   *
+   * @return The masks of cells by number of lines.
+   */
+  private static long[] getWeightMasks() {
+    int maxWeight = 0;
+    for (final int[] lines : LINES_BY_CELL) {
+      maxWeight = Math.max(maxWeight, lines.length);
+    }
+    final long[] weightMasks = new long[maxWeight + 1];
+    for (int bit = 0; bit < BIT_NUMBER; bit++) {
+      weightMasks[LINES_BY_CELL[bit].length] |= 1L << bit;
+    }
+    return weightMasks;
+  }
+
+  /**
+   * Returns the mask of every other row, starting from the row.
+   *
+   * @param firstRow The first row, 0 at the bottom.
+   * @return The mask of the rows.
+   */
+  private static long getRowMask(final int firstRow) {
+    long mask = 0L;
+    for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      for (int row = firstRow; row < ConnectFourSetting.ROW_NUMBER; row += 2) {
+        mask |= 1L << (column * BitBoard.COLUMN_HEIGHT + row);
+      }
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,84 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+
+/**
+ * This class drives a {@link Search} with iterative deepening under a wall-clock time budget. It
+ * searches depth 1, 2, ... until the time is up, the maximum depth is reached or the score is a
+ * forced win or loss, and returns the best column of the last completed depth. Each iteration tries
+ * the principal variation of the previous one first. Depth 1 is always completed so that there is a
+ * column to return.
+ */
+public class IterativeDeepeningSearch {
+  private final Search search;
+
+  /**
+   * Constructor of iterative deepening over a single-threaded negamax search.
+   *
+   * @param table The transposition table to share across iterations, null for none.
+   */
+  public IterativeDeepeningSearch(final TranspositionTable table) {
+    this(new NegamaxSearch(0, table));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param search The search to run at each depth.
+   */
+  public IterativeDeepeningSearch(final Search search) {
+    this.search = search;
+  }
+
+  /**
+   * Searches the position for the best column of the player to move within the time budget. The
+   * position is restored after the search.
+   *
+   * @param position The position to search.
+   * @param player The index of the player to move, 0 or 1.
+   * @param timeBudgetMillis The time budget in milliseconds.
+   * @param maxDepth The maximum depth to search, at least 1.
+   * @return The result of the last completed depth, with the nodes and time of all iterations.
+   */
+  public SearchResult search(final BitBoard position, final int player,
+      final long timeBudgetMillis, final int maxDepth) {
+    final long start = System.nanoTime();
+    final long deadline = start + timeBudgetMillis * 1_000_000L;
+    final int depthLimit = Math.min(maxDepth, getEmptyCellNumber(position));
+    long nodes = 0;
+    SearchResult completed = search.search(position, player, 1, 0L, new int[0]);
+    nodes += completed.getNodes();
+    for (int depth = 2; depth <= depthLimit && !isDecided(completed.getScore()); depth++) {
+      final SearchResult result = search.search(position, player, depth, deadline,
+          completed.getPrincipalVariation());
+      nodes += result.getNodes();
+      if (result.isAborted()) {
+        break;
+      }
+      completed = result;
+    }
+    return new SearchResult.Builder().column(completed.getColumn()).score(completed.getScore())
+        .depth(completed.getDepth()).nodes(nodes).elapsedNanos(System.nanoTime() - start)
+        .principalVariation(completed.getPrincipalVariation()).build();
+  }
+
+  /**
+   * Checks whether the score is a forced win or loss, which deeper searches won't change.
+   *
+   * @param score The score.
+   * @return A boolean indicating the status.
+   */
+  private static boolean isDecided(final int score) {
+    return Math.abs(score) > NegamaxSearch.WIN_SCORE / 2;
+  }
+
+  /**
+   * Returns the number of empty cells of the position, which bounds the useful depth.
+   *
+   * @param position The position.
+   * @return The number of empty cells.
+   */
+  private static int getEmptyCellNumber(final BitBoard position) {
+    return Math.max(1, BitBoard.CELL_NUMBER - position.getMoveCount());
+  }
+}
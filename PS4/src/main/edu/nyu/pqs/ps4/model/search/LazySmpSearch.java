@@ -0,0 +1,71 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * This class searches a bitboard position with Lazy SMP. The calling thread and THREADS - 1 helper
+ * threads all search the whole position, each on its own copy, and they communicate only through a
+ * shared transposition table that is safe without locks. Helpers search at staggered depths, every
+ * other helper one ply deeper, so that they fill the table with entries the calling thread can use.
+ * The result is the one of the calling thread, after which the helpers are stopped.
+ */
+public class LazySmpSearch implements Search {
+  private final ExecutorService executor;
+  private final int threads;
+  private final TranspositionTable table;
+  private final NegamaxSearch search;
+
+  /**
+   * Constructor.
+   *
+   * @param executor The executor to run the helpers in, with at least THREADS - 1 threads.
+   * @param threads The number of threads to search with, including the calling thread.
+   * @param table The transposition table to share among the threads.
+   */
+  public LazySmpSearch(final ExecutorService executor, final int threads,
+      final TranspositionTable table) {
+    this.executor = executor;
+    this.threads = threads;
+    this.table = table;
+    search = new NegamaxSearch(0, table);
+  }
+
+  @Override
+  public SearchResult search(final BitBoard position, final int player, final int depth,
+      final long deadlineNanos, final int[] principalVariation) {
+    final long start = System.nanoTime();
+    final List<NegamaxSearch> helpers = new ArrayList<>();
+    final List<Future<SearchResult>> futures = new ArrayList<>();
+    for (int i = 1; i < threads; i++) {
+      final NegamaxSearch helper = new NegamaxSearch(0, table);
+      final BitBoard copy = new BitBoard(position);
+      final int helperDepth = depth + (i & 1);
+      helpers.add(helper);
+      futures.add(executor.submit(
+          () -> helper.search(copy, player, helperDepth, deadlineNanos, principalVariation)));
+    }
+    final SearchResult result =
+        search.search(new BitBoard(position), player, depth, deadlineNanos, principalVariation);
+    long nodes = result.getNodes();
+    for (final NegamaxSearch helper : helpers) {
+      helper.stop();
+    }
+    for (final Future<SearchResult> future : futures) {
+      try {
+        nodes += future.get().getNodes();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (final ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return new SearchResult.Builder().column(result.getColumn()).score(result.getScore())
+        .depth(depth).nodes(nodes).elapsedNanos(System.nanoTime() - start)
+        .principalVariation(result.getPrincipalVariation()).aborted(result.isAborted()).build();
+  }
+}
@@ -0,0 +1,365 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+
+/**
+ * This class searches a bitboard position with Monte Carlo tree search using UCT. Each iteration
+ * walks down the tree by the UCT formula, adds one child, plays random moves from there to the end
+ * of the game on a copy of the position and adds the result to the nodes walked. The column
+ * visited the most at the root is the best column.
+ *
+ * <p>The tree is kept in preallocated primitive arrays indexed by node, so iterations don't
+ * allocate: the children of a node are COLUMN_NUMBER consecutive slots of the children array, 0
+ * standing for no child, and the visits and rewards of a node are ints where a win rewards 2 and a
+ * draw 1. The tree stops growing when the arrays are full. If tree reuse is on, a search of a
+ * position following the previous root by moves in the tree keeps the subtree of that position,
+ * copying it into a second set of arrays so that the freed nodes can be used again.
+ */
+public class MonteCarloTreeSearch {
+  private static final int WIDTH = ConnectFourSetting.COLUMN_NUMBER;
+  private static final int ROOT = 1;
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int DEADLINE_CHECK_INTERVAL = 1 << 6;
+  private static final byte ONGOING = 0;
+  private static final byte WON = 1;
+  private static final byte DRAWN = 2;
+  private final int capacity;
+  private final boolean treeReuse;
+  private final int[] path = new int[BitBoard.CELL_NUMBER + 1];
+  private final BitBoard board = new BitBoard();
+  private final BitBoard treeRoot = new BitBoard();
+  private int[] children;
+  private int[] visits;
+  private int[] rewards;
+  private byte[] states;
+  private int[] spareChildren;
+  private int[] spareVisits;
+  private int[] spareRewards;
+  private byte[] spareStates;
+  private int size;
+  private int treePlayer = -1;
+  private long random;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The maximum number of nodes of the tree, at least 1.
+   * @param treeReuse Whether to keep the subtree of the next position across searches.
+   * @param seed The seed of the random moves.
+   */
+  public MonteCarloTreeSearch(final int capacity, final boolean treeReuse, final long seed) {
+    this.capacity = capacity;
+    this.treeReuse = treeReuse;
+    children = new int[(capacity + 1) * WIDTH];
+    visits = new int[capacity + 1];
+    rewards = new int[capacity + 1];
+    states = new byte[capacity + 1];
+    if (treeReuse) {
+      spareChildren = new int[children.length];
+      spareVisits = new int[visits.length];
+      spareRewards = new int[rewards.length];
+      spareStates = new byte[states.length];
+    }
+    random = seed == 0 ? 1L : seed;
+    clear();
+  }
+
+  /**
+   * Clears the tree.
+   */
+  public void clear() {
+    size = ROOT + 1;
+    resetNode(ROOT);
+    treePlayer = -1;
+  }
+
+  /**
+   * Searches the position for the best column of the player to move until the iteration budget or
+   * the deadline is reached. At least one iteration is run. The position is not changed.
+   *
+   * @param position The position to search.
+   * @param player The index of the player to move, 0 or 1.
+   * @param iterationBudget The maximum number of iterations, 0 or less for no limit.
+   * @param deadlineNanos The value of System.nanoTime() to stop at, 0 for no deadline.
+   * @return The search result, whose nodes are the iterations, i.e. rollouts, of this search, whose
+   *         depth is the number of nodes of the tree and whose score is the expected reward of the
+   *         best column in thousandths. The column is -1 if there is no column to drop.
+   */
+  public SearchResult search(final BitBoard position, final int player, final long iterationBudget,
+      final long deadlineNanos) {
+    final long start = System.nanoTime();
+    if (position.isWon() || position.isFull()) {
+      return new SearchResult.Builder().column(-1).elapsedNanos(System.nanoTime() - start).build();
+    }
+    moveRoot(position, player);
+    long iterations = 0;
+    do {
+      iterate(position, player);
+      iterations++;
+    } while ((iterationBudget <= 0 || iterations < iterationBudget)
+        && (deadlineNanos == 0 || (iterations & (DEADLINE_CHECK_INTERVAL - 1)) != 0
+            || System.nanoTime() - deadlineNanos < 0));
+    final int column = getBestColumn();
+    return new SearchResult.Builder().column(column)
+        .score((int) (getRootRewards(column) * 500L / Math.max(1, getRootVisits(column))))
+        .depth(size - ROOT).nodes(iterations).elapsedNanos(System.nanoTime() - start)
+        .principalVariation(new int[] {column}).build();
+  }
+
+  /**
+   * Returns the number of visits of the root column in the last search, 0 if it was never tried.
+   *
+   * @param column The root column.
+   * @return The number of visits.
+   */
+  public int getRootVisits(final int column) {
+    final int child = children[ROOT * WIDTH + column];
+    return child == 0 ? 0 : visits[child];
+  }
+
+  /**
+   * Returns the sum of the rewards of the root column in the last search, a win rewarding 2 and a
+   * draw 1.
+   *
+   * @param column The root column.
+   * @return The sum of the rewards.
+   */
+  public int getRootRewards(final int column) {
+    final int child = children[ROOT * WIDTH + column];
+    return child == 0 ? 0 : rewards[child];
+  }
+
+  /**
+   * Runs one iteration of selection, expansion, rollout and backpropagation.
+   *
+   * @param position The root position.
+   * @param player The index of the player to move at the root.
+   */
+  private void iterate(final BitBoard position, final int player) {
+    board.copyFrom(position);
+    int node = ROOT;
+    int length = 0;
+    path[length++] = node;
+    int toMove = player;
+    while (states[node] == ONGOING) {
+      final int column = selectColumn(node);
+      if (column < 0) {
+        break;
+      }
+      board.drop(column, toMove);
+      toMove = 1 - toMove;
+      int child = children[node * WIDTH + column];
+      if (child == 0) {
+        child = size++;
+        resetNode(child);
+        states[child] = board.isWon() ? WON : board.isFull() ? DRAWN : ONGOING;
+        children[node * WIDTH + column] = child;
+        path[length++] = child;
+        break;
+      }
+      node = child;
+      path[length++] = node;
+    }
+    final int winner = rollout(toMove);
+    for (int i = length - 1; i >= 0; i--) {
+      final int mover = i % 2 == 1 ? player : 1 - player;
+      visits[path[i]]++;
+      rewards[path[i]] += winner == mover ? 2 : winner < 0 ? 1 : 0;
+    }
+  }
+
+  /**
+   * Selects the column to follow from the node: a random untried column if any and the tree isn't
+   * full, otherwise the child with the best UCT value.
+   *
+   * @param node The node, where the game isn't over.
+   * @return The column, -1 if the node has no child and the tree is full.
+   */
+  private int selectColumn(final int node) {
+    final int offset = node * WIDTH;
+    if (size <= capacity) {
+      int untried = 0;
+      for (int column = 0; column < WIDTH; column++) {
+        if (children[offset + column] == 0 && board.canDrop(column)) {
+          untried++;
+        }
+      }
+      if (untried > 0) {
+        int pick = nextInt(untried);
+        for (int column = 0; column < WIDTH; column++) {
+          if (children[offset + column] == 0 && board.canDrop(column) && pick-- == 0) {
+            return column;
+          }
+        }
+      }
+    }
+    final double logVisits = Math.log(Math.max(1, visits[node]));
+    int best = -1;
+    double bestValue = Double.NEGATIVE_INFINITY;
+    for (int column = 0; column < WIDTH; column++) {
+      final int child = children[offset + column];
+      if (child != 0) {
+        final double value = rewards[child] / (2.0 * visits[child])
+            + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+        if (value > bestValue) {
+          bestValue = value;
+          best = column;
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Plays random moves on the board to the end of the game.
+   *
+   * @param toMove The index of the player to move.
+   * @return The index of the winner, -1 for a draw.
+   */
+  private int rollout(int toMove) {
+    while (!board.isWon() && !board.isFull()) {
+      int column = nextInt(WIDTH);
+      while (!board.canDrop(column)) {
+        column = nextInt(WIDTH);
+      }
+      board.drop(column, toMove);
+      toMove = 1 - toMove;
+    }
+    return board.isWon() ? 1 - toMove : -1;
+  }
+
+  /**
+   * Returns the root column visited the most, or the first column to drop if the tree couldn't
+   * grow.
+   *
+   * @return The best column.
+   */
+  private int getBestColumn() {
+    int best = -1;
+    for (int column = 0; column < WIDTH; column++) {
+      if (treeRoot.canDrop(column) && (best < 0 || getRootVisits(column) > getRootVisits(best))) {
+        best = column;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Moves the root of the tree to the position. The subtree of the position is kept if tree reuse
+   * is on and the position follows the previous root by moves in the tree, otherwise the tree is
+   * cleared.
+   *
+   * @param position The new root position.
+   * @param player The index of the player to move at the new root.
+   */
+  private void moveRoot(final BitBoard position, final int player) {
+    int node = treeReuse && treePlayer >= 0 && isFollowing(position, player) ? ROOT : 0;
+    for (int i = treeRoot.getMoveCount(); node != 0 && i < position.getMoveCount(); i++) {
+      node = children[node * WIDTH + position.getColumnAt(i)];
+    }
+    if (node == 0) {
+      clear();
+    } else if (node != ROOT) {
+      compact(node);
+    }
+    treeRoot.copyFrom(position);
+    treePlayer = player;
+  }
+
+  /**
+   * Checks whether the position follows the previous root, i.e. its history starts with the moves
+   * of the previous root and the player to move matches.
+   *
+   * @param position The position.
+   * @param player The index of the player to move at the position.
+   * @return A boolean indicating the status.
+   */
+  private boolean isFollowing(final BitBoard position, final int player) {
+    final int moveCount = treeRoot.getMoveCount();
+    if (position.getMoveCount() < moveCount
+        || player != (treePlayer ^ ((position.getMoveCount() - moveCount) & 1))) {
+      return false;
+    }
+    for (int i = 0; i < moveCount; i++) {
+      if (position.getColumnAt(i) != treeRoot.getColumnAt(i)
+          || position.getPlayerAt(i) != treeRoot.getPlayerAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copies the subtree of the node into the spare arrays in breadth-first order, with the node as
+   * the new root, and swaps the arrays.
+   *
+   * @param node The new root node.
+   */
+  private void compact(final int node) {
+    int copied = ROOT;
+    copyNode(node, copied++);
+    for (int i = ROOT; i < copied; i++) {
+      for (int column = 0; column < WIDTH; column++) {
+        final int child = spareChildren[i * WIDTH + column];
+        if (child != 0) {
+          copyNode(child, copied);
+          spareChildren[i * WIDTH + column] = copied++;
+        }
+      }
+    }
+    int[] swap = children;
+    children = spareChildren;
+    spareChildren = swap;
+    swap = visits;
+    visits = spareVisits;
+    spareVisits = swap;
+    swap = rewards;
+    rewards = spareRewards;
+    spareRewards = swap;
+    final byte[] swapStates = states;
+    states = spareStates;
+    spareStates = swapStates;
+    size = copied;
+  }
+
+  /**
+   * Copies a node of the arrays into the spare arrays, with the children still indexing the arrays.
+   *
+   * @param from The index of the node in the arrays.
+   * @param to The index of the node in the spare arrays.
+   */
+  private void copyNode(final int from, final int to) {
+    System.arraycopy(children, from * WIDTH, spareChildren, to * WIDTH, WIDTH);
+    spareVisits[to] = visits[from];
+    spareRewards[to] = rewards[from];
+    spareStates[to] = states[from];
+  }
+
+  /**
+   * Resets a node to have no child, visit nor reward.
+   *
+   * @param node The node.
+   */
+  private void resetNode(final int node) {
+    for (int column = 0; column < WIDTH; column++) {
+      children[node * WIDTH + column] = 0;
+    }
+    visits[node] = 0;
+    rewards[node] = 0;
+    states[node] = ONGOING;
+  }
+
+  /**
+   * Returns a random int from 0 inclusive to the bound exclusive with a xorshift generator.
+   *
+   * @param bound The bound, at least 1.
+   * @return The random int.
+   */
+  private int nextInt(final int bound) {
+    random ^= random << 13;
+    random ^= random >>> 7;
+    random ^= random << 17;
+    return (int) ((random >>> 33) % bound);
+  }
+}
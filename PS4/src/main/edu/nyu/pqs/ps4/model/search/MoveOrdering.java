@@ -0,0 +1,38 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+
+/**
+ * This is the interface of the component that decides in which order {@link NegamaxSearch} tries
+ * the columns of a node. Alpha-beta prunes the most when the best column comes first, so an
+ * ordering may learn from the cutoffs of the search. An instance serves one search at a time.
+ */
+public interface MoveOrdering {
+  /**
+   * Notifies the ordering that a search from a new root or to a new depth starts.
+   */
+  void newSearch();
+
+  /**
+   * Writes the columns a chip can be dropped to in the order to try them.
+   *
+   * @param board The position of the node.
+   * @param player The index of the player to move.
+   * @param ply The number of plies from the root.
+   * @param tableColumn The best column stored in the transposition table for the node, -1 if none.
+   * @param columns The array to write the columns to, of at least COLUMN_NUMBER elements.
+   * @return The number of columns written.
+   */
+  int order(BitBoard board, int player, int ply, int tableColumn, int[] columns);
+
+  /**
+   * Notifies the ordering that a column caused a beta cutoff at a node.
+   *
+   * @param board The position of the node, with the column not dropped.
+   * @param player The index of the player to move.
+   * @param ply The number of plies from the root.
+   * @param column The column that caused the cutoff.
+   * @param depth The remaining depth of the node.
+   */
+  void cutoff(BitBoard board, int player, int ply, int column, int depth);
+}
@@ -0,0 +1,336 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Zobrist;
+import java.util.Objects;
+
+/**
+ * This class searches a bitboard position with depth-limited negamax and alpha-beta pruning. Scores
+ * are from the view of the player to move: a win found after p plies from the root scores WIN_SCORE
+ * - p, so that faster wins and slower losses are preferred, and positions at the depth limit are
+ * scored by a static evaluation. The search can be limited by a node budget or a deadline, in which
+ * case the best column among the root columns searched so far is returned. An optional
+ * transposition table keeps the scores of positions reached through different move orders, under
+ * the canonical key that a position shares with its mirror. The
+ * principal variation of the search is collected, and the one of a previous search can be given to
+ * be tried first. The other columns are tried in the order of a {@link MoveOrdering}, which learns
+ * from the cutoffs. Another thread may stop the search, which then ends as if aborted.
+ */
+public class NegamaxSearch implements Search {
+  /**
+   * Score of a win right at the root. Any score whose absolute value is close to it is a forced win
+   * or loss.
+   */
+  public static final int WIN_SCORE = 1_000_000;
+  private static final int INFINITY = WIN_SCORE + 1;
+  private static final int MAX_PLY = BitBoard.CELL_NUMBER;
+  private static final int WIN_THRESHOLD = WIN_SCORE - MAX_PLY - 1;
+  private static final int DEADLINE_CHECK_INTERVAL = 1 << 10;
+  private final long nodeBudget;
+  private final TranspositionTable table;
+  private final MoveOrdering moveOrdering;
+  private final int[][] moveLists = new int[MAX_PLY + 1][ConnectFourSetting.COLUMN_NUMBER];
+  private final int[][] pvTable = new int[MAX_PLY + 1][MAX_PLY + 1];
+  private final int[] pvLength = new int[MAX_PLY + 1];
+  private BitBoard board;
+  private long nodes;
+  private long deadline;
+  private boolean aborted;
+  private volatile boolean stopped;
+  private int[] previousPv;
+  private boolean followPv;
+  private int rootScore;
+
+  /**
+   * Constructor of a search without node budget.
+   */
+  public NegamaxSearch() {
+    this(0, null);
+  }
+
+  /**
+   * Constructor of a search ordering the columns with the default {@link HeuristicMoveOrdering}.
+   *
+   * @param nodeBudget The maximum number of nodes to search, 0 or less for no limit.
+   * @param table The transposition table to use, null for none.
+   */
+  public NegamaxSearch(final long nodeBudget, final TranspositionTable table) {
+    this(nodeBudget, table, new HeuristicMoveOrdering.Builder().build());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeBudget The maximum number of nodes to search, 0 or less for no limit.
+   * @param table The transposition table to use, null for none.
+   * @param moveOrdering The ordering of the columns, used by this search only.
+   */
+  public NegamaxSearch(final long nodeBudget, final TranspositionTable table,
+      final MoveOrdering moveOrdering) {
+    this.nodeBudget = nodeBudget;
+    this.table = table;
+    this.moveOrdering = Objects.requireNonNull(moveOrdering);
+  }
+
+  /**
+   * Searches the position for the best column of the player to move. The position is restored
+   * after the search.
+   *
+   * @param position The position to search.
+   * @param player The index of the player to move, 0 or 1.
+   * @param depth The number of plies to search, at least 1.
+   * @return The search result, whose column is -1 if there is no column to drop.
+   */
+  public SearchResult search(final BitBoard position, final int player, final int depth) {
+    return search(position, player, depth, 0L, new int[0]);
+  }
+
+  @Override
+  public SearchResult search(final BitBoard position, final int player, final int depth,
+      final long deadlineNanos, final int[] principalVariation) {
+    final long start = System.nanoTime();
+    board = position;
+    nodes = 0;
+    deadline = deadlineNanos;
+    aborted = false;
+    previousPv = principalVariation;
+    followPv = true;
+    rootScore = -INFINITY;
+    pvLength[0] = 0;
+    moveOrdering.newSearch();
+    negamax(player, depth, -INFINITY, INFINITY, 0);
+    int column = pvLength[0] > 0 ? pvTable[0][0] : -1;
+    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER && column < 0; i++) {
+      column = board.canDrop(i) && !board.isWon() ? i : -1;
+    }
+    return new SearchResult.Builder().column(column).score(rootScore).depth(depth).nodes(nodes)
+        .elapsedNanos(System.nanoTime() - start).principalVariation(getPrincipalVariation(0))
+        .aborted(aborted).build();
+  }
+
+  /**
+   * Returns the number of nodes searched by the last or current search.
+   *
+   * @return The number of nodes.
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Stops the running search, or the next one if none is running, from another thread. The search
+   * notices it within DEADLINE_CHECK_INTERVAL nodes, and all later searches of this instance are
+   * aborted as well.
+   */
+  public void stop() {
+    stopped = true;
+  }
+
+  /**
+   * Searches a position below the root within a window, for searches that split the root. The
+   * position is restored after the search.
+   *
+   * @param position The position to search, where the previous move didn't win.
+   * @param player The index of the player to move.
+   * @param depth The remaining depth.
+   * @param alpha The lower bound of the score.
+   * @param beta The upper bound of the score.
+   * @param ply The number of plies from the root, at least 1.
+   * @param deadlineNanos The value of System.nanoTime() to abort the search at, 0 for no deadline.
+   * @param principalVariation The columns of a previous principal variation from the root.
+   * @return The score of the position from the view of the player to move, 0 if aborted.
+   */
+  int searchNode(final BitBoard position, final int player, final int depth, final int alpha,
+      final int beta, final int ply, final long deadlineNanos, final int[] principalVariation) {
+    board = position;
+    nodes = 0;
+    deadline = deadlineNanos;
+    aborted = false;
+    previousPv = principalVariation;
+    followPv = true;
+    moveOrdering.newSearch();
+    return negamax(player, depth, alpha, beta, ply);
+  }
+
+  /**
+   * Returns whether the last search was aborted.
+   *
+   * @return A boolean indicating the status.
+   */
+  boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * Returns the principal variation of the last search from the ply.
+   *
+   * @param ply The number of plies from the root.
+   * @return The columns of the principal variation from the ply.
+   */
+  int[] getPrincipalVariation(final int ply) {
+    final int[] pv = new int[Math.max(0, pvLength[ply] - ply)];
+    System.arraycopy(pvTable[ply], ply, pv, 0, pv.length);
+    return pv;
+  }
+
+  /**
+   * Searches the position with the player to move, where the previous move didn't win. At the
+   * root, the best column found so far is kept in the principal variation even if the search is
+   * aborted.
+   *
+   * @param player The index of the player to move.
+   * @param depth The remaining depth.
+   * @param alpha The lower bound of the score.
+   * @param beta The upper bound of the score.
+   * @param ply The number of plies from the root.
+   * @return The score of the position from the view of the player to move.
+   */
+  private int negamax(final int player, final int depth, int alpha, final int beta,
+      final int ply) {
+    pvLength[ply] = ply;
+    if ((++nodes > nodeBudget && nodeBudget > 0)
+        || ((nodes & (DEADLINE_CHECK_INTERVAL - 1)) == 0
+            && (stopped || (deadline != 0 && System.nanoTime() - deadline >= 0)))) {
+      aborted = true;
+      return 0;
+    }
+    if (board.isFull()) {
+      return 0;
+    }
+    if (depth <= 0) {
+      return evaluate(player);
+    }
+    final int alphaOrigin = alpha;
+    final long key = board.getCanonicalKey() ^ (player == 0 ? 0L : Zobrist.SIDE);
+    final boolean mirrored = board.isMirrored();
+    int tableColumn = -1;
+    if (table != null) {
+      final long entry = table.probe(key);
+      if (entry != TranspositionTable.NO_ENTRY) {
+        tableColumn = TranspositionTable.getColumn(entry);
+        if (mirrored) {
+          tableColumn = BitBoard.mirror(tableColumn);
+        }
+        if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+          final int score = fromTable(TranspositionTable.getScore(entry), ply);
+          final int bound = TranspositionTable.getBound(entry);
+          if (bound == TranspositionTable.EXACT
+              || (bound == TranspositionTable.LOWER && score >= beta)
+              || (bound == TranspositionTable.UPPER && score <= alpha)) {
+            return score;
+          }
+        }
+      }
+    }
+    final int pvColumn = followPv && ply < previousPv.length ? previousPv[ply] : -1;
+    final int[] columns = moveLists[ply];
+    final int columnNumber = moveOrdering.order(board, player, ply, tableColumn, columns);
+    moveToFront(columns, columnNumber, pvColumn);
+    int best = -INFINITY;
+    int bestColumn = -1;
+    for (int i = 0; i < columnNumber; i++) {
+      final int column = columns[i];
+      if (column != pvColumn) {
+        followPv = false;
+      }
+      if (board.drop(column, player) < 0) {
+        continue;
+      }
+      pvLength[ply + 1] = ply + 1;
+      final int score = board.isWon() ? WIN_SCORE - ply - 1
+          : -negamax(1 - player, depth - 1, -beta, -alpha, ply + 1);
+      board.cancelLastMove();
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestColumn = column;
+        if (score > alpha) {
+          alpha = score;
+          updatePv(ply, column);
+          if (ply == 0) {
+            rootScore = score;
+          }
+          if (alpha >= beta) {
+            moveOrdering.cutoff(board, player, ply, column, depth);
+            break;
+          }
+        }
+      }
+    }
+    if (table != null) {
+      final int bound = best <= alphaOrigin ? TranspositionTable.UPPER
+          : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+      table.store(key, depth, bound, toTable(best, ply),
+          mirrored ? BitBoard.mirror(bestColumn) : bestColumn);
+    }
+    return best;
+  }
+
+  /**
+   * Moves the column to the front of the ordered columns, keeping the order of the others, if it
+   * is among them.
+   *
+   * @param columns The ordered columns.
+   * @param columnNumber The number of columns.
+   * @param column The column to try first, -1 for none.
+   */
+  private static void moveToFront(final int[] columns, final int columnNumber, final int column) {
+    for (int i = 0; column >= 0 && i < columnNumber; i++) {
+      if (columns[i] == column) {
+        System.arraycopy(columns, 0, columns, 1, i);
+        columns[0] = column;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Sets the principal variation of the ply to the column followed by the principal variation of
+   * the next ply.
+   *
+   * @param ply The number of plies from the root.
+   * @param column The best column of the ply.
+   */
+  private void updatePv(final int ply, final int column) {
+    pvTable[ply][ply] = column;
+    final int length = pvLength[ply + 1];
+    System.arraycopy(pvTable[ply + 1], ply + 1, pvTable[ply], ply + 1, length - ply - 1);
+    pvLength[ply] = length;
+  }
+
+  /**
+   * Converts a score from the view of the root to the view of the node to store, so that a win in
+   * the table is stored as the distance from the node rather than from the root.
+   *
+   * @param score The score from the view of the root.
+   * @param ply The number of plies from the root to the node.
+   * @return The score to store.
+   */
+  private static int toTable(final int score, final int ply) {
+    return score > WIN_THRESHOLD ? score + ply : score < -WIN_THRESHOLD ? score - ply : score;
+  }
+
+  /**
+   * Converts a score stored in the table to the view of the root.
+   *
+   * @param score The stored score.
+   * @param ply The number of plies from the root to the node.
+   * @return The score from the view of the root.
+   */
+  private static int fromTable(final int score, final int ply) {
+    return score > WIN_THRESHOLD ? score - ply : score < -WIN_THRESHOLD ? score + ply : score;
+  }
+
+  /**
+   * Evaluates a quiet position by its lines, threats and center control, see {@link Evaluation}.
+   *
+   * @param player The index of the player to move.
+   * @return The score of the position from the view of the player to move.
+   */
+  private int evaluate(final int player) {
+    return Evaluation.evaluate(board, player);
+  }
+}
@@ -0,0 +1,8 @@
+package edu.nyu.pqs.ps4.model.search;
+
+/**
+ * This class is the game-theoretic outcomes of a position for the player to move.
+ */
+public enum Outcome {
+  WIN, LOSS, DRAW
+}
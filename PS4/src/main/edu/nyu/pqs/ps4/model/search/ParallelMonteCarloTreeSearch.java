@@ -0,0 +1,100 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * This class searches a bitboard position with root-parallel Monte Carlo tree search. The calling
+ * thread and THREADS - 1 helper threads each grow an independent {@link MonteCarloTreeSearch} tree
+ * with its own seed and its own copy of the position, so they share no mutable state and take no
+ * lock. When all of them reach the budget, the visits and rewards of the root columns are summed
+ * over the trees and the column visited the most is the best column.
+ */
+public class ParallelMonteCarloTreeSearch {
+  private final ExecutorService executor;
+  private final MonteCarloTreeSearch[] trees;
+
+  /**
+   * Constructor.
+   *
+   * @param executor The executor to run the helpers in, with at least THREADS - 1 threads, null if
+   *        there is one thread.
+   * @param threads The number of threads to search with, including the calling thread.
+   * @param capacity The maximum number of nodes of each tree.
+   * @param treeReuse Whether each tree keeps the subtree of the next position across searches.
+   * @param seed The seed of the random moves, from which the seed of each tree is derived.
+   */
+  public ParallelMonteCarloTreeSearch(final ExecutorService executor, final int threads,
+      final int capacity, final boolean treeReuse, final long seed) {
+    this.executor = executor;
+    trees = new MonteCarloTreeSearch[threads];
+    for (int i = 0; i < threads; i++) {
+      trees[i] = new MonteCarloTreeSearch(capacity, treeReuse, seed + i * 0x9E3779B97F4A7C15L);
+    }
+  }
+
+  /**
+   * Searches the position for the best column of the player to move with every tree until the
+   * iteration budget, which is per tree, or the deadline is reached. The position is not changed.
+   *
+   * @param position The position to search.
+   * @param player The index of the player to move, 0 or 1.
+   * @param iterationBudget The maximum number of iterations per tree, 0 or less for no limit.
+   * @param deadlineNanos The value of System.nanoTime() to stop at, 0 for no deadline.
+   * @return The search result, whose nodes are the iterations of all trees, whose depth is the
+   *         number of nodes of all trees and whose score is the expected reward of the best column
+   *         in thousandths over all trees. The column is -1 if there is no column to drop.
+   */
+  public SearchResult search(final BitBoard position, final int player, final long iterationBudget,
+      final long deadlineNanos) {
+    final long start = System.nanoTime();
+    final List<Future<SearchResult>> futures = new ArrayList<>();
+    for (int i = 1; i < trees.length; i++) {
+      final MonteCarloTreeSearch tree = trees[i];
+      final BitBoard copy = new BitBoard(position);
+      futures.add(executor.submit(() -> tree.search(copy, player, iterationBudget, deadlineNanos)));
+    }
+    final SearchResult first =
+        trees[0].search(new BitBoard(position), player, iterationBudget, deadlineNanos);
+    long nodes = first.getNodes();
+    int treeNodes = first.getDepth();
+    for (final Future<SearchResult> future : futures) {
+      try {
+        final SearchResult result = future.get();
+        nodes += result.getNodes();
+        treeNodes += result.getDepth();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (final ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    if (first.getColumn() < 0) {
+      return first;
+    }
+    int best = -1;
+    long bestVisits = -1;
+    long bestRewards = 0;
+    for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      long visits = 0;
+      long rewards = 0;
+      for (final MonteCarloTreeSearch tree : trees) {
+        visits += tree.getRootVisits(column);
+        rewards += tree.getRootRewards(column);
+      }
+      if (position.canDrop(column) && visits > bestVisits) {
+        best = column;
+        bestVisits = visits;
+        bestRewards = rewards;
+      }
+    }
+    return new SearchResult.Builder().column(best)
+        .score((int) (bestRewards * 500L / Math.max(1, bestVisits))).depth(treeNodes).nodes(nodes)
+        .elapsedNanos(System.nanoTime() - start).principalVariation(new int[] {best}).build();
+  }
+}
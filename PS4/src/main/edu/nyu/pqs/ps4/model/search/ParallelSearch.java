@@ -0,0 +1,143 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class searches a bitboard position by splitting the root columns across a
+ * {@link ForkJoinPool}, following young brothers wait: the first column, which is the first column
+ * of the previous principal variation if any, is searched alone to get a bound, and then the other
+ * columns are searched in parallel with that bound. Every column is searched on its own copy of the
+ * position by its own {@link NegamaxSearch}, and all of them share a transposition table that is
+ * safe without locks.
+ */
+public class ParallelSearch implements Search {
+  private static final int INFINITY = NegamaxSearch.WIN_SCORE + 1;
+  private final ForkJoinPool pool;
+  private final TranspositionTable table;
+
+  /**
+   * Constructor.
+   *
+   * @param pool The pool to search the root columns in.
+   * @param table The transposition table to share among the threads, null for none.
+   */
+  public ParallelSearch(final ForkJoinPool pool, final TranspositionTable table) {
+    this.pool = pool;
+    this.table = table;
+  }
+
+  @Override
+  public SearchResult search(final BitBoard position, final int player, final int depth,
+      final long deadlineNanos, final int[] principalVariation) {
+    final long start = System.nanoTime();
+    final List<ColumnTask> tasks = new ArrayList<>();
+    final int pvColumn = principalVariation.length > 0 ? principalVariation[0] : -1;
+    if (position.canDrop(pvColumn) && !position.isWon()) {
+      tasks.add(new ColumnTask(position, player, depth, pvColumn, deadlineNanos,
+          principalVariation));
+    }
+    for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      if (column != pvColumn && position.canDrop(column) && !position.isWon()) {
+        tasks.add(new ColumnTask(position, player, depth, column, deadlineNanos, new int[0]));
+      }
+    }
+    if (tasks.isEmpty()) {
+      return new SearchResult.Builder().column(-1).score(-INFINITY).depth(depth)
+          .elapsedNanos(System.nanoTime() - start).build();
+    }
+    final ColumnTask first = tasks.get(0);
+    first.alpha = -INFINITY;
+    pool.invoke(first);
+    ColumnTask best = first;
+    if (!first.aborted && tasks.size() > 1) {
+      final List<ColumnTask> brothers = tasks.subList(1, tasks.size());
+      for (final ColumnTask task : brothers) {
+        task.alpha = first.score;
+      }
+      pool.invoke(new RecursiveAction() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+          invokeAll(brothers);
+        }
+      });
+    }
+    long nodes = 0;
+    boolean aborted = false;
+    for (final ColumnTask task : tasks) {
+      nodes += task.nodes;
+      aborted |= task.aborted;
+      if (!task.aborted && task.score > best.score) {
+        best = task;
+      }
+    }
+    return new SearchResult.Builder().column(best.column).score(best.score).depth(depth)
+        .nodes(nodes).elapsedNanos(System.nanoTime() - start)
+        .principalVariation(best.principalVariation).aborted(aborted).build();
+  }
+
+  /**
+   * This class is a task searching one root column on a copy of the position. Scores above the
+   * lower bound alpha are exact, and scores not above it only tell the column is not better.
+   */
+  private final class ColumnTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final BitBoard position;
+    private final int player;
+    private final int depth;
+    private final int column;
+    private final long deadlineNanos;
+    private final int[] previousPv;
+    private int alpha;
+    private int score;
+    private long nodes;
+    private boolean aborted;
+    private int[] principalVariation = new int[0];
+
+    /**
+     * Constructor.
+     *
+     * @param position The root position, which is copied.
+     * @param player The index of the player to move at the root.
+     * @param depth The depth of the root.
+     * @param column The root column to search.
+     * @param deadlineNanos The value of System.nanoTime() to abort the search at, 0 for none.
+     * @param previousPv The previous principal variation from the root if it starts with the
+     *        column, empty otherwise.
+     */
+    private ColumnTask(final BitBoard position, final int player, final int depth,
+        final int column, final long deadlineNanos, final int[] previousPv) {
+      this.position = new BitBoard(position);
+      this.player = player;
+      this.depth = depth;
+      this.column = column;
+      this.deadlineNanos = deadlineNanos;
+      this.previousPv = previousPv;
+    }
+
+    @Override
+    protected void compute() {
+      position.drop(column, player);
+      if (position.isWon()) {
+        score = NegamaxSearch.WIN_SCORE - 1;
+        principalVariation = new int[] {column};
+        return;
+      }
+      final NegamaxSearch search = new NegamaxSearch(0, table);
+      score = -search.searchNode(position, 1 - player, depth - 1, -INFINITY, -alpha, 1,
+          deadlineNanos, previousPv);
+      nodes = search.getNodes();
+      aborted = search.isAborted();
+      final int[] childPv = search.getPrincipalVariation(1);
+      principalVariation = new int[childPv.length + 1];
+      principalVariation[0] = column;
+      System.arraycopy(childPv, 0, principalVariation, 1, childPv.length);
+    }
+  }
+}
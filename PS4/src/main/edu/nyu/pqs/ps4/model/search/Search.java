@@ -0,0 +1,22 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+
+/**
+ * This is the interface of a search that finds the best column of a bitboard position to a depth.
+ */
+public interface Search {
+  /**
+   * Searches the position for the best column of the player to move, trying the columns of a
+   * previous principal variation first. The position is restored after the search.
+   *
+   * @param position The position to search.
+   * @param player The index of the player to move, 0 or 1.
+   * @param depth The number of plies to search, at least 1.
+   * @param deadlineNanos The value of System.nanoTime() to abort the search at, 0 for no deadline.
+   * @param principalVariation The columns of a previous principal variation, may be empty.
+   * @return The search result, whose column is -1 if there is no column to drop.
+   */
+  SearchResult search(BitBoard position, int player, int depth, long deadlineNanos,
+      int[] principalVariation);
+}
@@ -0,0 +1,218 @@
+package edu.nyu.pqs.ps4.model.search;
+
+/**
+ * This class consists of elements that describe a finished search, including the best column, its
+ * score, the depth searched, the number of nodes searched, the time spent, the principal variation
+ * and whether the search was aborted before completing the depth.
+ */
+public class SearchResult {
+  private final int column;
+  private final int score;
+  private final int depth;
+  private final long nodes;
+  private final long elapsedNanos;
+  private final int[] principalVariation;
+  private final boolean aborted;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private int column = -1;
+    private int score;
+    private int depth;
+    private long nodes;
+    private long elapsedNanos;
+    private int[] principalVariation = new int[0];
+    private boolean aborted;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the best column when building an instance.
+     *
+     * @param c The input column.
+     * @return The altered builder class.
+     */
+    public Builder column(final int c) {
+      column = c;
+      return this;
+    }
+
+    /**
+     * Sets the score of the best column when building an instance.
+     *
+     * @param s The input score.
+     * @return The altered builder class.
+     */
+    public Builder score(final int s) {
+      score = s;
+      return this;
+    }
+
+    /**
+     * Sets the depth searched when building an instance.
+     *
+     * @param d The input depth.
+     * @return The altered builder class.
+     */
+    public Builder depth(final int d) {
+      depth = d;
+      return this;
+    }
+
+    /**
+     * Sets the number of nodes searched when building an instance.
+     *
+     * @param n The input number of nodes.
+     * @return The altered builder class.
+     */
+    public Builder nodes(final long n) {
+      nodes = n;
+      return this;
+    }
+
+    /**
+     * Sets the time spent in nanoseconds when building an instance.
+     *
+     * @param e The input time spent.
+     * @return The altered builder class.
+     */
+    public Builder elapsedNanos(final long e) {
+      elapsedNanos = e;
+      return this;
+    }
+
+    /**
+     * Sets the principal variation when building an instance.
+     *
+     * @param pv The input columns of the principal variation.
+     * @return The altered builder class.
+     */
+    public Builder principalVariation(final int[] pv) {
+      principalVariation = pv.clone();
+      return this;
+    }
+
+    /**
+     * Sets whether the search was aborted when building an instance.
+     *
+     * @param a The input aborted status.
+     * @return The altered builder class.
+     */
+    public Builder aborted(final boolean a) {
+      aborted = a;
+      return this;
+    }
+
+    /**
+     * Builds the search result instance.
+     *
+     * @return The built search result instance.
+     */
+    public SearchResult build() {
+      return new SearchResult(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private SearchResult(final Builder builder) {
+    column = builder.column;
+    score = builder.score;
+    depth = builder.depth;
+    nodes = builder.nodes;
+    elapsedNanos = builder.elapsedNanos;
+    principalVariation = builder.principalVariation;
+    aborted = builder.aborted;
+  }
+
+  /**
+   * Returns the best column, -1 if there is no column to drop.
+   *
+   * @return The best column.
+   */
+  public int getColumn() {
+    return column;
+  }
+
+  /**
+   * Returns the score of the best column from the view of the player to move.
+   *
+   * @return The score.
+   */
+  public int getScore() {
+    return score;
+  }
+
+  /**
+   * Returns the depth searched.
+   *
+   * @return The depth.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Returns the number of nodes searched.
+   *
+   * @return The number of nodes.
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns the time spent in nanoseconds.
+   *
+   * @return The time spent.
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the columns of the principal variation, starting with the best column.
+   *
+   * @return The columns of the principal variation.
+   */
+  public int[] getPrincipalVariation() {
+    return principalVariation.clone();
+  }
+
+  /**
+   * Returns whether the search was aborted by a node budget or deadline before completing the
+   * depth.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * Returns the number of nodes searched per second.
+   *
+   * @return The number of nodes searched per second.
+   */
+  public double getNodesPerSecond() {
+    return elapsedNanos > 0 ? nodes * 1e9 / elapsedNanos : 0;
+  }
+
+  /**
+   * Returns the string representation of the search result. The string follows the format:
+   * "{column: C, score: S, depth: D, nodes: N, nps: R}" where R is the nodes searched per second.
+   */
+  @Override
+  public String toString() {
+    return String.format("{column: %d, score: %d, depth: %d, nodes: %d, nps: %.0f}", column, score,
+        depth, nodes, getNodesPerSecond());
+  }
+}
@@ -0,0 +1,163 @@
+package edu.nyu.pqs.ps4.model.search;
+
+/**
+ * This class consists of elements that describe a solved position, including the outcome for the
+ * player to move under perfect play, the number of plies to the end of the game, the best column,
+ * the number of nodes searched and the time spent.
+ */
+public class Solution {
+  private final Outcome outcome;
+  private final int pliesToEnd;
+  private final int column;
+  private final long nodes;
+  private final long elapsedNanos;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private Outcome outcome = Outcome.DRAW;
+    private int pliesToEnd;
+    private int column = -1;
+    private long nodes;
+    private long elapsedNanos;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the outcome for the player to move when building an instance.
+     *
+     * @param o The input outcome.
+     * @return The altered builder class.
+     */
+    public Builder outcome(final Outcome o) {
+      outcome = o;
+      return this;
+    }
+
+    /**
+     * Sets the number of plies to the end of the game when building an instance.
+     *
+     * @param p The input number of plies.
+     * @return The altered builder class.
+     */
+    public Builder pliesToEnd(final int p) {
+      pliesToEnd = p;
+      return this;
+    }
+
+    /**
+     * Sets the best column when building an instance.
+     *
+     * @param c The input column.
+     * @return The altered builder class.
+     */
+    public Builder column(final int c) {
+      column = c;
+      return this;
+    }
+
+    /**
+     * Sets the number of nodes searched when building an instance.
+     *
+     * @param n The input number of nodes.
+     * @return The altered builder class.
+     */
+    public Builder nodes(final long n) {
+      nodes = n;
+      return this;
+    }
+
+    /**
+     * Sets the time spent in nanoseconds when building an instance.
+     *
+     * @param e The input time spent.
+     * @return The altered builder class.
+     */
+    public Builder elapsedNanos(final long e) {
+      elapsedNanos = e;
+      return this;
+    }
+
+    /**
+     * Builds the solution instance.
+     *
+     * @return The built solution instance.
+     */
+    public Solution build() {
+      return new Solution(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private Solution(final Builder builder) {
+    outcome = builder.outcome;
+    pliesToEnd = builder.pliesToEnd;
+    column = builder.column;
+    nodes = builder.nodes;
+    elapsedNanos = builder.elapsedNanos;
+  }
+
+  /**
+   * Returns the outcome for the player to move under perfect play.
+   *
+   * @return The outcome.
+   */
+  public Outcome getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Returns the number of plies to the end of the game under perfect play, where the winner wins
+   * as fast as possible and the loser loses as slowly as possible. A draw ends with a full board.
+   *
+   * @return The number of plies to the end.
+   */
+  public int getPliesToEnd() {
+    return pliesToEnd;
+  }
+
+  /**
+   * Returns a best column, -1 if the game is already over.
+   *
+   * @return The best column.
+   */
+  public int getColumn() {
+    return column;
+  }
+
+  /**
+   * Returns the number of nodes searched.
+   *
+   * @return The number of nodes.
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns the time spent in nanoseconds.
+   *
+   * @return The time spent.
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the string representation of the solution. The string follows the format: "{outcome:
+   * O, plies: P, column: C, nodes: N}".
+   */
+  @Override
+  public String toString() {
+    return String.format("{outcome: %s, plies: %d, column: %d, nodes: %d}", outcome, pliesToEnd,
+        column, nodes);
+  }
+}
@@ -0,0 +1,252 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Zobrist;
+import java.awt.Color;
+
+/**
+ * This class solves a position exactly, returning the outcome for the player to move under perfect
+ * play and the number of plies to the end of the game. The score of a position is CELL_NUMBER + 1 -
+ * m if the player to move wins with the m-th chip of the game, its negation if the player loses, and
+ * 0 for a draw, so that faster wins and slower losses score better. The score is found by a
+ * sequence of null-window alpha-beta searches narrowing its range. The search looks one move ahead
+ * with the winning cells of both players to win at once, play a forced block or skip moves right
+ * below an opponent's winning cell, and it tries first the moves making the most winning cells,
+ * center columns first on ties. A transposition table keeps the bounds found across searches, a
+ * position and its mirror sharing their entry.
+ */
+public class Solver {
+  private static final int[] COLUMN_ORDER = getColumnOrder();
+  private final TranspositionTable table;
+  private final int[][] moves = new int[BitBoard.CELL_NUMBER][ConnectFourSetting.COLUMN_NUMBER];
+  private final int[][] moveScores =
+      new int[BitBoard.CELL_NUMBER][ConnectFourSetting.COLUMN_NUMBER];
+  private BitBoard board;
+  private long nodes;
+
+  /**
+   * Constructor.
+   *
+   * @param table The transposition table to keep the bounds in, which may be kept across solves.
+   */
+  public Solver(final TranspositionTable table) {
+    this.table = table;
+  }
+
+  /**
+   * Solves the position of a board for the player of the color to move.
+   *
+   * @param board The board to solve, which is not changed.
+   * @param color The color of the player to move.
+   * @return The solution.
+   */
+  public Solution solve(final Board board, final Color color) {
+    return solve(board.copyBitBoard(), Board.getPlayerIndex(color));
+  }
+
+  /**
+   * Solves the position for the player to move. The position is restored after the search.
+   *
+   * @param position The position to solve.
+   * @param player The index of the player to move, 0 or 1.
+   * @return The solution.
+   */
+  public Solution solve(final BitBoard position, final int player) {
+    final long start = System.nanoTime();
+    board = position;
+    nodes = 0;
+    if (board.isWon()) {
+      return new Solution.Builder().outcome(Outcome.LOSS).elapsedNanos(System.nanoTime() - start)
+          .build();
+    }
+    final int score = solveScore(player);
+    final int column = findBestColumn(player, score);
+    final Outcome outcome = score > 0 ? Outcome.WIN : score < 0 ? Outcome.LOSS : Outcome.DRAW;
+    final int pliesToEnd = score == 0 ? BitBoard.CELL_NUMBER - board.getMoveCount()
+        : BitBoard.CELL_NUMBER + 1 - Math.abs(score) - board.getMoveCount();
+    return new Solution.Builder().outcome(outcome).pliesToEnd(pliesToEnd).column(column)
+        .nodes(nodes).elapsedNanos(System.nanoTime() - start).build();
+  }
+
+  /**
+   * Finds the score of the position with null-window searches, halving the range of possible
+   * scores each time. The window is moved towards 0 first, where most scores of the game are.
+   *
+   * @param player The index of the player to move.
+   * @return The score of the position.
+   */
+  private int solveScore(final int player) {
+    int min = -(BitBoard.CELL_NUMBER - board.getMoveCount());
+    int max = BitBoard.CELL_NUMBER - board.getMoveCount();
+    while (min < max) {
+      int middle = min + (max - min) / 2;
+      if (middle <= 0 && min / 2 < middle) {
+        middle = min / 2;
+      } else if (middle >= 0 && max / 2 > middle) {
+        middle = max / 2;
+      }
+      final int score = negamax(player, middle, middle + 1);
+      if (score <= middle) {
+        max = score;
+      } else {
+        min = score;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Finds a column reaching the score of the position, checking every column with a null window.
+   *
+   * @param player The index of the player to move.
+   * @param score The score of the position.
+   * @return A best column, -1 if there is no column to drop.
+   */
+  private int findBestColumn(final int player, final int score) {
+    int fallback = -1;
+    for (final int column : COLUMN_ORDER) {
+      if (board.drop(column, player) < 0) {
+        continue;
+      }
+      final boolean best = board.isWon() ? score == BitBoard.CELL_NUMBER + 1 - board.getMoveCount()
+          : board.isFull() ? score == 0 : negamax(1 - player, -score, -score + 1) <= -score;
+      board.cancelLastMove();
+      if (best) {
+        return column;
+      }
+      fallback = fallback < 0 ? column : fallback;
+    }
+    return fallback;
+  }
+
+  /**
+   * Searches the score of the position with the player to move, where the previous move didn't win
+   * and the board isn't full. Scores not above alpha are upper bounds and scores not below beta are
+   * lower bounds.
+   *
+   * @param player The index of the player to move.
+   * @param alpha The lower bound of the window.
+   * @param beta The upper bound of the window.
+   * @return The score of the position from the view of the player to move.
+   */
+  private int negamax(final int player, int alpha, int beta) {
+    nodes++;
+    final int moveCount = board.getMoveCount();
+    final long playable = board.getPlayableCells();
+    if ((board.getWinningCells(player) & playable) != 0) {
+      return BitBoard.CELL_NUMBER - moveCount;
+    }
+    final long opponentWins = board.getWinningCells(1 - player);
+    long candidates = playable;
+    final long forced = playable & opponentWins;
+    if (forced != 0) {
+      if (Long.bitCount(forced) > 1) {
+        return -(BitBoard.CELL_NUMBER - moveCount - 1);
+      }
+      candidates = forced;
+    }
+    candidates &= ~(opponentWins >>> 1);
+    if (candidates == 0) {
+      return -(BitBoard.CELL_NUMBER - moveCount - 1);
+    }
+    if (moveCount + 2 >= BitBoard.CELL_NUMBER) {
+      return 0;
+    }
+    final int min = -Math.max(0, BitBoard.CELL_NUMBER - moveCount - 3);
+    final int max = Math.max(0, BitBoard.CELL_NUMBER - moveCount - 2);
+    alpha = Math.max(alpha, min);
+    beta = Math.min(beta, max);
+    if (alpha >= beta) {
+      return alpha;
+    }
+    final long key = board.getCanonicalKey() ^ (player == 0 ? 0L : Zobrist.SIDE);
+    final long entry = table.probe(key);
+    if (entry != TranspositionTable.NO_ENTRY) {
+      final int score = TranspositionTable.getScore(entry);
+      final int bound = TranspositionTable.getBound(entry);
+      if (bound == TranspositionTable.EXACT) {
+        return score;
+      } else if (bound == TranspositionTable.LOWER) {
+        alpha = Math.max(alpha, score);
+      } else {
+        beta = Math.min(beta, score);
+      }
+      if (alpha >= beta) {
+        return score;
+      }
+    }
+    final int moveNumber = orderMoves(player, candidates, moveCount);
+    final int alphaOrigin = alpha;
+    int best = -BitBoard.CELL_NUMBER;
+    int bestColumn = -1;
+    for (int i = 0; i < moveNumber; i++) {
+      final int column = moves[moveCount][i];
+      board.drop(column, player);
+      final int score = -negamax(1 - player, -beta, -alpha);
+      board.cancelLastMove();
+      if (score > best) {
+        best = score;
+        bestColumn = column;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    final int bound = best <= alphaOrigin ? TranspositionTable.UPPER
+        : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+    table.store(key, BitBoard.CELL_NUMBER - moveCount, bound, best,
+        board.isMirrored() ? BitBoard.mirror(bestColumn) : bestColumn);
+    return best;
+  }
+
+  /**
+   * Sorts the candidate columns of the ply by the number of winning cells the player has after
+   * dropping to the column, in descending order. Ties keep the center-first order.
+   *
+   * @param player The index of the player to move.
+   * @param candidates The mask of the playable cells of the candidate columns.
+   * @param ply The number of moves made, indexing the move arrays.
+   * @return The number of candidate columns.
+   */
+  private int orderMoves(final int player, final long candidates, final int ply) {
+    final int[] columns = moves[ply];
+    final int[] scores = moveScores[ply];
+    int size = 0;
+    for (final int column : COLUMN_ORDER) {
+      final long columnMask =
+          ((1L << ConnectFourSetting.ROW_NUMBER) - 1) << (column * BitBoard.COLUMN_HEIGHT);
+      if ((candidates & columnMask) == 0) {
+        continue;
+      }
+      board.drop(column, player);
+      final int score = Long.bitCount(board.getWinningCells(player));
+      board.cancelLastMove();
+      int i = size++;
+      for (; i > 0 && scores[i - 1] < score; i--) {
+        columns[i] = columns[i - 1];
+        scores[i] = scores[i - 1];
+      }
+      columns[i] = column;
+      scores[i] = score;
+    }
+    return size;
+  }
+
+  /**
+   * Returns the columns ordered from the center outwards.
+   *
+   * @return The ordered columns.
+   */
+  private static int[] getColumnOrder() {
+    final int[] order = new int[ConnectFourSetting.COLUMN_NUMBER];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = ConnectFourSetting.COLUMN_NUMBER / 2 + (1 - 2 * (i % 2)) * (i + 1) / 2;
+    }
+    return order;
+  }
+}
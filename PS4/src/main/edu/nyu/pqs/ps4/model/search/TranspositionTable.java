@@ -0,0 +1,181 @@
+package edu.nyu.pqs.ps4.model.search;
+
+/**
+ * This class is a fixed-size transposition table keyed by Zobrist keys. The table is two primitive
+ * arrays of keys and packed entries, so probing and storing never allocate. Each entry packs the
+ * score, the best column, the bound type and the depth into a long, and 0 stands for no entry.
+ * Entries are grouped in buckets of two slots: the first slot is depth-preferred and only replaced
+ * by an entry searched at least as deep, while the second slot is always replaced.
+ *
+ * <p>The table can be shared by searching threads without locks. The key array holds the key XORed
+ * with the entry, so a slot whose key and entry were written by different threads, or torn, fails
+ * the check on probe and reads as a miss.
+ */
+public class TranspositionTable {
+  /**
+   * Bound type of a score that is exact.
+   */
+  public static final int EXACT = 1;
+  /**
+   * Bound type of a score that is a lower bound, i.e. the search failed high.
+   */
+  public static final int LOWER = 2;
+  /**
+   * Bound type of a score that is an upper bound, i.e. the search failed low.
+   */
+  public static final int UPPER = 3;
+  /**
+   * Value returned by a probe missing the table.
+   */
+  public static final long NO_ENTRY = 0L;
+  /**
+   * Number of bytes taken by an entry.
+   */
+  public static final int ENTRY_BYTES = 2 * Long.BYTES;
+  private static final int COLUMN_SHIFT = 32;
+  private static final int BOUND_SHIFT = 36;
+  private static final int DEPTH_SHIFT = 38;
+  private final long[] keys;
+  private final long[] entries;
+  private final int bucketMask;
+
+  /**
+   * Constructor of a table taking at most the number of bytes. The number of entries is the largest
+   * power of two that fits, and at least two.
+   *
+   * @param bytes The maximum number of bytes to take.
+   */
+  public TranspositionTable(final long bytes) {
+    final long maxEntries = Math.max(2, Math.min(bytes / ENTRY_BYTES, 1 << 30));
+    final int size = Integer.highestOneBit((int) maxEntries);
+    keys = new long[size];
+    entries = new long[size];
+    bucketMask = size / 2 - 1;
+  }
+
+  /**
+   * Clears all entries.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length; i++) {
+      keys[i] = 0L;
+      entries[i] = NO_ENTRY;
+    }
+  }
+
+  /**
+   * Returns the number of entries the table can hold.
+   *
+   * @return The number of entries.
+   */
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  /**
+   * Probes the entry of the key.
+   *
+   * @param key The Zobrist key of the position.
+   * @return The packed entry, NO_ENTRY if there is none.
+   */
+  public long probe(final long key) {
+    final int index = getIndex(key);
+    final long first = entries[index];
+    if (first != NO_ENTRY && (keys[index] ^ first) == key) {
+      return first;
+    }
+    final long second = entries[index + 1];
+    if (second != NO_ENTRY && (keys[index + 1] ^ second) == key) {
+      return second;
+    }
+    return NO_ENTRY;
+  }
+
+  /**
+   * Stores an entry of the key, replacing the depth-preferred slot if the entry is searched at
+   * least as deep as the slot or is of the same position, and the always-replace slot otherwise.
+   *
+   * @param key The Zobrist key of the position.
+   * @param depth The depth searched, from 0 to 255.
+   * @param bound The bound type of the score, EXACT, LOWER or UPPER.
+   * @param score The score.
+   * @param column The best column, from 0 to 14, or -1 if unknown.
+   */
+  public void store(final long key, final int depth, final int bound, final int score,
+      final int column) {
+    final int index = getIndex(key);
+    final long entry = pack(depth, bound, score, column);
+    final long first = entries[index];
+    if (first == NO_ENTRY || (keys[index] ^ first) == key || depth >= getDepth(first)) {
+      entries[index] = entry;
+      keys[index] = key ^ entry;
+    } else {
+      entries[index + 1] = entry;
+      keys[index + 1] = key ^ entry;
+    }
+  }
+
+  /**
+   * Returns the score of a packed entry.
+   *
+   * @param entry The packed entry.
+   * @return The score.
+   */
+  public static int getScore(final long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Returns the best column of a packed entry.
+   *
+   * @param entry The packed entry.
+   * @return The best column, -1 if unknown.
+   */
+  public static int getColumn(final long entry) {
+    return (int) (entry >>> COLUMN_SHIFT & 0xF) - 1;
+  }
+
+  /**
+   * Returns the bound type of a packed entry.
+   *
+   * @param entry The packed entry.
+   * @return The bound type, EXACT, LOWER or UPPER.
+   */
+  public static int getBound(final long entry) {
+    return (int) (entry >>> BOUND_SHIFT & 0x3);
+  }
+
+  /**
+   * Returns the depth of a packed entry.
+   *
+   * @param entry The packed entry.
+   * @return The depth.
+   */
+  public static int getDepth(final long entry) {
+    return (int) (entry >>> DEPTH_SHIFT & 0xFF);
+  }
+
+  /**
+   * Packs the elements of an entry into a long. The bound type is never 0, so neither is the entry.
+   *
+   * @param depth The depth searched.
+   * @param bound The bound type of the score.
+   * @param score The score.
+   * @param column The best column.
+   * @return The packed entry.
+   */
+  private static long pack(final int depth, final int bound, final int score, final int column) {
+    return (score & 0xFFFFFFFFL) | (long) (column + 1) << COLUMN_SHIFT
+        | (long) bound << BOUND_SHIFT | (long) depth << DEPTH_SHIFT;
+  }
+
+  /**
+   * Returns the index of the first slot of the bucket of the key.
+   *
+   * @param key The Zobrist key of the position.
+   * @return The index of the first slot.
+   */
+  private int getIndex(final long key) {
+    return ((int) (key ^ key >>> 32) & bucketMask) << 1;
+  }
+}
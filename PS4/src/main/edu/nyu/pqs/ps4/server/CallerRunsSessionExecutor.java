@@ -0,0 +1,30 @@
+package edu.nyu.pqs.ps4.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * This class runs the commands of a session on the thread submitting them, holding the monitor of
+ * the session's mailbox, so the returned futures are always complete. It has no thread of its own,
+ * and a client blocks while another client's command to the same game runs.
+ */
+public class CallerRunsSessionExecutor implements SessionExecutor {
+  @Override
+  public Mailbox newMailbox() {
+    return new Mailbox() {
+      @Override
+      public synchronized <T> CompletableFuture<T> submit(final Supplier<T> command) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+          future.complete(command.get());
+        } catch (final Throwable e) {
+          future.completeExceptionally(e);
+        }
+        return future;
+      }
+    };
+  }
+
+  @Override
+  public void close() {}
+}
@@ -0,0 +1,151 @@
+package edu.nyu.pqs.ps4.server;
+
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * This class is an immutable event of a game encoded once for all its spectators. The bytes are a
+ * type byte, followed for an event with a move by the column and row bytes, the RGB int of the
+ * color and the modified UTF-8 name of the player, and for an event with a next player by the
+ * modified UTF-8 name of that player. The sequence numbers the events of a fan-out from 0.
+ */
+public final class EncodedEvent {
+  static final byte GAME_STARTED = 0;
+  static final byte GAME_CONTINUE = 1;
+  static final byte INVALID_MOVE_MADE = 2;
+  static final byte GAME_TIED = 3;
+  static final byte GAME_WON = 4;
+  private final long sequence;
+  private final byte[] bytes;
+
+  /**
+   * Private constructor.
+   *
+   * @param sequence The sequence number.
+   * @param bytes The encoded bytes, not shared.
+   */
+  private EncodedEvent(final long sequence, final byte[] bytes) {
+    this.sequence = sequence;
+    this.bytes = bytes;
+  }
+
+  /**
+   * Encodes an event.
+   *
+   * @param sequence The sequence number.
+   * @param type The type of the event.
+   * @param move The move of the event, null if none.
+   * @param nextPlayerName The name of the player to do the next turn, null if none.
+   * @return The encoded event.
+   */
+  static EncodedEvent encode(final long sequence, final byte type, final Move move,
+      final String nextPlayerName) {
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream(32);
+    try (DataOutputStream output = new DataOutputStream(buffer)) {
+      output.writeByte(type);
+      if (move != null) {
+        output.writeByte(move.getColumn());
+        output.writeByte(move.getRow());
+        output.writeInt(move.getPlayerColor().getRGB());
+        output.writeUTF(move.getPlayerName());
+      }
+      if (nextPlayerName != null) {
+        output.writeUTF(nextPlayerName);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new EncodedEvent(sequence, buffer.toByteArray());
+  }
+
+  /**
+   * Returns the sequence number of the event.
+   *
+   * @return The sequence number.
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Returns the number of encoded bytes.
+   *
+   * @return The number of bytes.
+   */
+  public int getSize() {
+    return bytes.length;
+  }
+
+  /**
+   * Returns a new read-only buffer over the encoded bytes, which are not copied.
+   *
+   * @return The buffer.
+   */
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  }
+
+  /**
+   * Writes the encoded bytes to the output stream.
+   *
+   * @param output The output stream.
+   * @throws IOException If the bytes can't be written.
+   */
+  public void writeTo(final OutputStream output) throws IOException {
+    output.write(bytes);
+  }
+
+  /**
+   * Decodes the event and notifies the listener of it.
+   *
+   * @param listener The listener.
+   */
+  public void replay(final Listener listener) {
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      final byte type = input.readByte();
+      switch (type) {
+        case GAME_STARTED:
+          listener.gameStarted(input.readUTF());
+          break;
+        case GAME_CONTINUE:
+          listener.gameContinue(readMove(input), input.readUTF());
+          break;
+        case INVALID_MOVE_MADE:
+          listener.invalidMoveMade(input.readUTF());
+          break;
+        case GAME_TIED:
+          listener.gameTied(readMove(input));
+          break;
+        default:
+          listener.gameWon(readMove(input));
+          break;
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads an encoded move.
+   *
+   * @param input The input stream.
+   * @return The move.
+   * @throws IOException If the move can't be read.
+   */
+  private static Move readMove(final DataInputStream input) throws IOException {
+    final int column = input.readByte();
+    final int row = input.readByte();
+    final Color color = new Color(input.readInt(), true);
+    return new Move.Builder().column(column).row(row).playerColor(color)
+        .playerName(input.readUTF()).build();
+  }
+}
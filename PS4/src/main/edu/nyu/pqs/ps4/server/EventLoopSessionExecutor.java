@@ -0,0 +1,153 @@
+package edu.nyu.pqs.ps4.server;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * This class runs the commands of sessions on a fixed number of event-loop threads, one by
+ * default. A mailbox is a lock-free queue of commands and a flag telling whether it is scheduled:
+ * the first command submitted to an idle mailbox schedules it on the loop, and the loop then runs
+ * up to BATCH_SIZE commands of the mailbox before scheduling it again behind the other mailboxes.
+ * An idle session costs its empty queue and flag, and takes no thread. A command that throws,
+ * even an error, completes its future exceptionally and leaves the mailbox running. Once the
+ * executor is closed, the futures of the commands submitted, and of those still queued that the
+ * loop can't take any more, are completed exceptionally with a
+ * {@link RejectedExecutionException}.
+ */
+public class EventLoopSessionExecutor implements SessionExecutor {
+  private static final int BATCH_SIZE = 64;
+  private final ExecutorService loop;
+
+  /**
+   * Constructor of a single-threaded event loop.
+   */
+  public EventLoopSessionExecutor() {
+    this(1);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param threads The number of event-loop threads, at least 1.
+   */
+  public EventLoopSessionExecutor(final int threads) {
+    loop = Executors.newFixedThreadPool(threads, r -> {
+      final Thread thread = new Thread(r, "session-event-loop");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public Mailbox newMailbox() {
+    return new QueueMailbox();
+  }
+
+  @Override
+  public void close() {
+    loop.shutdown();
+  }
+
+  /**
+   * This class is a mailbox drained by the event loop.
+   */
+  private final class QueueMailbox implements Mailbox, Runnable {
+    private final Queue<Command<?>> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    @Override
+    public <T> CompletableFuture<T> submit(final Supplier<T> command) {
+      final CompletableFuture<T> future = new CompletableFuture<>();
+      if (loop.isShutdown()) {
+        future.completeExceptionally(new RejectedExecutionException("session executor closed"));
+        return future;
+      }
+      commands.add(new Command<>(command, future));
+      schedule();
+      return future;
+    }
+
+    @Override
+    public void run() {
+      try {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+          final Command<?> command = commands.poll();
+          if (command == null) {
+            break;
+          }
+          command.run();
+        }
+      } finally {
+        scheduled.set(false);
+        if (!commands.isEmpty()) {
+          schedule();
+        }
+      }
+    }
+
+    /**
+     * Schedules the mailbox on the loop unless it is already scheduled. If the loop is closed, the
+     * commands queued are rejected instead.
+     */
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          loop.execute(this);
+        } catch (final RejectedExecutionException e) {
+          scheduled.set(false);
+          for (Command<?> command = commands.poll(); command != null; command = commands.poll()) {
+            command.reject(e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * This class is a command with the future of its result.
+   *
+   * @param <T> The type of the result of the command.
+   */
+  private static final class Command<T> implements Runnable {
+    private final Supplier<T> supplier;
+    private final CompletableFuture<T> future;
+
+    /**
+     * Constructor.
+     *
+     * @param supplier The command.
+     * @param future The future of its result.
+     */
+    private Command(final Supplier<T> supplier, final CompletableFuture<T> future) {
+      this.supplier = supplier;
+      this.future = future;
+    }
+
+    /**
+     * Runs the command and completes its future, exceptionally if it throws.
+     */
+    @Override
+    public void run() {
+      try {
+        future.complete(supplier.get());
+      } catch (final Throwable e) {
+        future.completeExceptionally(e);
+      }
+    }
+
+    /**
+     * Completes the future exceptionally without running the command.
+     *
+     * @param e The cause.
+     */
+    private void reject(final Throwable e) {
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package edu.nyu.pqs.ps4.server;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Mode;
+import edu.nyu.pqs.ps4.model.Model;
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * This class is a game hosted by a {@link GameSessionManager}, with its own {@link Model} and
+ * {@link Board}, and players built by the factory shared by the sessions of the manager. The
+ * session listens to its model to keep the status of the game. Its commands aren't thread-safe by
+ * themselves and are run through its {@link Mailbox}, so that each game is changed by one command
+ * at a time while different games run in parallel.
+ *
+ * <p>The moves of a machine player are searched on the machine executor rather than in a command,
+ * so that a search doesn't hold the thread of the mailbox, which an event loop shares with other
+ * sessions. The command making the move before returns a future completed by a later command
+ * playing the column found. While the machine player thinks, the board doesn't change and other
+ * moves are invalid.
+ */
+public class GameSession {
+  private final long id;
+  private final Mailbox mailbox;
+  private final Executor machineExecutor;
+  private final Board board = Board.newInstance();
+  private final Model model;
+  private GameStatus status = GameStatus.IN_PROGRESS;
+  private String nextPlayerName;
+  private String winnerName;
+  private boolean invalidMove;
+  private boolean thinking;
+  private boolean ended;
+  private SpectatorFanOut spectatorFanOut;
+
+  /**
+   * Constructor.
+   *
+   * @param id The game ID.
+   * @param mode The game mode.
+   * @param mailbox The mailbox to run the commands through.
+   * @param playerFactory The factory building the players, shared by the sessions.
+   * @param machineExecutor The executor searching the moves of machine players.
+   */
+  GameSession(final long id, final Mode mode, final Mailbox mailbox,
+      final PlayerFactory playerFactory, final Executor machineExecutor) {
+    this.id = id;
+    this.mailbox = mailbox;
+    this.machineExecutor = machineExecutor;
+    model = Model.newInstance(board, playerFactory);
+    model.setDeferredMachineMoves(true);
+    model.addListener(new SessionListener());
+    model.setMode(mode);
+  }
+
+  /**
+   * Returns the game ID.
+   *
+   * @return The game ID.
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Returns the mailbox to run the commands through.
+   *
+   * @return The mailbox.
+   */
+  public Mailbox getMailbox() {
+    return mailbox;
+  }
+
+  /**
+   * Starts the game, followed by the move of a machine player if it moves first.
+   *
+   * @return The future state of the game, after the move of the machine player if any.
+   */
+  CompletableFuture<GameState> start() {
+    invalidMove = false;
+    model.startGame();
+    return playMachineMove();
+  }
+
+  /**
+   * Makes a move in the column for the player to do the next turn, followed by the move of a
+   * machine player if it is its turn. A move in a game that is over or while the machine player
+   * thinks is invalid.
+   *
+   * @param column The column to make move.
+   * @return The future state of the game, after the move of the machine player if any.
+   */
+  CompletableFuture<GameState> makeMove(final int column) {
+    invalidMove = false;
+    if (status == GameStatus.IN_PROGRESS && !thinking) {
+      model.makeMove(column);
+      return playMachineMove();
+    }
+    invalidMove = true;
+    return CompletableFuture.completedFuture(getState());
+  }
+
+  /**
+   * Returns the state of the game, with whether the last command was an invalid move.
+   *
+   * @return The state of the game.
+   */
+  GameState getState() {
+    final BitBoard bitBoard = board.copyBitBoard();
+    final int[] columns = new int[bitBoard.getMoveCount()];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = bitBoard.getColumnAt(i);
+    }
+    return new GameState.Builder().gameId(id).status(status).nextPlayerName(nextPlayerName)
+        .winnerName(winnerName).columns(columns).invalidMove(invalidMove).build();
+  }
+
+  /**
+   * Returns the fan-out broadcasting the events of the game to its spectators, creating it and
+   * adding it to the model on first use.
+   *
+   * @return The fan-out.
+   */
+  SpectatorFanOut getSpectatorFanOut() {
+    if (spectatorFanOut == null) {
+      spectatorFanOut = new SpectatorFanOut();
+      model.addListener(spectatorFanOut);
+    }
+    return spectatorFanOut;
+  }
+
+  /**
+   * Ends the session, stopping the delivery to its spectators and closing the players of the game.
+   * A machine move still searched is dropped when found.
+   *
+   * @return The last state of the game.
+   */
+  GameState end() {
+    ended = true;
+    if (spectatorFanOut != null) {
+      spectatorFanOut.close();
+    }
+    final GameState state = getState();
+    model.close();
+    return state;
+  }
+
+  /**
+   * Searches the move of the machine player on the machine executor if it is its turn, and submits
+   * the command playing it once found.
+   *
+   * @return The future state of the game, after the move of the machine player if any.
+   */
+  private CompletableFuture<GameState> playMachineMove() {
+    if (ended || !model.isMachineTurn()) {
+      return CompletableFuture.completedFuture(getState());
+    }
+    final CompletableFuture<Integer> advice =
+        CompletableFuture.supplyAsync(model::getMachineMoveAdvice, machineExecutor);
+    thinking = true;
+    return advice.handle((column, error) -> mailbox.submit(() -> finishMachineMove(column, error)))
+        .thenCompose(Function.identity()).thenCompose(Function.identity());
+  }
+
+  /**
+   * Plays the column found for the machine player, unless the session has ended.
+   *
+   * @param column The column found, null if the search failed.
+   * @param error The error of the search, null if it succeeded.
+   * @return The future state of the game, after the next move of a machine player if any.
+   */
+  private CompletableFuture<GameState> finishMachineMove(final Integer column,
+      final Throwable error) {
+    thinking = false;
+    if (error != null) {
+      throw error instanceof CompletionException ? (CompletionException) error
+          : new CompletionException(error);
+    }
+    if (!ended) {
+      invalidMove = false;
+      model.makeMove(column);
+    }
+    return playMachineMove();
+  }
+
+  /**
+   * This class keeps the status of the session from the events of the model.
+   */
+  private final class SessionListener implements Listener {
+    @Override
+    public void gameStarted(final String name) {
+      status = GameStatus.IN_PROGRESS;
+      nextPlayerName = name;
+      winnerName = null;
+    }
+
+    @Override
+    public void gameContinue(final Move move, final String name) {
+      nextPlayerName = name;
+    }
+
+    @Override
+    public void invalidMoveMade(final String name) {
+      invalidMove = true;
+    }
+
+    @Override
+    public void gameTied(final Move move) {
+      status = GameStatus.TIED;
+      nextPlayerName = null;
+    }
+
+    @Override
+    public void gameWon(final Move move) {
+      status = GameStatus.WON;
+      nextPlayerName = null;
+      winnerName = move.getPlayerName();
+    }
+  }
+}
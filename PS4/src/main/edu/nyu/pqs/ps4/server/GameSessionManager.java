@@ -0,0 +1,230 @@
+package edu.nyu.pqs.ps4.server;
+
+import edu.nyu.pqs.ps4.model.Mode;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * This class hosts any number of concurrent Connect Four games in one process without any view.
+ * Every game is a {@link GameSession} with its own model and board, known by a game ID, and is
+ * driven by commands to start it, make a move and query its state. Commands may come from any
+ * thread: the sessions are kept in a concurrent map and the commands of each session are
+ * serialized by its mailbox from the {@link SessionExecutor}, so there is no lock shared by all
+ * games. Every command has a blocking form and an asynchronous form returning a future.
+ *
+ * <p>The players of all sessions are built by one {@link PlayerFactory}, so that the machine
+ * players of the man-machine mode share one opening book and one transposition table instead of
+ * having one each. Their moves are searched on a fixed pool of MACHINE_THREADS threads, one per
+ * available processor, shared by all sessions and started on demand. Closing the manager shuts the
+ * pool down and closes the factory.
+ */
+public class GameSessionManager implements AutoCloseable {
+  private static final int MACHINE_THREADS = Runtime.getRuntime().availableProcessors();
+  private final ConcurrentMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong(1);
+  private final SessionExecutor executor;
+  private final PlayerFactory playerFactory;
+  private final ExecutorService machineExecutor =
+      Executors.newFixedThreadPool(MACHINE_THREADS, r -> {
+        final Thread thread = new Thread(r, "session-machine");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  /**
+   * Constructor of a manager running commands on the calling threads.
+   */
+  public GameSessionManager() {
+    this(new CallerRunsSessionExecutor());
+  }
+
+  /**
+   * Constructor of a manager whose search players share a transposition table.
+   *
+   * @param executor The executor to run the commands of the sessions.
+   */
+  public GameSessionManager(final SessionExecutor executor) {
+    this(executor, new PlayerFactory.Builder().sharedTranspositionTable(true).build());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param executor The executor to run the commands of the sessions.
+   * @param playerFactory The factory building the players of all sessions, closed with the
+   *        manager.
+   */
+  public GameSessionManager(final SessionExecutor executor, final PlayerFactory playerFactory) {
+    this.executor = executor;
+    this.playerFactory = Objects.requireNonNull(playerFactory);
+  }
+
+  /**
+   * Creates and starts a game.
+   *
+   * @param mode The game mode. A machine player of the man-machine mode moves first.
+   * @return The state of the new game, with its game ID.
+   */
+  public GameState startGame(final Mode mode) {
+    return join(startGameAsync(mode));
+  }
+
+  /**
+   * Creates a game and submits the command to start it.
+   *
+   * @param mode The game mode. A machine player of the man-machine mode moves first.
+   * @return The future state of the new game, with its game ID.
+   */
+  public CompletableFuture<GameState> startGameAsync(final Mode mode) {
+    final GameSession session = new GameSession(nextId.getAndIncrement(), mode,
+        executor.newMailbox(), playerFactory, machineExecutor);
+    sessions.put(session.getId(), session);
+    return session.getMailbox().submit(session::start).thenCompose(Function.identity());
+  }
+
+  /**
+   * Makes a move in a game.
+   *
+   * @param gameId The game ID.
+   * @param column The column to make move.
+   * @return The state of the game.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  public GameState makeMove(final long gameId, final int column) {
+    return join(makeMoveAsync(gameId, column));
+  }
+
+  /**
+   * Submits the command to make a move in a game.
+   *
+   * @param gameId The game ID.
+   * @param column The column to make move.
+   * @return The future state of the game.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  public CompletableFuture<GameState> makeMoveAsync(final long gameId, final int column) {
+    final GameSession session = getSession(gameId);
+    return session.getMailbox().submit(() -> session.makeMove(column))
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * Queries the state of a game.
+   *
+   * @param gameId The game ID.
+   * @return The state of the game.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  public GameState getState(final long gameId) {
+    return join(getStateAsync(gameId));
+  }
+
+  /**
+   * Submits the command to query the state of a game.
+   *
+   * @param gameId The game ID.
+   * @return The future state of the game.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  public CompletableFuture<GameState> getStateAsync(final long gameId) {
+    final GameSession session = getSession(gameId);
+    return session.getMailbox().submit(session::getState);
+  }
+
+  /**
+   * Ends a game and removes it from the manager, whether it is over or not. Commands submitted
+   * before still run, and the delivery to the spectators of the game stops.
+   *
+   * @param gameId The game ID.
+   * @return The last state of the game.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  public GameState endGame(final long gameId) {
+    final GameSession session = sessions.remove(gameId);
+    if (session == null) {
+      throw new IllegalArgumentException("unknown game: " + gameId);
+    }
+    return join(session.getMailbox().submit(session::end));
+  }
+
+  /**
+   * Subscribes a spectator to the events of a game from now on. The events are broadcast by the
+   * {@link SpectatorFanOut} of the game, created on the first subscription.
+   *
+   * @param gameId The game ID.
+   * @param spectator The spectator.
+   * @return The subscription of the spectator.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  public Subscription subscribe(final long gameId, final Spectator spectator) {
+    final GameSession session = getSession(gameId);
+    return join(session.getMailbox().submit(session::getSpectatorFanOut)).subscribe(spectator);
+  }
+
+  /**
+   * Returns the number of games hosted.
+   *
+   * @return The number of games.
+   */
+  public int getGameNumber() {
+    return sessions.size();
+  }
+
+  /**
+   * Ends the games left, shuts the threads searching the machine moves down and closes the player
+   * factory. The games must not be used afterwards.
+   */
+  @Override
+  public void close() {
+    for (final GameSession session : sessions.values()) {
+      session.getMailbox().submit(session::end);
+    }
+    sessions.clear();
+    machineExecutor.shutdown();
+    playerFactory.close();
+  }
+
+  /**
+   * Returns the session of the game ID.
+   *
+   * @param gameId The game ID.
+   * @return The session.
+   * @throws IllegalArgumentException If there is no game of the ID.
+   */
+  private GameSession getSession(final long gameId) {
+    final GameSession session = sessions.get(gameId);
+    if (session == null) {
+      throw new IllegalArgumentException("unknown game: " + gameId);
+    }
+    return session;
+  }
+
+  /**
+   * Waits for the future result, rethrowing the exception or error of a failed command as is.
+   *
+   * @param future The future result.
+   * @param <T> The type of the result.
+   * @return The result.
+   */
+  private static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
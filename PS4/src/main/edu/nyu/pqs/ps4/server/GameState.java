@@ -0,0 +1,187 @@
+package edu.nyu.pqs.ps4.server;
+
+import java.util.Arrays;
+
+/**
+ * This class consists of elements that describe the state of a game session after a command,
+ * including the game ID, the status, the name of the player to do the next turn, the name of the
+ * winner, the columns of the moves made and whether the last command was an invalid move.
+ */
+public class GameState {
+  private final long gameId;
+  private final GameStatus status;
+  private final String nextPlayerName;
+  private final String winnerName;
+  private final int[] columns;
+  private final boolean invalidMove;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private long gameId;
+    private GameStatus status = GameStatus.IN_PROGRESS;
+    private String nextPlayerName;
+    private String winnerName;
+    private int[] columns = new int[0];
+    private boolean invalidMove;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the game ID when building an instance.
+     *
+     * @param g The input game ID.
+     * @return The altered builder class.
+     */
+    public Builder gameId(final long g) {
+      gameId = g;
+      return this;
+    }
+
+    /**
+     * Sets the status when building an instance.
+     *
+     * @param s The input status.
+     * @return The altered builder class.
+     */
+    public Builder status(final GameStatus s) {
+      status = s;
+      return this;
+    }
+
+    /**
+     * Sets the name of the player to do the next turn when building an instance.
+     *
+     * @param n The input player name.
+     * @return The altered builder class.
+     */
+    public Builder nextPlayerName(final String n) {
+      nextPlayerName = n;
+      return this;
+    }
+
+    /**
+     * Sets the name of the winner when building an instance.
+     *
+     * @param w The input winner name.
+     * @return The altered builder class.
+     */
+    public Builder winnerName(final String w) {
+      winnerName = w;
+      return this;
+    }
+
+    /**
+     * Sets the columns of the moves made when building an instance.
+     *
+     * @param c The input columns.
+     * @return The altered builder class.
+     */
+    public Builder columns(final int[] c) {
+      columns = c.clone();
+      return this;
+    }
+
+    /**
+     * Sets whether the last command was an invalid move when building an instance.
+     *
+     * @param i The input invalid move status.
+     * @return The altered builder class.
+     */
+    public Builder invalidMove(final boolean i) {
+      invalidMove = i;
+      return this;
+    }
+
+    /**
+     * Builds the game state instance.
+     *
+     * @return The built game state instance.
+     */
+    public GameState build() {
+      return new GameState(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private GameState(final Builder builder) {
+    gameId = builder.gameId;
+    status = builder.status;
+    nextPlayerName = builder.nextPlayerName;
+    winnerName = builder.winnerName;
+    columns = builder.columns;
+    invalidMove = builder.invalidMove;
+  }
+
+  /**
+   * Returns the game ID.
+   *
+   * @return The game ID.
+   */
+  public long getGameId() {
+    return gameId;
+  }
+
+  /**
+   * Returns the status of the game.
+   *
+   * @return The status.
+   */
+  public GameStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the name of the player to do the next turn, null if the game is over.
+   *
+   * @return The player name.
+   */
+  public String getNextPlayerName() {
+    return nextPlayerName;
+  }
+
+  /**
+   * Returns the name of the winner, null if there is none.
+   *
+   * @return The winner name.
+   */
+  public String getWinnerName() {
+    return winnerName;
+  }
+
+  /**
+   * Returns the columns of the moves made in order.
+   *
+   * @return The columns.
+   */
+  public int[] getColumns() {
+    return columns.clone();
+  }
+
+  /**
+   * Returns whether the last command was an invalid move, which left the game unchanged.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean isInvalidMove() {
+    return invalidMove;
+  }
+
+  /**
+   * Returns the string representation of the game state. The string follows the format: "{game: G,
+   * status: S, next: N, winner: W, columns: [C1, C2, ...]}".
+   */
+  @Override
+  public String toString() {
+    return String.format("{game: %d, status: %s, next: %s, winner: %s, columns: %s}", gameId,
+        status, nextPlayerName, winnerName, Arrays.toString(columns));
+  }
+}
@@ -0,0 +1,8 @@
+package edu.nyu.pqs.ps4.server;
+
+/**
+ * This class is the statuses of a game session.
+ */
+public enum GameStatus {
+  IN_PROGRESS, WON, TIED
+}
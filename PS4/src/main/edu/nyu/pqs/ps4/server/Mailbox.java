@@ -0,0 +1,20 @@
+package edu.nyu.pqs.ps4.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * This is the interface of the mailbox of a game session. Commands submitted to the same mailbox
+ * run one at a time in the order submitted, and each sees the changes made by the ones before it,
+ * whatever threads they run on.
+ */
+public interface Mailbox {
+  /**
+   * Submits a command to run after the commands submitted before it.
+   *
+   * @param command The command.
+   * @param <T> The type of the result of the command.
+   * @return The future result of the command, completed exceptionally if the command throws.
+   */
+  <T> CompletableFuture<T> submit(Supplier<T> command);
+}
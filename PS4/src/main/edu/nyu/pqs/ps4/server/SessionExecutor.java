@@ -0,0 +1,21 @@
+package edu.nyu.pqs.ps4.server;
+
+/**
+ * This is the interface of the execution strategy of game sessions. Each session gets a
+ * {@link Mailbox} that serializes its commands, so that commands of one game never run at the same
+ * time while different games need no lock in common.
+ */
+public interface SessionExecutor extends AutoCloseable {
+  /**
+   * Creates the mailbox of a new session.
+   *
+   * @return The mailbox.
+   */
+  Mailbox newMailbox();
+
+  /**
+   * Stops running commands and releases the threads of the executor, if any.
+   */
+  @Override
+  void close();
+}
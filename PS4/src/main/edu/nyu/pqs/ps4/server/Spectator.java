@@ -0,0 +1,25 @@
+package edu.nyu.pqs.ps4.server;
+
+/**
+ * This is the interface of a spectator of a game, subscribed to a {@link SpectatorFanOut}. Events
+ * are delivered on a dispatch thread of the fan-out shared with other spectators, so a spectator
+ * should hand them off quickly, e.g. to a socket buffer. A spectator falling too far behind, or
+ * blocking in a call for longer than the delivery timeout of the fan-out, is evicted.
+ */
+public interface Spectator {
+  /**
+   * Performs actions to do when an event of the game is delivered. The event is shared by all the
+   * spectators and must not be changed.
+   *
+   * @param event The encoded event.
+   */
+  void onEvent(EncodedEvent event);
+
+  /**
+   * Performs actions to do when the spectator is evicted, because it fell behind by more events
+   * than the fan-out holds, threw on an event or blocked on one. A blocking spectator is evicted
+   * from the watchdog thread of the fan-out, and its dispatch thread is interrupted. No event is
+   * delivered afterwards.
+   */
+  default void onEvicted() {}
+}
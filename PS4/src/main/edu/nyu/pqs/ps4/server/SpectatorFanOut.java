@@ -0,0 +1,414 @@
+package edu.nyu.pqs.ps4.server;
+
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class is a listener that broadcasts the events of a game to any number of spectators
+ * without making the notifying thread pay per spectator. Each event is encoded once into an
+ * immutable {@link EncodedEvent} and published on a ring buffer of CAPACITY events, which costs the
+ * notifying thread the same whatever the number of spectators. Dispatch threads then deliver the
+ * shared event to the spectators, each thread to its own stripe of them kept in a copy-on-write
+ * list, so subscribing and unsubscribing never block delivery. Each thread delivers at most
+ * BATCH_SIZE events to a spectator before moving on to the next one.
+ *
+ * <p>A spectator whose next event was already overwritten on the ring, i.e. which fell behind by
+ * more than CAPACITY events, is evicted, as is a spectator throwing on an event. A watchdog checks
+ * the dispatch threads every delivery timeout, and a spectator found twice in the same call to
+ * {@link Spectator#onEvent} is evicted too: its dispatch thread is interrupted and abandoned to it,
+ * and a new thread takes over the rest of the stripe, so one blocking spectator delays the others
+ * of its stripe by at most two timeouts. The abandoned threads are counted until they return from
+ * the spectator, and waited for on close like the dispatch threads. Events are published by one
+ * thread at a time, as the model notifies its listeners.
+ */
+public class SpectatorFanOut implements Listener, AutoCloseable {
+  private static final int DEFAULT_CAPACITY = 1024;
+  private static final int BATCH_SIZE = 64;
+  private static final long DEFAULT_DELIVERY_TIMEOUT_MILLIS = 250;
+  private static final long ABANDONED = -1;
+  private final EncodedEvent[] ring;
+  private final int mask;
+  private final List<CopyOnWriteArrayList<Subscription>> stripes = new ArrayList<>();
+  private final AtomicReferenceArray<Dispatcher> dispatchers;
+  private final Queue<Thread> abandonedThreads = new ConcurrentLinkedQueue<>();
+  private final ScheduledExecutorService watchdog;
+  private final long deliveryTimeoutMillis;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition published = lock.newCondition();
+  private final AtomicInteger nextStripe = new AtomicInteger();
+  private final AtomicLong evictedSpectators = new AtomicLong();
+  private volatile long publishedEvents;
+  private volatile boolean closed;
+
+  /**
+   * Constructor of a fan-out holding 1024 events with one dispatch thread and a delivery timeout of
+   * 250 milliseconds.
+   */
+  public SpectatorFanOut() {
+    this(DEFAULT_CAPACITY, 1);
+  }
+
+  /**
+   * Constructor of a fan-out with a delivery timeout of 250 milliseconds.
+   *
+   * @param capacity The number of events held for the spectators behind, rounded up to a power of
+   *        two.
+   * @param threads The number of dispatch threads.
+   */
+  public SpectatorFanOut(final int capacity, final int threads) {
+    this(capacity, threads, DEFAULT_DELIVERY_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The number of events held for the spectators behind, rounded up to a power of
+   *        two.
+   * @param threads The number of dispatch threads.
+   * @param deliveryTimeoutMillis The time in milliseconds between two checks of the watchdog. A
+   *        spectator is evicted after one to two timeouts in the same call.
+   */
+  public SpectatorFanOut(final int capacity, final int threads, final long deliveryTimeoutMillis) {
+    if (capacity < 1 || threads < 1 || deliveryTimeoutMillis < 1) {
+      throw new IllegalArgumentException(
+          "capacity, threads and delivery timeout must be positive");
+    }
+    int size = 1;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    ring = new EncodedEvent[size];
+    mask = ring.length - 1;
+    this.deliveryTimeoutMillis = deliveryTimeoutMillis;
+    dispatchers = new AtomicReferenceArray<>(threads);
+    for (int i = 0; i < threads; i++) {
+      stripes.add(new CopyOnWriteArrayList<>());
+      dispatchers.set(i, new Dispatcher(i));
+    }
+    watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "spectator-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+    watchdog.scheduleWithFixedDelay(this::checkDeliveries, deliveryTimeoutMillis,
+        deliveryTimeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Subscribes a spectator to the events published from now on.
+   *
+   * @param spectator The spectator.
+   * @return The subscription.
+   */
+  public Subscription subscribe(final Spectator spectator) {
+    final int stripe = Math.floorMod(nextStripe.getAndIncrement(), dispatchers.length());
+    final Subscription subscription =
+        new Subscription(this, spectator, stripe, publishedEvents);
+    stripes.get(stripe).add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Unsubscribes a spectator.
+   *
+   * @param subscription The subscription of the spectator.
+   */
+  void unsubscribe(final Subscription subscription) {
+    stripes.get(subscription.getStripe()).remove(subscription);
+  }
+
+  /**
+   * Returns the number of spectators subscribed and not evicted.
+   *
+   * @return The number of spectators.
+   */
+  public int getSpectatorNumber() {
+    int number = 0;
+    for (final List<Subscription> stripe : stripes) {
+      number += stripe.size();
+    }
+    return number;
+  }
+
+  /**
+   * Returns the number of dispatch threads abandoned to blocking spectators that haven't returned
+   * from them yet.
+   *
+   * @return The number of threads.
+   */
+  public int getAbandonedThreadNumber() {
+    abandonedThreads.removeIf(thread -> !thread.isAlive());
+    return abandonedThreads.size();
+  }
+
+  /**
+   * Returns the number of events published.
+   *
+   * @return The number of events.
+   */
+  public long getPublishedEvents() {
+    return publishedEvents;
+  }
+
+  /**
+   * Returns the number of spectators evicted.
+   *
+   * @return The number of spectators.
+   */
+  public long getEvictedSpectators() {
+    return evictedSpectators.get();
+  }
+
+  /**
+   * Publishes that the game has started.
+   *
+   * @param nextPlayerName The name of the player to do the next turn.
+   */
+  @Override
+  public void gameStarted(final String nextPlayerName) {
+    publish(EncodedEvent.GAME_STARTED, null, nextPlayerName);
+  }
+
+  /**
+   * Publishes that a move was made and the game continues.
+   *
+   * @param move The last move made.
+   * @param nextPlayerName The name of the player to do the next turn.
+   */
+  @Override
+  public void gameContinue(final Move move, final String nextPlayerName) {
+    publish(EncodedEvent.GAME_CONTINUE, move, nextPlayerName);
+  }
+
+  /**
+   * Publishes that an invalid move was made.
+   *
+   * @param nextPlayerName The name of the player to do the next turn.
+   */
+  @Override
+  public void invalidMoveMade(final String nextPlayerName) {
+    publish(EncodedEvent.INVALID_MOVE_MADE, null, nextPlayerName);
+  }
+
+  /**
+   * Publishes that a move was made and the game tied.
+   *
+   * @param move The last move made.
+   */
+  @Override
+  public void gameTied(final Move move) {
+    publish(EncodedEvent.GAME_TIED, move, null);
+  }
+
+  /**
+   * Publishes that a move was made and one player won.
+   *
+   * @param move The last move made.
+   */
+  @Override
+  public void gameWon(final Move move) {
+    publish(EncodedEvent.GAME_WON, move, null);
+  }
+
+  /**
+   * Stops the dispatch threads and the watchdog. Events not delivered yet are not delivered, and a
+   * dispatch thread blocked in a spectator, abandoned or not, is waited for until two delivery
+   * timeouts at most have passed.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      published.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    watchdog.shutdownNow();
+    try {
+      watchdog.awaitTermination(deliveryTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final List<Thread> threads = new ArrayList<>(abandonedThreads);
+    for (int i = 0; i < dispatchers.length(); i++) {
+      threads.add(dispatchers.get(i).thread);
+    }
+    final long deadline =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2 * deliveryTimeoutMillis);
+    for (final Thread thread : threads) {
+      final long remainingMillis =
+          TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (thread != Thread.currentThread() && remainingMillis > 0) {
+        try {
+          thread.join(remainingMillis);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  /**
+   * Encodes an event, puts it on the ring and wakes the dispatch threads.
+   *
+   * @param type The type of the event.
+   * @param move The move of the event, null if none.
+   * @param nextPlayerName The name of the player to do the next turn, null if none.
+   */
+  private void publish(final byte type, final Move move, final String nextPlayerName) {
+    final long sequence = publishedEvents;
+    ring[(int) (sequence & mask)] = EncodedEvent.encode(sequence, type, move, nextPlayerName);
+    lock.lock();
+    try {
+      publishedEvents = sequence + 1;
+      published.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Evicts the spectators found twice in the same call to {@link Spectator#onEvent}, and replaces
+   * their dispatch threads once they are off the stripe, so the new threads never call them.
+   */
+  private void checkDeliveries() {
+    for (int i = 0; i < dispatchers.length(); i++) {
+      final Dispatcher dispatcher = dispatchers.get(i);
+      final Subscription subscription = dispatcher.delivering;
+      final long delivery = dispatcher.deliveries.get();
+      final boolean stuck = delivery % 2 == 1 && delivery == dispatcher.checkedDelivery;
+      dispatcher.checkedDelivery = delivery;
+      if (stuck && !closed && dispatcher.deliveries.compareAndSet(delivery, ABANDONED)) {
+        abandonedThreads.add(dispatcher.thread);
+        dispatcher.thread.interrupt();
+        evict(subscription);
+        dispatchers.set(i, new Dispatcher(i));
+      }
+    }
+  }
+
+  /**
+   * Evicts a spectator.
+   *
+   * @param subscription The subscription of the spectator.
+   */
+  private void evict(final Subscription subscription) {
+    if (stripes.get(subscription.getStripe()).remove(subscription)) {
+      subscription.setEvicted();
+      evictedSpectators.incrementAndGet();
+      subscription.getSpectator().onEvicted();
+    }
+  }
+
+  /**
+   * This class delivers the events to the spectators of a stripe on its own thread, until the
+   * fan-out is closed or the watchdog abandons it to a spectator blocking in
+   * {@link Spectator#onEvent}. The count of deliveries is odd during a call to a spectator, so the
+   * watchdog can tell a call that lasts from a new one.
+   */
+  private final class Dispatcher implements Runnable {
+    private final int stripe;
+    private final Thread thread;
+    private final AtomicLong deliveries = new AtomicLong();
+    private volatile Subscription delivering;
+    private long checkedDelivery;
+
+    /**
+     * Constructor, starting the thread.
+     *
+     * @param stripe The index of the stripe.
+     */
+    private Dispatcher(final int stripe) {
+      this.stripe = stripe;
+      thread = new Thread(this, "spectator-dispatch");
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    /**
+     * Delivers the events to the spectators of the stripe until the fan-out is closed or the
+     * dispatcher is abandoned.
+     */
+    @Override
+    public void run() {
+      final List<Subscription> subscriptions = stripes.get(stripe);
+      long seen = 0;
+      boolean behind = false;
+      while (true) {
+        if (!behind) {
+          lock.lock();
+          try {
+            while (publishedEvents == seen && !closed) {
+              published.awaitUninterruptibly();
+            }
+          } finally {
+            lock.unlock();
+          }
+        }
+        if (closed) {
+          return;
+        }
+        seen = publishedEvents;
+        behind = false;
+        for (final Subscription subscription : subscriptions) {
+          final int delivered = deliver(subscription, seen);
+          if (delivered < 0) {
+            return;
+          }
+          behind |= delivered > 0;
+        }
+      }
+    }
+
+    /**
+     * Delivers up to BATCH_SIZE events to a spectator, or evicts it.
+     *
+     * @param subscription The subscription of the spectator.
+     * @param end The sequence after the last event published.
+     * @return 1 if events before the end are left to deliver, 0 if not, and -1 if the dispatcher
+     *         was abandoned.
+     */
+    private int deliver(final Subscription subscription, final long end) {
+      long cursor = subscription.getCursor();
+      final long last = Math.min(end, cursor + BATCH_SIZE);
+      while (cursor < last) {
+        final EncodedEvent event = ring[(int) (cursor & mask)];
+        if (event == null || event.getSequence() != cursor) {
+          evict(subscription);
+          return 0;
+        }
+        delivering = subscription;
+        final long delivery = deliveries.incrementAndGet();
+        boolean thrown = false;
+        try {
+          subscription.getSpectator().onEvent(event);
+        } catch (final RuntimeException e) {
+          thrown = true;
+        }
+        if (!deliveries.compareAndSet(delivery, delivery + 1)) {
+          return -1;
+        }
+        if (thrown) {
+          evict(subscription);
+          return 0;
+        }
+        subscription.setCursor(++cursor);
+      }
+      return cursor < end ? 1 : 0;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package edu.nyu.pqs.ps4.server;
+
+/**
+ * This class is the subscription of a {@link Spectator} to a {@link SpectatorFanOut}. It keeps the
+ * sequence of the next event to deliver to the spectator, so the lag of the spectator is the
+ * number of events published since.
+ */
+public final class Subscription implements AutoCloseable {
+  private final SpectatorFanOut fanOut;
+  private final Spectator spectator;
+  private final int stripe;
+  private volatile long cursor;
+  private volatile boolean evicted;
+
+  /**
+   * Constructor.
+   *
+   * @param fanOut The fan-out subscribed to.
+   * @param spectator The spectator.
+   * @param stripe The index of the dispatch thread delivering to the spectator.
+   * @param cursor The sequence of the first event to deliver.
+   */
+  Subscription(final SpectatorFanOut fanOut, final Spectator spectator, final int stripe,
+      final long cursor) {
+    this.fanOut = fanOut;
+    this.spectator = spectator;
+    this.stripe = stripe;
+    this.cursor = cursor;
+  }
+
+  /**
+   * Returns the number of events published and not delivered to the spectator yet.
+   *
+   * @return The lag in events.
+   */
+  public long getLag() {
+    return Math.max(0, fanOut.getPublishedEvents() - cursor);
+  }
+
+  /**
+   * Returns whether the spectator was evicted.
+   *
+   * @return A boolean indicating the status.
+   */
+  public boolean isEvicted() {
+    return evicted;
+  }
+
+  /**
+   * Unsubscribes the spectator. An event being delivered may still reach it.
+   */
+  @Override
+  public void close() {
+    fanOut.unsubscribe(this);
+  }
+
+  /**
+   * Returns the spectator.
+   *
+   * @return The spectator.
+   */
+  Spectator getSpectator() {
+    return spectator;
+  }
+
+  /**
+   * Returns the index of the dispatch thread delivering to the spectator.
+   *
+   * @return The index of the dispatch thread.
+   */
+  int getStripe() {
+    return stripe;
+  }
+
+  /**
+   * Returns the sequence of the next event to deliver.
+   *
+   * @return The sequence.
+   */
+  long getCursor() {
+    return cursor;
+  }
+
+  /**
+   * Sets the sequence of the next event to deliver, from the dispatch thread only.
+   *
+   * @param c The sequence.
+   */
+  void setCursor(final long c) {
+    cursor = c;
+  }
+
+  /**
+   * Marks the spectator as evicted.
+   */
+  void setEvicted() {
+    evicted = true;
+  }
+}
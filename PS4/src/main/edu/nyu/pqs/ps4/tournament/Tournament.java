@@ -0,0 +1,399 @@
+package edu.nyu.pqs.ps4.tournament;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.player.Player;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
+import edu.nyu.pqs.ps4.model.player.PlayerType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class plays a number of games between two player types built by a {@link PlayerFactory},
+ * A moving first in the games of even index and B in the others. Games are played in parallel by
+ * worker threads, each with its own board and its own four players, A and B as either color, which
+ * are kept from game to game like in a match. A move that is illegal or takes longer than the time
+ * limit forfeits the game. Each worker keeps its own tallies, summed into the
+ * {@link TournamentResult} when all games are over.
+ *
+ * <p>A worker asks for each move on a thread of its own and waits for it no longer than the time
+ * limit, so a player that hangs forfeits the game instead of blocking the tournament. The late
+ * search is then interrupted, and the worker closes its players and leaves them and its board to
+ * that thread, playing the next games with new ones.
+ *
+ * <p>As the workers search at the same time, the default factory splits the available processors
+ * between them: an MCTS player searches with one share of the processors rather than all of them,
+ * so that the threads don't outnumber the processors and moves aren't forfeited for time because
+ * of it. Its search players share one transposition table. The players are closed when their
+ * worker is done, and the default factory when the tournament is over.
+ */
+public class Tournament {
+  private final PlayerType playerTypeA;
+  private final PlayerType playerTypeB;
+  private final int games;
+  private final int threads;
+  private final long moveTimeLimitMillis;
+  private final PlayerFactory playerFactory;
+  private final boolean ownPlayerFactory;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private PlayerType playerTypeA;
+    private PlayerType playerTypeB;
+    private int games = 100;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long moveTimeLimitMillis = ConnectFourSetting.TOURNAMENT_MOVE_TIME_LIMIT_MILLIS;
+    private PlayerFactory playerFactory;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the types of the players when building an instance.
+     *
+     * @param a The input type of player A.
+     * @param b The input type of player B.
+     * @return The altered builder class.
+     */
+    public Builder playerTypes(final PlayerType a, final PlayerType b) {
+      playerTypeA = a;
+      playerTypeB = b;
+      return this;
+    }
+
+    /**
+     * Sets the number of games when building an instance. Defaults to 100.
+     *
+     * @param g The input number of games.
+     * @return The altered builder class.
+     */
+    public Builder games(final int g) {
+      games = g;
+      return this;
+    }
+
+    /**
+     * Sets the number of games played at the same time when building an instance. Defaults to the
+     * number of available processors.
+     *
+     * @param t The input number of threads.
+     * @return The altered builder class.
+     */
+    public Builder threads(final int t) {
+      threads = t;
+      return this;
+    }
+
+    /**
+     * Sets the time limit per move in milliseconds when building an instance. Defaults to
+     * TOURNAMENT_MOVE_TIME_LIMIT_MILLIS.
+     *
+     * @param m The input time limit.
+     * @return The altered builder class.
+     */
+    public Builder moveTimeLimitMillis(final long m) {
+      moveTimeLimitMillis = m;
+      return this;
+    }
+
+    /**
+     * Sets the factory building the players when building an instance, which the caller closes.
+     * Each worker builds four players with it, so the memory of the tournament grows with the
+     * threads unless the factory shares its transposition table. Defaults to null, which means a
+     * new factory with a shared transposition table whose MCTS players search with the available
+     * processors divided by the number of threads, at least one, closed with the tournament.
+     *
+     * @param p The input player factory.
+     * @return The altered builder class.
+     */
+    public Builder playerFactory(final PlayerFactory p) {
+      playerFactory = p;
+      return this;
+    }
+
+    /**
+     * Builds the tournament instance. Require the player types to be non-null and not to be HUMAN,
+     * and the games, threads and time limit to be positive.
+     *
+     * @return The built tournament instance.
+     */
+    public Tournament build() {
+      Objects.requireNonNull(playerTypeA);
+      Objects.requireNonNull(playerTypeB);
+      if (playerTypeA == PlayerType.HUMAN || playerTypeB == PlayerType.HUMAN) {
+        throw new IllegalArgumentException("human players can't play a tournament");
+      }
+      if (games < 1 || threads < 1 || moveTimeLimitMillis < 1) {
+        throw new IllegalArgumentException("games, threads and time limit must be positive");
+      }
+      return new Tournament(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private Tournament(final Builder builder) {
+    playerTypeA = builder.playerTypeA;
+    playerTypeB = builder.playerTypeB;
+    games = builder.games;
+    threads = Math.min(builder.threads, builder.games);
+    moveTimeLimitMillis = builder.moveTimeLimitMillis;
+    ownPlayerFactory = builder.playerFactory == null;
+    playerFactory = ownPlayerFactory
+        ? new PlayerFactory.Builder().sharedTranspositionTable(true)
+            .mctsThreads(Math.max(1, Runtime.getRuntime().availableProcessors() / threads)).build()
+        : builder.playerFactory;
+  }
+
+  /**
+   * Plays all games and waits for them.
+   *
+   * @return The result of the tournament.
+   */
+  public TournamentResult run() {
+    final long start = System.nanoTime();
+    final AtomicInteger nextGame = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+      final Thread thread = new Thread(r, "tournament-worker");
+      thread.setDaemon(true);
+      return thread;
+    });
+    final List<Future<Tally>> futures = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      futures.add(executor.submit(() -> playGames(nextGame)));
+    }
+    final Tally total = new Tally();
+    try {
+      for (final Future<Tally> future : futures) {
+        total.add(future.get());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+      if (ownPlayerFactory) {
+        playerFactory.close();
+      }
+    }
+    return new TournamentResult.Builder().playerTypes(playerTypeA, playerTypeB)
+        .results(total.wins, total.draws, total.losses).forfeits(total.forfeitsA, total.forfeitsB)
+        .moves(total.movesA, total.movesB).thinkNanos(total.thinkNanosA, total.thinkNanosB)
+        .elapsedNanos(System.nanoTime() - start).build();
+  }
+
+  /**
+   * Plays games until all games are taken, on a board and players of this worker, and closes the
+   * players.
+   *
+   * @param nextGame The index of the next game to take.
+   * @return The tallies of the games played.
+   */
+  private Tally playGames(final AtomicInteger nextGame) {
+    final Tally tally = new Tally();
+    final Table table = new Table();
+    try {
+      for (int game = nextGame.getAndIncrement(); game < games;
+          game = nextGame.getAndIncrement()) {
+        if (game % 2 == 0) {
+          playGame(table, table.firstA, table.secondB, true, tally);
+        } else {
+          playGame(table, table.firstB, table.secondA, false, tally);
+        }
+      }
+    } finally {
+      table.close();
+    }
+    return tally;
+  }
+
+  /**
+   * Plays a game on the board of a table. A move not given within the time limit forfeits the game
+   * and replaces the table.
+   *
+   * @param table The table, whose board is cleared first.
+   * @param first The player moving first.
+   * @param second The player moving second.
+   * @param firstIsA Whether the player moving first is player A.
+   * @param tally The tallies to add the game to.
+   */
+  private void playGame(final Table table, final Player first, final Player second,
+      final boolean firstIsA, final Tally tally) {
+    final Board board = table.board;
+    board.clear();
+    final int cells = ConnectFourSetting.COLUMN_NUMBER * ConnectFourSetting.ROW_NUMBER;
+    for (int ply = 0; ply < cells; ply++) {
+      final Player mover = ply % 2 == 0 ? first : second;
+      final boolean moverIsA = (ply % 2 == 0) == firstIsA;
+      final long start = System.nanoTime();
+      final Future<Integer> advice = table.advisor.submit(mover::getMoveColumnAdvice);
+      int column;
+      boolean late = false;
+      try {
+        column = advice.get(moveTimeLimitMillis, TimeUnit.MILLISECONDS);
+      } catch (final TimeoutException e) {
+        advice.cancel(true);
+        table.replace();
+        column = -1;
+        late = true;
+      } catch (final InterruptedException e) {
+        advice.cancel(true);
+        Thread.currentThread().interrupt();
+        return;
+      } catch (final ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+      final long thinkNanos = System.nanoTime() - start;
+      if (moverIsA) {
+        tally.movesA++;
+        tally.thinkNanosA += thinkNanos;
+      } else {
+        tally.movesB++;
+        tally.thinkNanosB += thinkNanos;
+      }
+      if (late || board.drop(mover.getName(), mover.getColor(), column) == null) {
+        if (moverIsA) {
+          tally.forfeitsA++;
+          tally.losses++;
+        } else {
+          tally.forfeitsB++;
+          tally.wins++;
+        }
+        return;
+      } else if (board.isWon()) {
+        if (moverIsA) {
+          tally.wins++;
+        } else {
+          tally.losses++;
+        }
+        return;
+      }
+    }
+    tally.draws++;
+  }
+
+  /**
+   * Builds a player.
+   *
+   * @param playerType The type of the player.
+   * @param index The index of the player, 0 to move first and 1 to move second.
+   * @param board The board of the player.
+   * @return The player.
+   */
+  private Player newPlayer(final PlayerType playerType, final int index, final Board board) {
+    return index == 0
+        ? playerFactory.getPlayer(playerType, ConnectFourSetting.PLAYER_ONE_NAME,
+            ConnectFourSetting.PLAYER_ONE_COLOR, board)
+        : playerFactory.getPlayer(playerType, ConnectFourSetting.PLAYER_TWO_NAME,
+            ConnectFourSetting.PLAYER_TWO_COLOR, board);
+  }
+
+  /**
+   * This class is the board and the four players of a worker, with the thread asking the players
+   * for their moves.
+   */
+  private final class Table {
+    private Board board;
+    private Player firstA;
+    private Player secondA;
+    private Player firstB;
+    private Player secondB;
+    private ExecutorService advisor;
+
+    /**
+     * Constructor.
+     */
+    private Table() {
+      open();
+    }
+
+    /**
+     * Builds a new board, new players and a new thread to ask them, started now so that its start
+     * isn't charged to the first move.
+     */
+    private void open() {
+      board = Board.newInstance();
+      firstA = newPlayer(playerTypeA, 0, board);
+      secondA = newPlayer(playerTypeA, 1, board);
+      firstB = newPlayer(playerTypeB, 0, board);
+      secondB = newPlayer(playerTypeB, 1, board);
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(), r -> {
+            final Thread thread = new Thread(r, "tournament-advice");
+            thread.setDaemon(true);
+            return thread;
+          });
+      executor.prestartCoreThread();
+      advisor = executor;
+    }
+
+    /**
+     * Leaves the board and the players to a late move and builds new ones.
+     */
+    private void replace() {
+      close();
+      open();
+    }
+
+    /**
+     * Interrupts the thread asking the players and closes the players.
+     */
+    private void close() {
+      advisor.shutdownNow();
+      firstA.close();
+      secondA.close();
+      firstB.close();
+      secondB.close();
+    }
+  }
+
+  /**
+   * This class is the tallies of the games of a worker, from the point of view of player A.
+   */
+  private static final class Tally {
+    private int wins;
+    private int draws;
+    private int losses;
+    private int forfeitsA;
+    private int forfeitsB;
+    private long movesA;
+    private long movesB;
+    private long thinkNanosA;
+    private long thinkNanosB;
+
+    /**
+     * Adds the tallies of another worker.
+     *
+     * @param other The other tallies.
+     */
+    private void add(final Tally other) {
+      wins += other.wins;
+      draws += other.draws;
+      losses += other.losses;
+      forfeitsA += other.forfeitsA;
+      forfeitsB += other.forfeitsB;
+      movesA += other.movesA;
+      movesB += other.movesB;
+      thinkNanosA += other.thinkNanosA;
+      thinkNanosB += other.thinkNanosB;
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package edu.nyu.pqs.ps4.tournament;
+
+import edu.nyu.pqs.ps4.model.player.PlayerType;
+
+/**
+ * This class consists of elements that describe the result of a {@link Tournament} from the point
+ * of view of its first player type A against the second type B, including the wins, draws and
+ * losses of A, the games each side forfeited, and the moves made and time spent thinking by each
+ * side. The Elo difference of A over B follows from the score of A, and its 95% confidence
+ * interval from the standard error of the score per game.
+ */
+public class TournamentResult {
+  private static final double Z_95 = 1.959964;
+  private final PlayerType playerTypeA;
+  private final PlayerType playerTypeB;
+  private final int wins;
+  private final int draws;
+  private final int losses;
+  private final int forfeitsA;
+  private final int forfeitsB;
+  private final long movesA;
+  private final long movesB;
+  private final long thinkNanosA;
+  private final long thinkNanosB;
+  private final long elapsedNanos;
+
+  /**
+   * Builder class.
+   */
+  public static class Builder {
+    private PlayerType playerTypeA;
+    private PlayerType playerTypeB;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int forfeitsA;
+    private int forfeitsB;
+    private long movesA;
+    private long movesB;
+    private long thinkNanosA;
+    private long thinkNanosB;
+    private long elapsedNanos;
+
+    /**
+     * Constructor.
+     */
+    public Builder() {}
+
+    /**
+     * Sets the types of the players when building an instance.
+     *
+     * @param a The input type of player A.
+     * @param b The input type of player B.
+     * @return The altered builder class.
+     */
+    public Builder playerTypes(final PlayerType a, final PlayerType b) {
+      playerTypeA = a;
+      playerTypeB = b;
+      return this;
+    }
+
+    /**
+     * Sets the games won, drawn and lost by player A when building an instance.
+     *
+     * @param w The input number of wins.
+     * @param d The input number of draws.
+     * @param l The input number of losses.
+     * @return The altered builder class.
+     */
+    public Builder results(final int w, final int d, final int l) {
+      wins = w;
+      draws = d;
+      losses = l;
+      return this;
+    }
+
+    /**
+     * Sets the games forfeited by each player, by an illegal move or a move over the time limit,
+     * when building an instance.
+     *
+     * @param a The input number of games forfeited by player A.
+     * @param b The input number of games forfeited by player B.
+     * @return The altered builder class.
+     */
+    public Builder forfeits(final int a, final int b) {
+      forfeitsA = a;
+      forfeitsB = b;
+      return this;
+    }
+
+    /**
+     * Sets the moves made by each player when building an instance.
+     *
+     * @param a The input number of moves of player A.
+     * @param b The input number of moves of player B.
+     * @return The altered builder class.
+     */
+    public Builder moves(final long a, final long b) {
+      movesA = a;
+      movesB = b;
+      return this;
+    }
+
+    /**
+     * Sets the time spent thinking by each player in nanoseconds when building an instance.
+     *
+     * @param a The input think time of player A.
+     * @param b The input think time of player B.
+     * @return The altered builder class.
+     */
+    public Builder thinkNanos(final long a, final long b) {
+      thinkNanosA = a;
+      thinkNanosB = b;
+      return this;
+    }
+
+    /**
+     * Sets the wall-clock time of the tournament in nanoseconds when building an instance.
+     *
+     * @param e The input elapsed time.
+     * @return The altered builder class.
+     */
+    public Builder elapsedNanos(final long e) {
+      elapsedNanos = e;
+      return this;
+    }
+
+    /**
+     * Builds the tournament result instance.
+     *
+     * @return The built tournament result instance.
+     */
+    public TournamentResult build() {
+      return new TournamentResult(this);
+    }
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param builder Builder.
+   */
+  private TournamentResult(final Builder builder) {
+    playerTypeA = builder.playerTypeA;
+    playerTypeB = builder.playerTypeB;
+    wins = builder.wins;
+    draws = builder.draws;
+    losses = builder.losses;
+    forfeitsA = builder.forfeitsA;
+    forfeitsB = builder.forfeitsB;
+    movesA = builder.movesA;
+    movesB = builder.movesB;
+    thinkNanosA = builder.thinkNanosA;
+    thinkNanosB = builder.thinkNanosB;
+    elapsedNanos = builder.elapsedNanos;
+  }
+
+  /**
+   * Returns the number of games played.
+   *
+   * @return The number of games.
+   */
+  public int getGames() {
+    return wins + draws + losses;
+  }
+
+  /**
+   * Returns the number of games won by player A.
+   *
+   * @return The number of wins.
+   */
+  public int getWins() {
+    return wins;
+  }
+
+  /**
+   * Returns the number of games drawn.
+   *
+   * @return The number of draws.
+   */
+  public int getDraws() {
+    return draws;
+  }
+
+  /**
+   * Returns the number of games lost by player A.
+   *
+   * @return The number of losses.
+   */
+  public int getLosses() {
+    return losses;
+  }
+
+  /**
+   * Returns the number of games forfeited by player A.
+   *
+   * @return The number of forfeits.
+   */
+  public int getForfeitsA() {
+    return forfeitsA;
+  }
+
+  /**
+   * Returns the number of games forfeited by player B.
+   *
+   * @return The number of forfeits.
+   */
+  public int getForfeitsB() {
+    return forfeitsB;
+  }
+
+  /**
+   * Returns the wall-clock time of the tournament.
+   *
+   * @return The elapsed time in nanoseconds.
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the score of player A per game, a win counting 1 and a draw 0.5.
+   *
+   * @return The score, 0.5 if no game was played.
+   */
+  public double getScore() {
+    final int games = getGames();
+    return games == 0 ? 0.5 : (wins + 0.5 * draws) / games;
+  }
+
+  /**
+   * Returns the Elo difference of player A over player B matching the score.
+   *
+   * @return The Elo difference, infinite if one side scored everything.
+   */
+  public double getEloDifference() {
+    return toElo(getScore());
+  }
+
+  /**
+   * Returns the lower bound of the 95% confidence interval of the Elo difference.
+   *
+   * @return The lower bound of the Elo difference.
+   */
+  public double getEloLowerBound() {
+    return toElo(getScore() - Z_95 * getScoreStandardError());
+  }
+
+  /**
+   * Returns the upper bound of the 95% confidence interval of the Elo difference.
+   *
+   * @return The upper bound of the Elo difference.
+   */
+  public double getEloUpperBound() {
+    return toElo(getScore() + Z_95 * getScoreStandardError());
+  }
+
+  /**
+   * Returns the average time player A thought per move.
+   *
+   * @return The average think time in milliseconds, 0 if it made no move.
+   */
+  public double getAverageThinkMillisA() {
+    return movesA == 0 ? 0 : thinkNanosA / 1e6 / movesA;
+  }
+
+  /**
+   * Returns the average time player B thought per move.
+   *
+   * @return The average think time in milliseconds, 0 if it made no move.
+   */
+  public double getAverageThinkMillisB() {
+    return movesB == 0 ? 0 : thinkNanosB / 1e6 / movesB;
+  }
+
+  /**
+   * Returns the standard error of the mean score of player A over the games.
+   *
+   * @return The standard error.
+   */
+  private double getScoreStandardError() {
+    final int games = getGames();
+    if (games == 0) {
+      return 0;
+    }
+    final double score = getScore();
+    final double variance = (wins * (1 - score) * (1 - score) + draws * (0.5 - score)
+        * (0.5 - score) + losses * score * score) / games;
+    return Math.sqrt(variance / games);
+  }
+
+  /**
+   * Converts a score per game to an Elo difference.
+   *
+   * @param score The score.
+   * @return The Elo difference, infinite if the score is 0 or 1 or beyond.
+   */
+  private static double toElo(final double score) {
+    if (score <= 0) {
+      return Double.NEGATIVE_INFINITY;
+    } else if (score >= 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return -400 * Math.log10(1 / score - 1);
+  }
+
+  /**
+   * Returns the string representation of the result. The string follows the format: "A vs B: W
+   * wins, D draws, L losses (forfeits FA/FB), Elo E [LO, HI], think ms TA/TB" where A and B are
+   * the player types.
+   */
+  @Override
+  public String toString() {
+    return String.format("%s vs %s: %d wins, %d draws, %d losses (forfeits %d/%d), Elo %+.0f"
+        + " [%+.0f, %+.0f], think ms %.1f/%.1f", playerTypeA, playerTypeB, wins, draws, losses,
+        forfeitsA, forfeitsB, getEloDifference(), getEloLowerBound(), getEloUpperBound(),
+        getAverageThinkMillisA(), getAverageThinkMillisB());
+  }
+}
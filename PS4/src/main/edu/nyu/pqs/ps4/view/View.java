@@ -24,29 +24,35 @@ import javax.swing.SwingConstants;
  */
 public class View implements Listener {
   private final Model model;
-  private final JLabel[][] board =
-      new JLabel[ConnectFourSetting.ROW_NUMBER][ConnectFourSetting.COLUMN_NUMBER];
-  private final JButton[] dropButtons = new JButton[ConnectFourSetting.COLUMN_NUMBER];
+  private final int columnNumber;
+  private final int rowNumber;
+  private final JLabel[][] board;
+  private final JButton[] dropButtons;
   private final JButton[] startButtons = new JButton[ConnectFourSetting.MODE_NUMBER];
   private final JTextArea information = new JTextArea();
 
   /**
    * Public constructor that takes the model that this class listens to and creates a GUI that users
    * can interact with. The GUI includes two start buttons to start with different modes
-   * (manmachine, multiplayer), a 7x6 board with 7 corresponding drop buttons, and an text area to
-   * show the information. The drop buttons are disabled when the game is not ongoing.
+   * (manmachine, multiplayer), a board of the geometry of the model, e.g. 7x6, with a drop button
+   * per column, and an text area to show the information. The drop buttons are disabled when the
+   * game is not ongoing.
    *
    * @param m The model to listen to.
    */
   public View(final Model m) {
     model = m;
     model.addListener(this);
+    columnNumber = model.getGeometry().getColumnNumber();
+    rowNumber = model.getGeometry().getRowNumber();
+    board = new JLabel[rowNumber][columnNumber];
+    dropButtons = new JButton[columnNumber];
 
     final JFrame frame = new JFrame("Connect Four");
     final JPanel panel = new JPanel(new BorderLayout());
     final JPanel leftPanel = new JPanel(new BorderLayout());
-    final JPanel dropPanel = new JPanel(new GridLayout(0, ConnectFourSetting.COLUMN_NUMBER));
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+    final JPanel dropPanel = new JPanel(new GridLayout(0, columnNumber));
+    for (int i = 0; i < columnNumber; i++) {
       dropButtons[i] = new JButton("Drop");
       dropButtons[i].addActionListener(new ActionListener() {
         @Override
@@ -57,10 +63,9 @@ public class View implements Listener {
       dropButtons[i].setEnabled(false);
       dropPanel.add(dropButtons[i]);
     }
-    final JPanel boardPanel =
-        new JPanel(new GridLayout(ConnectFourSetting.ROW_NUMBER, ConnectFourSetting.COLUMN_NUMBER));
-    for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
-      for (int j = 0; j < ConnectFourSetting.COLUMN_NUMBER; j++) {
+    final JPanel boardPanel = new JPanel(new GridLayout(rowNumber, columnNumber));
+    for (int i = 0; i < rowNumber; i++) {
+      for (int j = 0; j < columnNumber; j++) {
         board[i][j] = new JLabel();
         board[i][j].setOpaque(true);
         board[i][j].setBorder(BorderFactory.createLineBorder(Color.DARK_GRAY));
@@ -96,7 +101,7 @@ public class View implements Listener {
     panel.add(leftPanel, BorderLayout.CENTER);
     panel.add(rightPanel, BorderLayout.EAST);
     frame.getContentPane().add(panel);
-    frame.setSize(600, 400);
+    frame.setSize(320 + 40 * columnNumber, 100 + 50 * rowNumber);
     frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
     frame.setVisible(true);
   }
@@ -107,13 +112,13 @@ public class View implements Listener {
    */
   @Override
   public void gameStarted(final String nextPlayerName) {
-    for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
-      for (int j = 0; j < ConnectFourSetting.COLUMN_NUMBER; j++) {
+    for (int i = 0; i < rowNumber; i++) {
+      for (int j = 0; j < columnNumber; j++) {
         board[i][j].setText("");
         board[i][j].setBackground(Color.LIGHT_GRAY);
       }
     }
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+    for (int i = 0; i < columnNumber; i++) {
       dropButtons[i].setEnabled(true);
     }
     information.append(String.format("Game Started.\n%s take this turn.\n", nextPlayerName));
@@ -149,7 +154,7 @@ public class View implements Listener {
    */
   @Override
   public void gameTied(final Move move) {
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+    for (int i = 0; i < columnNumber; i++) {
       dropButtons[i].setEnabled(false);
     }
     board[getRowInPanel(move.getRow())][move.getColumn()].setText(move.getPlayerName());
@@ -166,7 +171,7 @@ public class View implements Listener {
    */
   @Override
   public void gameWon(final Move move) {
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+    for (int i = 0; i < columnNumber; i++) {
       dropButtons[i].setEnabled(false);
     }
     board[getRowInPanel(move.getRow())][move.getColumn()].setText(move.getPlayerName());
@@ -184,7 +189,7 @@ public class View implements Listener {
    * @return The row number to display in GUI.
    */
   private int getRowInPanel(final int row) {
-    return (ConnectFourSetting.ROW_NUMBER - 1 - row);
+    return (rowNumber - 1 - row);
   }
 
   /**
@@ -210,7 +215,7 @@ public class View implements Listener {
    * when target button is pressed.
    */
   private void makeMove(final Object source) {
-    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+    for (int i = 0; i < columnNumber; i++) {
       if (source.equals(dropButtons[i])) {
         model.makeMove(i);
         break;
@@ -0,0 +1,208 @@
+package edu.nyu.pqs.ps4.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BitBoardTest {
+  private final BitBoard bitBoard = new BitBoard();
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+  }
+
+  @Test
+  public void testClear() {
+    bitBoard.drop(0, 0);
+    bitBoard.clear();
+    assertEquals(0, bitBoard.getMoveCount());
+    assertEquals(0L, bitBoard.getMask(0));
+    assertEquals(0, bitBoard.getHeight(0));
+  }
+
+  @Test
+  public void testDrop() {
+    assertEquals(0, bitBoard.drop(3, 1));
+    assertEquals(1, bitBoard.drop(3, 0));
+    assertEquals(2, bitBoard.getHeight(3));
+    assertEquals(3, bitBoard.getColumnAt(1));
+    assertEquals(0, bitBoard.getPlayerAt(1));
+    assertEquals(1L << (3 * BitBoard.COLUMN_HEIGHT), bitBoard.getMask(1));
+  }
+
+  @Test
+  public void testDrop_outOfBound() {
+    assertEquals(-1, bitBoard.drop(-1, 0));
+    assertEquals(-1, bitBoard.drop(ConnectFourSetting.COLUMN_NUMBER, 0));
+  }
+
+  @Test
+  public void testDrop_fullColumn() {
+    for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
+      bitBoard.drop(0, i / 2 % 2);
+    }
+    assertFalse(bitBoard.canDrop(0));
+    assertEquals(-1, bitBoard.drop(0, 0));
+  }
+
+  @Test
+  public void testIsWon_horizontalDoesNotWrapColumns() {
+    for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
+      bitBoard.drop(0, i % 2);
+    }
+    bitBoard.drop(1, 1);
+    bitBoard.drop(1, 1);
+    assertFalse(bitBoard.isWon());
+  }
+
+  @Test
+  public void testIsWon_diagonal() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      for (int j = i; j < ConnectFourSetting.CONSECUTIVE_COUNT - 1; j++) {
+        bitBoard.drop(i, 0);
+      }
+      bitBoard.drop(i, 1);
+    }
+    assertTrue(bitBoard.isWon());
+    assertEquals(-1, bitBoard.drop(6, 0));
+  }
+
+  @Test
+  public void testCancelLastMove() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(i, 0);
+    }
+    assertTrue(bitBoard.isWon());
+    bitBoard.cancelLastMove();
+    assertFalse(bitBoard.isWon());
+    assertEquals(ConnectFourSetting.CONSECUTIVE_COUNT - 1, bitBoard.getMoveCount());
+    assertEquals(0, bitBoard.getHeight(ConnectFourSetting.CONSECUTIVE_COUNT - 1));
+  }
+
+  @Test
+  public void testIsFull() {
+    for (int i = 0; i < ConnectFourSetting.COLUMN_NUMBER; i++) {
+      for (int j = 0; j < ConnectFourSetting.ROW_NUMBER; j++) {
+        bitBoard.drop(i, (i + j / (ConnectFourSetting.ROW_NUMBER / 2)) % 2);
+      }
+    }
+    assertEquals(ConnectFourSetting.COLUMN_NUMBER * ConnectFourSetting.ROW_NUMBER,
+        bitBoard.getMoveCount());
+    assertTrue(bitBoard.isFull());
+  }
+
+  @Test
+  public void testCopy() {
+    bitBoard.drop(2, 0);
+    final BitBoard copy = new BitBoard(bitBoard);
+    copy.drop(2, 1);
+    assertEquals(1, bitBoard.getMoveCount());
+    assertEquals(2, copy.getMoveCount());
+    assertEquals(bitBoard.getMask(0), copy.getMask(0));
+  }
+
+  @Test
+  public void testGetKey() {
+    bitBoard.drop(2, 0);
+    bitBoard.drop(3, 1);
+    final long key = bitBoard.getKey();
+    bitBoard.drop(4, 0);
+    assertFalse(key == bitBoard.getKey());
+    bitBoard.cancelLastMove();
+    assertEquals(key, bitBoard.getKey());
+    final BitBoard other = new BitBoard();
+    other.drop(3, 1);
+    other.drop(2, 0);
+    assertEquals(key, other.getKey());
+    other.clear();
+    assertEquals(0L, other.getKey());
+  }
+
+  @Test
+  public void testGetCanonicalKey() {
+    final BitBoard mirror = new BitBoard();
+    final Random random = new Random(23);
+    for (int i = 0; i < 30; i++) {
+      final int column = random.nextInt(ConnectFourSetting.COLUMN_NUMBER);
+      if (bitBoard.drop(column, i % 2) < 0) {
+        continue;
+      }
+      mirror.drop(BitBoard.mirror(column), i % 2);
+      assertEquals(bitBoard.getKey(), mirror.getMirrorKey());
+      assertEquals(bitBoard.getMirrorKey(), mirror.getKey());
+      assertEquals(bitBoard.getCanonicalKey(), mirror.getCanonicalKey());
+      if (bitBoard.getKey() != bitBoard.getMirrorKey()) {
+        assertFalse(bitBoard.isMirrored() == mirror.isMirrored());
+      }
+    }
+    final long canonicalKey = bitBoard.getCanonicalKey();
+    if (bitBoard.drop(0, 0) >= 0) {
+      bitBoard.cancelLastMove();
+    }
+    assertEquals(canonicalKey, bitBoard.getCanonicalKey());
+    assertEquals(canonicalKey, new BitBoard(bitBoard).getCanonicalKey());
+    bitBoard.clear();
+    assertEquals(0L, bitBoard.getMirrorKey());
+  }
+
+  @Test
+  public void testGetCanonicalKey_symmetric() {
+    bitBoard.drop(3, 0);
+    bitBoard.drop(2, 1);
+    bitBoard.drop(4, 1);
+    assertEquals(bitBoard.getKey(), bitBoard.getMirrorKey());
+    assertFalse(bitBoard.isMirrored());
+    assertEquals(-1, BitBoard.mirror(-1));
+    assertEquals(6, BitBoard.mirror(0));
+    assertEquals(3, BitBoard.mirror(3));
+  }
+
+  @Test
+  public void testIsWon_matchesLinesThroughLastMove() {
+    final Random random = new Random(19);
+    for (int game = 0; game < 2000; game++) {
+      bitBoard.clear();
+      while (!bitBoard.isWon() && !bitBoard.isFull()) {
+        final int column = random.nextInt(ConnectFourSetting.COLUMN_NUMBER);
+        final int player = bitBoard.getMoveCount() % 2;
+        final int row = bitBoard.drop(column, player);
+        if (row < 0) {
+          continue;
+        }
+        assertEquals(hasLineThrough(bitBoard.getMask(player), column, row), bitBoard.isWon());
+        if (random.nextInt(4) == 0) {
+          bitBoard.cancelLastMove();
+          assertFalse(bitBoard.isWon());
+        }
+      }
+    }
+  }
+
+  private static boolean hasLineThrough(final long mask, final int column, final int row) {
+    final int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+    for (final int[] direction : directions) {
+      int count = 1;
+      for (int sign = -1; sign <= 1; sign += 2) {
+        int c = column + sign * direction[0];
+        int r = row + sign * direction[1];
+        while (c >= 0 && c < ConnectFourSetting.COLUMN_NUMBER && r >= 0
+            && r < ConnectFourSetting.ROW_NUMBER
+            && (mask & (1L << (c * BitBoard.COLUMN_HEIGHT + r))) != 0) {
+          count++;
+          c += sign * direction[0];
+          r += sign * direction[1];
+        }
+      }
+      if (count >= ConnectFourSetting.CONSECUTIVE_COUNT) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
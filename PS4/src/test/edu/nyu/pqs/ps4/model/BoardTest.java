@@ -2,10 +2,14 @@ package edu.nyu.pqs.ps4.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import edu.nyu.pqs.ps4.ConnectFourSetting;
+import java.awt.Color;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -197,4 +201,100 @@ class BoardTest {
     assertNull(board.getBoard()[move.getColumn()][move.getRow()]);
     assertFalse(board.isWon());
   }
+
+  @Test
+  public void testNewInstance() {
+    final Board other = Board.newInstance();
+    other.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 0);
+    assertEquals(0, board.getMoveHistory().size());
+    assertEquals(1, other.getMoveHistory().size());
+  }
+
+  @Test
+  public void testCopy() {
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 0);
+    final Board copy = board.copy();
+    copy.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, 0);
+    assertEquals(1, board.getMoveHistory().size());
+    assertNull(board.getBoard()[0][1]);
+    assertEquals(2, copy.getMoveHistory().size());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_COLOR, copy.getBoard()[0][0]);
+    assertEquals(ConnectFourSetting.PLAYER_TWO_COLOR, copy.getBoard()[0][1]);
+  }
+
+  @Test
+  public void testNewInstance_geometry() {
+    final Geometry geometry = new Geometry.Builder().columnNumber(9).rowNumber(7).build();
+    final Board other = Board.newInstance(geometry);
+    assertEquals(geometry, other.getGeometry());
+    assertEquals(9, other.getBoard().length);
+    assertEquals(7, other.getBoard()[0].length);
+    for (int i = 5; i < 9; i++) {
+      assertFalse(other.isWon());
+      assertEquals(0,
+          other.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, i)
+              .getRow());
+    }
+    assertTrue(other.isWon());
+    final Board copy = other.copy();
+    assertTrue(copy.isWon());
+    assertEquals(geometry, copy.getGeometry());
+    assertThrows(IllegalStateException.class, () -> other.copyBitBoard());
+  }
+
+  @Test
+  public void testDrop_flyweightMoves() {
+    final Move move =
+        board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 2);
+    board.cancelLastMove();
+    assertSame(move,
+        board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 2));
+    assertSame(move, board.getMoveAt(0));
+    board.cancelLastMove();
+    final Move renamed = board.drop("OTHER", ConnectFourSetting.PLAYER_ONE_COLOR, 2);
+    assertNotSame(move, renamed);
+    assertEquals("OTHER", renamed.getPlayerName());
+    assertEquals(2, renamed.getColumn());
+  }
+
+  @Test
+  public void testGetMoveAt() {
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 3);
+    board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, 3);
+    assertEquals(2, board.getMoveCount());
+    final Move move = board.getMoveAt(1);
+    assertEquals(ConnectFourSetting.PLAYER_TWO_NAME, move.getPlayerName());
+    assertEquals(ConnectFourSetting.PLAYER_TWO_COLOR, move.getPlayerColor());
+    assertEquals(3, move.getColumn());
+    assertEquals(1, move.getRow());
+    assertThrows(IndexOutOfBoundsException.class, () -> board.getMoveAt(2));
+  }
+
+  @Test
+  public void testGetMoveAt_renamedPlayer() {
+    final Board other = Board.newInstance();
+    other.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 3);
+    other.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, 3);
+    other.drop("OTHER", ConnectFourSetting.PLAYER_ONE_COLOR, 4);
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, other.getMoveAt(0).getPlayerName());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_COLOR, other.getMoveAt(0).getPlayerColor());
+    assertEquals("OTHER", other.getMoveAt(2).getPlayerName());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_COLOR, other.getMoveAt(2).getPlayerColor());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, other.getMoveHistory().get(0).getPlayerName());
+    assertTrue(other.toString().contains(ConnectFourSetting.PLAYER_ONE_NAME));
+    other.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 5);
+    assertSame(other.getMoveAt(0).getPlayerName(), other.getMoveAt(3).getPlayerName());
+    assertEquals("OTHER", other.getMoveAt(2).getPlayerName());
+  }
+
+  @Test
+  public void testDrop_unknownColor() {
+    board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, 0);
+    assertThrows(IllegalArgumentException.class,
+        () -> board.drop(ConnectFourSetting.PLAYER_TWO_NAME, Color.GREEN, 0));
+    assertThrows(IllegalArgumentException.class, () -> Board.getPlayerIndex(Color.GREEN));
+    assertThrows(IllegalArgumentException.class, () -> Board.getPlayerIndex(null));
+    assertEquals(1, Board.getPlayerIndex(ConnectFourSetting.PLAYER_TWO_COLOR));
+    assertEquals(1, board.getMoveCount());
+  }
 }
@@ -0,0 +1,50 @@
+package edu.nyu.pqs.ps4.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import org.junit.jupiter.api.Test;
+
+class GeometryTest {
+  @Test
+  public void testBuild_defaults() {
+    final Geometry geometry = new Geometry.Builder().build();
+    assertEquals(ConnectFourSetting.COLUMN_NUMBER, geometry.getColumnNumber());
+    assertEquals(ConnectFourSetting.ROW_NUMBER, geometry.getRowNumber());
+    assertEquals(ConnectFourSetting.CONSECUTIVE_COUNT, geometry.getConsecutiveCount());
+    assertEquals(Geometry.STANDARD, geometry);
+    assertEquals(Geometry.STANDARD.hashCode(), geometry.hashCode());
+    assertTrue(geometry.isStandard());
+    assertTrue(geometry.fitsInLong());
+  }
+
+  @Test
+  public void testBuild_invalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new Geometry.Builder().columnNumber(0).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new Geometry.Builder().consecutiveCount(1).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new Geometry.Builder().columnNumber(4).rowNumber(4).consecutiveCount(5).build());
+  }
+
+  @Test
+  public void testFitsInLong() {
+    final Geometry eightBySeven = new Geometry.Builder().columnNumber(8).rowNumber(7).build();
+    assertEquals(64, eightBySeven.getBitNumber());
+    assertTrue(eightBySeven.fitsInLong());
+    assertFalse(eightBySeven.isStandard());
+    final Geometry nineBySeven = new Geometry.Builder().columnNumber(9).rowNumber(7).build();
+    assertEquals(63, nineBySeven.getCellNumber());
+    assertFalse(nineBySeven.fitsInLong());
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("geometry: {columns: 9, rows: 7, connect: 5}", new Geometry.Builder()
+        .columnNumber(9).rowNumber(7).consecutiveCount(5).build().toString());
+  }
+}
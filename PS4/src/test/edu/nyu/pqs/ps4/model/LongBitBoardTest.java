@@ -0,0 +1,87 @@
+package edu.nyu.pqs.ps4.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongBitBoardTest {
+  private static final Geometry CONNECT_FIVE = new Geometry.Builder().consecutiveCount(5).build();
+  private static final Geometry EIGHT_BY_SEVEN =
+      new Geometry.Builder().columnNumber(8).rowNumber(7).build();
+
+  @Test
+  public void testConstructor_tooLarge() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new LongBitBoard(new Geometry.Builder().columnNumber(9).rowNumber(7).build()));
+  }
+
+  @Test
+  public void testIsWon_connectFive() {
+    final LongBitBoard board = new LongBitBoard(CONNECT_FIVE);
+    for (int column = 0; column < 4; column++) {
+      board.drop(column, 0);
+      assertFalse(board.isWon());
+    }
+    assertEquals(0, board.drop(4, 0));
+    assertTrue(board.isWon());
+    assertEquals(-1, board.drop(5, 1));
+    board.cancelLastMove();
+    assertFalse(board.isWon());
+  }
+
+  @Test
+  public void testIsWon_topCornerOfFullWord() {
+    final LongBitBoard board = new LongBitBoard(EIGHT_BY_SEVEN);
+    for (int column = 4; column < 8; column++) {
+      for (int row = 0; row < 6; row++) {
+        board.drop(column, (row / 2 + column) % 2);
+      }
+    }
+    for (int column = 4; column < 8; column++) {
+      assertFalse(board.isWon());
+      assertEquals(6, board.drop(column, 0));
+    }
+    assertTrue(board.isWon());
+    assertTrue((board.getMask(0) & 1L << 62) != 0);
+  }
+
+  @Test
+  public void testIsFull() {
+    final Geometry small = new Geometry.Builder().columnNumber(3).rowNumber(1).consecutiveCount(3)
+        .build();
+    final LongBitBoard board = new LongBitBoard(small);
+    board.drop(0, 0);
+    board.drop(1, 1);
+    assertFalse(board.isFull());
+    board.drop(2, 0);
+    assertFalse(board.isWon());
+    assertTrue(board.isFull());
+    board.clear();
+    assertFalse(board.isFull());
+    assertEquals(0L, board.getMask(0));
+  }
+
+  @Test
+  public void testIsWon_matchesMultiWordBitBoard() {
+    final Random random = new Random(20);
+    for (final Geometry geometry : new Geometry[] {CONNECT_FIVE, EIGHT_BY_SEVEN}) {
+      final LongBitBoard board = new LongBitBoard(geometry);
+      final MultiWordBitBoard reference = new MultiWordBitBoard(geometry);
+      for (int game = 0; game < 1000; game++) {
+        board.clear();
+        reference.clear();
+        int player = 0;
+        while (!board.isWon() && !board.isFull()) {
+          final int column = random.nextInt(geometry.getColumnNumber());
+          assertEquals(reference.drop(column, player), board.drop(column, player));
+          assertEquals(reference.isWon(), board.isWon());
+          player = 1 - player;
+        }
+      }
+    }
+  }
+}
@@ -4,13 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import edu.nyu.pqs.ps4.ConnectFourSetting;
 import edu.nyu.pqs.ps4.model.player.Player;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
 import edu.nyu.pqs.ps4.model.player.PlayerType;
+import edu.nyu.pqs.ps4.model.player.SearchPlayer;
 import edu.nyu.pqs.ps4.view.Listener;
+import java.awt.Color;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,10 +41,55 @@ class ModelTest {
     model.setMode(Mode.MANMACHINE);
     final Player[] players = model.getPlayers();
     assertEquals(2, players.length);
-    assertEquals(PlayerType.MACHINE, players[0].getPlayerType());
+    assertEquals(PlayerType.SEARCH, players[0].getPlayerType());
     assertEquals(PlayerType.HUMAN, players[1].getPlayerType());
   }
 
+  @Test
+  public void testSetMode_manMachine_otherGeometry() {
+    final Geometry geometry = new Geometry.Builder().columnNumber(9).rowNumber(7).build();
+    final Model other = Model.newInstance(Board.newInstance(geometry));
+    assertEquals(geometry, other.getGeometry());
+    other.setMode(Mode.MANMACHINE);
+    assertEquals(PlayerType.MACHINE, other.getPlayers()[0].getPlayerType());
+    other.addListener(listener);
+    other.startGame();
+    verify(listener, times(1)).gameContinue(any(Move.class),
+        eq(ConnectFourSetting.PLAYER_TWO_NAME));
+  }
+
+  @Test
+  public void testSetMode_closePlayers() {
+    final Board board = Board.newInstance();
+    final PlayerFactory factory = mock(PlayerFactory.class);
+    final Player machine = mock(Player.class);
+    final Player human = mock(Player.class);
+    when(factory.getPlayer(any(PlayerType.class), anyString(), any(Color.class), eq(board)))
+        .thenReturn(machine, human);
+    final Model other = Model.newInstance(board, factory);
+    other.setMode(Mode.MANMACHINE);
+    verify(machine, never()).close();
+    other.setMode(Mode.MANMACHINE);
+    verify(machine, times(1)).close();
+    verify(human, times(1)).close();
+  }
+
+  @Test
+  public void testClose() {
+    final Board board = Board.newInstance();
+    final PlayerFactory factory = mock(PlayerFactory.class);
+    final Player machine = mock(Player.class);
+    final Player human = mock(Player.class);
+    when(factory.getPlayer(any(PlayerType.class), anyString(), any(Color.class), eq(board)))
+        .thenReturn(machine, human);
+    final Model other = Model.newInstance(board, factory);
+    other.close();
+    other.setMode(Mode.MANMACHINE);
+    other.close();
+    verify(machine, times(1)).close();
+    verify(human, times(1)).close();
+  }
+
   @Test
   public void testSetMode_multiPlayer() {
     model.setMode(Mode.MULTIPLAYER);
@@ -63,6 +114,22 @@ class ModelTest {
         eq(ConnectFourSetting.PLAYER_TWO_NAME));
   }
 
+  @Test
+  public void testGame_manmachine_pondering() {
+    final Model other = Model.newInstance(Board.newInstance(),
+        new PlayerFactory.Builder().timeBudgetMillis(50).openingBookPath(null).build());
+    other.setPondering(true);
+    other.setMode(Mode.MANMACHINE);
+    other.addListener(listener);
+    other.startGame();
+    final SearchPlayer machine = (SearchPlayer) other.getPlayers()[0];
+    other.makeMove(machine.getLastSearchResult().getPrincipalVariation()[1]);
+    assertEquals(1, machine.getPonderHitCount());
+    verify(listener, times(2)).gameContinue(any(Move.class),
+        eq(ConnectFourSetting.PLAYER_TWO_NAME));
+    other.setPondering(false);
+  }
+
   @Test
   public void testGame_multiplayer_won() {
     model.setMode(Mode.MULTIPLAYER);
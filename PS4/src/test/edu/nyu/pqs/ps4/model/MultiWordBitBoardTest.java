@@ -0,0 +1,102 @@
+package edu.nyu.pqs.ps4.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MultiWordBitBoardTest {
+  private static final Geometry NINE_BY_SEVEN =
+      new Geometry.Builder().columnNumber(9).rowNumber(7).build();
+
+  @Test
+  public void testIsWon_acrossWords() {
+    final MultiWordBitBoard board = new MultiWordBitBoard(NINE_BY_SEVEN);
+    for (int column = 5; column < 9; column++) {
+      assertFalse(board.isWon());
+      assertEquals(0, board.drop(column, 1));
+    }
+    assertTrue(board.isWon());
+    assertEquals(-1, board.drop(0, 0));
+    board.cancelLastMove();
+    assertFalse(board.isWon());
+  }
+
+  @Test
+  public void testIsWon_verticalDoesNotWrapColumns() {
+    final MultiWordBitBoard board = new MultiWordBitBoard(NINE_BY_SEVEN);
+    for (int row = 0; row < 5; row++) {
+      board.drop(0, row % 2);
+    }
+    board.drop(0, 0);
+    board.drop(0, 0);
+    board.drop(1, 0);
+    assertFalse(board.isWon());
+    board.drop(1, 0);
+    assertFalse(board.isWon());
+  }
+
+  @Test
+  public void testDrop_fullAndOutOfBound() {
+    final MultiWordBitBoard board = new MultiWordBitBoard(NINE_BY_SEVEN);
+    assertEquals(-1, board.drop(-1, 0));
+    assertEquals(-1, board.drop(9, 0));
+    for (int row = 0; row < 7; row++) {
+      assertEquals(row, board.drop(8, row / 2 % 2));
+    }
+    assertEquals(-1, board.drop(8, 0));
+  }
+
+  @Test
+  public void testIsWon_matchesLinesThroughLastMove() {
+    final Geometry connectFive = new Geometry.Builder().columnNumber(10).rowNumber(8)
+        .consecutiveCount(5).build();
+    final Random random = new Random(20);
+    for (final Geometry geometry : new Geometry[] {NINE_BY_SEVEN, connectFive}) {
+      final MultiWordBitBoard board = new MultiWordBitBoard(geometry);
+      final int[][] cells = new int[geometry.getColumnNumber()][geometry.getRowNumber()];
+      for (int game = 0; game < 1000; game++) {
+        board.clear();
+        for (final int[] column : cells) {
+          Arrays.fill(column, 0);
+        }
+        int player = 0;
+        while (!board.isWon() && !board.isFull()) {
+          final int column = random.nextInt(geometry.getColumnNumber());
+          final int row = board.drop(column, player);
+          if (row >= 0) {
+            cells[column][row] = player + 1;
+            assertEquals(hasLineThrough(cells, column, row, geometry.getConsecutiveCount()),
+                board.isWon());
+            player = 1 - player;
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean hasLineThrough(final int[][] cells, final int column, final int row,
+      final int consecutiveCount) {
+    final int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+    for (final int[] direction : directions) {
+      int count = 1;
+      for (int sign = -1; sign <= 1; sign += 2) {
+        int c = column + sign * direction[0];
+        int r = row + sign * direction[1];
+        while (c >= 0 && c < cells.length && r >= 0 && r < cells[c].length
+            && cells[c][r] == cells[column][row]) {
+          count++;
+          c += sign * direction[0];
+          r += sign * direction[1];
+        }
+      }
+      if (count >= consecutiveCount) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,139 @@
+package edu.nyu.pqs.ps4.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.search.Solution;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpeningBookTest {
+  private static final String ROOT = "44455554221";
+  private final BitBoard bitBoard = new BitBoard();
+  private Solver solver;
+
+  @TempDir
+  Path directory;
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+    for (int i = 0; i < ROOT.length(); i++) {
+      bitBoard.drop(ROOT.charAt(i) - '1', i % 2);
+    }
+    solver = new Solver(new TranspositionTable(1 << 20));
+  }
+
+  @Test
+  public void testGenerate() throws IOException {
+    final Path path = directory.resolve("book.bin");
+    final int positions = new OpeningBookGenerator(solver).generate(bitBoard, 2, path);
+    assertEquals(OpeningBook.HEADER_BYTES + (long) positions * OpeningBook.RECORD_BYTES,
+        Files.size(path));
+    assertEquals(ROOT.length(), bitBoard.getMoveCount());
+    try (OpeningBook book = OpeningBook.open(path)) {
+      assertEquals(positions, book.getRecordNumber());
+      assertSolution(solver.solve(bitBoard, 1), book.lookup(bitBoard));
+      bitBoard.drop(0, 1);
+      bitBoard.drop(6, 0);
+      assertSolution(solver.solve(bitBoard, 1), book.lookup(bitBoard));
+      bitBoard.drop(6, 1);
+      assertNull(book.lookup(bitBoard));
+    }
+  }
+
+  @Test
+  public void testLookup_mirror() throws IOException {
+    final Path path = directory.resolve("book.bin");
+    new OpeningBookGenerator(solver).generate(bitBoard, 1, path);
+    final BitBoard mirror = new BitBoard();
+    for (int i = 0; i < ROOT.length(); i++) {
+      mirror.drop(BitBoard.mirror(ROOT.charAt(i) - '1'), i % 2);
+    }
+    try (OpeningBook book = OpeningBook.open(path)) {
+      final Solution solution = book.lookup(bitBoard);
+      final Solution mirrorSolution = book.lookup(mirror);
+      assertEquals(solution.getOutcome(), mirrorSolution.getOutcome());
+      assertEquals(solution.getPliesToEnd(), mirrorSolution.getPliesToEnd());
+      assertEquals(BitBoard.mirror(solution.getColumn()), mirrorSolution.getColumn());
+      assertEquals(solver.solve(mirror, 1).getOutcome(), mirrorSolution.getOutcome());
+      mirror.drop(mirrorSolution.getColumn(), 1);
+      assertEquals(solution.getPliesToEnd() - 1, solver.solve(mirror, 0).getPliesToEnd());
+    }
+  }
+
+  @Test
+  public void testGenerate_symmetricRoot() throws IOException {
+    bitBoard.clear();
+    final String root = "444433553355";
+    for (int i = 0; i < root.length(); i++) {
+      bitBoard.drop(root.charAt(i) - '1', i % 2);
+    }
+    final Set<Long> keys = new HashSet<>();
+    final Set<Long> canonicalKeys = new HashSet<>();
+    collectKeys(bitBoard, 2, keys, canonicalKeys);
+    final Path path = directory.resolve("book.bin");
+    final int positions = new OpeningBookGenerator(solver).generate(bitBoard, 2, path);
+    assertEquals(canonicalKeys.size(), positions);
+    assertTrue(positions < keys.size());
+    try (OpeningBook book = OpeningBook.open(path)) {
+      for (int column = 0; column < 7; column += 6) {
+        bitBoard.drop(column, 0);
+        bitBoard.drop(6 - column, 1);
+        final Solution solution = solver.solve(bitBoard, 0);
+        final Solution bookSolution = book.lookup(bitBoard);
+        assertEquals(solution.getOutcome(), bookSolution.getOutcome());
+        assertEquals(solution.getPliesToEnd(), bookSolution.getPliesToEnd());
+        bitBoard.cancelLastMove();
+        bitBoard.cancelLastMove();
+      }
+    }
+  }
+
+  @Test
+  public void testGenerate_rootOnly() throws IOException {
+    final Path path = directory.resolve("book.bin");
+    assertEquals(1, new OpeningBookGenerator(solver).generate(bitBoard, 0, path));
+    try (OpeningBook book = OpeningBook.open(path)) {
+      assertSolution(solver.solve(bitBoard, 1), book.lookup(bitBoard));
+    }
+  }
+
+  @Test
+  public void testOpen_invalid() throws IOException {
+    final Path path = directory.resolve("book.bin");
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+    assertThrows(IOException.class, () -> OpeningBook.open(path));
+  }
+
+  private static void collectKeys(final BitBoard position, final int plies, final Set<Long> keys,
+      final Set<Long> canonicalKeys) {
+    keys.add(position.getKey());
+    canonicalKeys.add(position.getCanonicalKey());
+    for (int column = 0; plies > 0 && column < 7; column++) {
+      if (position.drop(column, position.getMoveCount() % 2) >= 0) {
+        if (!position.isWon() && !position.isFull()) {
+          collectKeys(position, plies - 1, keys, canonicalKeys);
+        }
+        position.cancelLastMove();
+      }
+    }
+  }
+
+  private static void assertSolution(final Solution expected, final Solution actual) {
+    assertEquals(expected.getOutcome(), actual.getOutcome());
+    assertEquals(expected.getPliesToEnd(), actual.getPliesToEnd());
+    assertEquals(expected.getColumn(), actual.getColumn());
+  }
+}
@@ -0,0 +1,187 @@
+package edu.nyu.pqs.ps4.model.dispatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.awt.Color;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AsyncListenerTest {
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final List<String> events = new ArrayList<>();
+
+  @Test
+  public void testBuild_invalidCapacity() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new AsyncListener.Builder().delegate(new RecordingListener()).capacity(0).build());
+  }
+
+  @Test
+  public void testDispatch_order() {
+    final Move move = new Move.Builder().playerName("a").playerColor(Color.RED).column(3).row(0)
+        .build();
+    final AsyncListener listener =
+        new AsyncListener.Builder().delegate(new RecordingListener()).capacity(4).build();
+    listener.gameStarted("a");
+    for (int i = 0; i < 100; i++) {
+      listener.gameContinue(move, "p" + i);
+    }
+    listener.invalidMoveMade("b");
+    listener.gameTied(move);
+    listener.gameWon(move);
+    listener.close();
+    assertEquals(104, events.size());
+    assertEquals("started a", events.get(0));
+    for (int i = 0; i < 100; i++) {
+      assertEquals("continue 3 p" + i, events.get(i + 1));
+    }
+    assertEquals("invalid b", events.get(101));
+    assertEquals("tied 3", events.get(102));
+    assertEquals("won 3", events.get(103));
+    assertEquals(104, listener.getDeliveredEvents());
+    assertEquals(0, listener.getDroppedEvents());
+    assertEquals(0, listener.getPendingEvents());
+    assertTrue(listener.getMaxLagNanos() >= listener.getLastLagNanos());
+  }
+
+  @Test
+  public void testDispatch_drop() throws InterruptedException {
+    final AsyncListener listener = new AsyncListener.Builder()
+        .delegate(new BlockingListener()).capacity(2).overflowPolicy(OverflowPolicy.DROP).build();
+    listener.gameStarted("blocking");
+    started.await(5, TimeUnit.SECONDS);
+    for (int i = 0; i < 5; i++) {
+      listener.invalidMoveMade("p" + i);
+    }
+    assertEquals(2, listener.getPendingEvents());
+    assertEquals(3, listener.getDroppedEvents());
+    release.countDown();
+    listener.close();
+    assertEquals(3, listener.getDeliveredEvents());
+    assertEquals("invalid p0", events.get(1));
+    assertEquals("invalid p1", events.get(2));
+  }
+
+  @Test
+  public void testDispatch_coalesce() throws InterruptedException {
+    final AsyncListener listener = new AsyncListener.Builder().delegate(new BlockingListener())
+        .capacity(2).overflowPolicy(OverflowPolicy.COALESCE).build();
+    listener.gameStarted("blocking");
+    started.await(5, TimeUnit.SECONDS);
+    for (int i = 0; i < 5; i++) {
+      listener.invalidMoveMade("p" + i);
+    }
+    assertEquals(3, listener.getCoalescedEvents());
+    release.countDown();
+    listener.close();
+    assertEquals(3, events.size());
+    assertEquals("invalid p0", events.get(1));
+    assertEquals("invalid p4", events.get(2));
+  }
+
+  @Test
+  public void testDispatch_block() throws InterruptedException {
+    final AsyncListener listener = new AsyncListener.Builder().delegate(new BlockingListener())
+        .capacity(1).overflowPolicy(OverflowPolicy.BLOCK).build();
+    listener.gameStarted("blocking");
+    started.await(5, TimeUnit.SECONDS);
+    listener.invalidMoveMade("p0");
+    final Thread producer = new Thread(() -> listener.invalidMoveMade("p1"));
+    producer.start();
+    producer.join(100);
+    assertTrue(producer.isAlive());
+    release.countDown();
+    producer.join();
+    listener.close();
+    assertEquals(3, listener.getDeliveredEvents());
+    assertEquals("invalid p1", events.get(2));
+  }
+
+  @Test
+  public void testDispatch_exception() {
+    final AsyncListener listener =
+        new AsyncListener.Builder().delegate(new RecordingListener() {
+          @Override
+          public void gameStarted(final String nextPlayerName) {
+            throw new IllegalStateException();
+          }
+        }).build();
+    listener.gameStarted("a");
+    listener.invalidMoveMade("b");
+    listener.close();
+    assertEquals(1, listener.getFailedEvents());
+    assertEquals(2, listener.getDeliveredEvents());
+    assertEquals("invalid b", events.get(0));
+  }
+
+  @Test
+  public void testDispatch_error() {
+    final AsyncListener listener = new AsyncListener.Builder().capacity(1)
+        .overflowPolicy(OverflowPolicy.BLOCK).delegate(new RecordingListener() {
+          @Override
+          public void gameStarted(final String nextPlayerName) {
+            throw new AssertionError();
+          }
+        }).build();
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      for (int i = 0; i < 10; i++) {
+        listener.gameStarted("a");
+      }
+      listener.invalidMoveMade("b");
+      listener.close();
+    });
+    assertEquals(10, listener.getFailedEvents());
+    assertEquals(11, listener.getDeliveredEvents());
+    assertEquals("invalid b", events.get(0));
+  }
+
+  private class RecordingListener implements Listener {
+    @Override
+    public void gameStarted(final String nextPlayerName) {
+      events.add("started " + nextPlayerName);
+    }
+
+    @Override
+    public void gameContinue(final Move move, final String nextPlayerName) {
+      events.add("continue " + move.getColumn() + " " + nextPlayerName);
+    }
+
+    @Override
+    public void invalidMoveMade(final String nextPlayerName) {
+      events.add("invalid " + nextPlayerName);
+    }
+
+    @Override
+    public void gameTied(final Move move) {
+      events.add("tied " + move.getColumn());
+    }
+
+    @Override
+    public void gameWon(final Move move) {
+      events.add("won " + move.getColumn());
+    }
+  }
+
+  private class BlockingListener extends RecordingListener {
+    @Override
+    public void gameStarted(final String nextPlayerName) {
+      super.gameStarted(nextPlayerName);
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
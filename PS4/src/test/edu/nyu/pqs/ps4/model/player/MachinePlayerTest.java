@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import edu.nyu.pqs.ps4.ConnectFourSetting;
 import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Geometry;
 import edu.nyu.pqs.ps4.model.Move;
 import java.awt.Color;
 import org.junit.jupiter.api.BeforeEach;
@@ -73,6 +74,7 @@ public class MachinePlayerTest {
         .playerColor(ConnectFourSetting.PLAYER_ONE_COLOR).column(COLUMN).row(ROW).build();
     player = new MachinePlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
         .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).build();
+    when(board.getGeometry()).thenReturn(Geometry.STANDARD);
     when(board.drop(anyString(), any(Color.class), anyInt())).thenReturn(move);
     when(board.isWon()).thenReturn(false);
     doNothing().when(board).cancelLastMove();
@@ -90,6 +92,7 @@ public class MachinePlayerTest {
         .playerColor(ConnectFourSetting.PLAYER_ONE_COLOR).column(COLUMN).row(ROW).build();
     player = new MachinePlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
         .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).build();
+    when(board.getGeometry()).thenReturn(Geometry.STANDARD);
     when(board.drop(anyString(), any(Color.class), anyInt())).thenReturn(move);
     when(board.isWon()).thenReturn(true);
     doNothing().when(board).cancelLastMove();
@@ -102,6 +105,7 @@ public class MachinePlayerTest {
 
   @Test
   public void testGetMoveColumnAdvice_full() {
+    when(board.getGeometry()).thenReturn(Geometry.STANDARD);
     when(board.drop(anyString(), any(Color.class), anyInt())).thenReturn(null);
     player = new MachinePlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
         .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).build();
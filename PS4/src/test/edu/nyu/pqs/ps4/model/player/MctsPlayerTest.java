@@ -0,0 +1,126 @@
+package edu.nyu.pqs.ps4.model.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MctsPlayerTest {
+  private final Board board = Board.getInstance();
+  private MctsPlayer player;
+
+  @BeforeEach
+  public void setup() {
+    board.clear();
+  }
+
+  @Test
+  public void testBuild_nullBoard() {
+    assertThrows(NullPointerException.class, () -> {
+      player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(null).iterationBudget(1).build();
+    });
+  }
+
+  @Test
+  public void testBuild_noBudget() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).build();
+    });
+  }
+
+  @Test
+  public void testBuild_invalidThreads() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).iterationBudget(1).threads(0)
+          .build();
+    });
+  }
+
+  @Test
+  public void testBuild_factory() {
+    final Player p = new PlayerFactory().getPlayer(PlayerType.MCTS,
+        ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, board);
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, p.getName());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_COLOR, p.getColor());
+    assertEquals(PlayerType.MCTS, p.getPlayerType());
+    p.close();
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_blockLoss() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 2);
+      if (i < ConnectFourSetting.CONSECUTIVE_COUNT - 2) {
+        board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, 3 + i);
+      }
+    }
+    player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_TWO_NAME)
+        .color(ConnectFourSetting.PLAYER_TWO_COLOR).board(board).iterationBudget(20_000).seed(1L)
+        .build();
+    assertNull(player.getLastSearchResult());
+    assertEquals(0, player.getRolloutsPerSecond());
+    assertEquals(2, player.getMoveColumnAdvice());
+    assertEquals(20_000, player.getLastSearchResult().getNodes());
+    assertTrue(player.getRolloutsPerSecond() > 0);
+    assertEquals(5, board.copyBitBoard().getMoveCount());
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_won() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 0);
+    }
+    player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_TWO_NAME)
+        .color(ConnectFourSetting.PLAYER_TWO_COLOR).board(board).iterationBudget(100).build();
+    assertEquals(-1, player.getMoveColumnAdvice());
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_timeBudget() {
+    player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).timeBudgetMillis(20)
+        .treeReuse(true).build();
+    final int column = player.getMoveColumnAdvice();
+    assertTrue(column >= 0 && column < ConnectFourSetting.COLUMN_NUMBER);
+    assertTrue(player.getLastSearchResult().getNodes() > 0);
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_threads() {
+    player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).iterationBudget(1_000).threads(2)
+        .build();
+    final int column = player.getMoveColumnAdvice();
+    assertTrue(column >= 0 && column < ConnectFourSetting.COLUMN_NUMBER);
+    assertEquals(2_000, player.getLastSearchResult().getNodes());
+  }
+
+  @Test
+  public void testToString() {
+    player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).iterationBudget(1).build();
+    assertEquals(String.format("{name: %s, color: %s, type: MCTS}",
+        ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR.toString()),
+        player.toString());
+  }
+
+  @Test
+  public void testClose() {
+    player = new MctsPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).iterationBudget(100).threads(2)
+        .build();
+    assertTrue(player.getMoveColumnAdvice() >= 0);
+    player.close();
+    player.close();
+    assertThrows(RejectedExecutionException.class, () -> player.getMoveColumnAdvice());
+  }
+}
@@ -0,0 +1,261 @@
+package edu.nyu.pqs.ps4.model.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.book.OpeningBook;
+import edu.nyu.pqs.ps4.model.book.OpeningBookGenerator;
+import edu.nyu.pqs.ps4.model.search.Solver;
+import edu.nyu.pqs.ps4.model.search.TranspositionTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SearchPlayerTest {
+  private final Board board = Board.getInstance();
+  private SearchPlayer player;
+
+  @BeforeEach
+  public void setup() {
+    board.clear();
+  }
+
+  @Test
+  public void testBuild_nullBoard() {
+    assertThrows(NullPointerException.class, () -> {
+      player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(null).build();
+    });
+  }
+
+  @Test
+  public void testBuild_invalidDepth() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(0).build();
+    });
+  }
+
+  @Test
+  public void testBuild_lazySmpWithoutTable() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(4).threads(2)
+          .lazySmp(true).build();
+    });
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_lazySmp() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(6).threads(2)
+        .lazySmp(true).transpositionTableBytes(1 << 20).build();
+    final int column = player.getMoveColumnAdvice();
+    player.close();
+    assertTrue(column >= 0 && column < ConnectFourSetting.COLUMN_NUMBER);
+    assertEquals(6, player.getLastSearchResult().getDepth());
+  }
+
+  @Test
+  public void testBuild_factory() {
+    final Player p = new PlayerFactory().getPlayer(PlayerType.SEARCH,
+        ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, board);
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, p.getName());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_COLOR, p.getColor());
+    assertEquals(PlayerType.SEARCH, p.getPlayerType());
+  }
+
+  @Test
+  public void testBuild_factoryCorruptBook(@TempDir final Path directory) throws IOException {
+    final Path path = directory.resolve("book.bin");
+    Files.write(path, new byte[] {1, 2, 3});
+    try (PlayerFactory factory = new PlayerFactory.Builder().openingBookPath(path).build()) {
+      assertThrows(UncheckedIOException.class, () -> factory.getPlayer(PlayerType.SEARCH,
+          ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, board));
+    }
+    try (PlayerFactory factory = new PlayerFactory.Builder()
+        .openingBookPath(directory.resolve("missing.bin")).build()) {
+      assertEquals(PlayerType.SEARCH, factory.getPlayer(PlayerType.SEARCH,
+          ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, board)
+          .getPlayerType());
+    }
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_blockLoss() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 2);
+      if (i < ConnectFourSetting.CONSECUTIVE_COUNT - 2) {
+        board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, 3 + i);
+      }
+    }
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_TWO_NAME)
+        .color(ConnectFourSetting.PLAYER_TWO_COLOR).board(board).depth(4).build();
+    assertNull(player.getLastSearchResult());
+    assertEquals(2, player.getMoveColumnAdvice());
+    assertTrue(player.getLastSearchResult().getNodes() > 0);
+    assertEquals(5, board.copyBitBoard().getMoveCount());
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_won() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, 0);
+    }
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_TWO_NAME)
+        .color(ConnectFourSetting.PLAYER_TWO_COLOR).board(board).depth(2).build();
+    assertEquals(-1, player.getMoveColumnAdvice());
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_timeBudget() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board)
+        .depth(ConnectFourSetting.SEARCH_DEPTH).timeBudgetMillis(50).transpositionTableBytes(1 << 20).build();
+    final int column = player.getMoveColumnAdvice();
+    assertTrue(column >= 0 && column < ConnectFourSetting.COLUMN_NUMBER);
+    assertTrue(player.getLastSearchResult().getDepth() >= 1);
+    assertEquals(0, board.copyBitBoard().getMoveCount());
+  }
+
+  @Test
+  public void testGetMoveColumnAdvice_openingBook(@TempDir final Path directory)
+      throws IOException {
+    final int[] columns = {3, 3, 3, 4, 4, 4, 4, 3, 1, 1};
+    for (int i = 0; i < columns.length; i++) {
+      if (i % 2 == 0) {
+        board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR,
+            columns[i]);
+      } else {
+        board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR,
+            columns[i]);
+      }
+    }
+    final Path path = directory.resolve("book.bin");
+    final Solver solver = new Solver(new TranspositionTable(1 << 20));
+    new OpeningBookGenerator(solver).generate(board.copyBitBoard(), 0, path);
+    try (OpeningBook book = OpeningBook.open(path)) {
+      player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+          .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(1).openingBook(book)
+          .build();
+      assertEquals(solver.solve(board.copyBitBoard(), 0).getColumn(),
+          player.getMoveColumnAdvice());
+      assertEquals(0, player.getLastSearchResult().getNodes());
+    }
+  }
+
+  @Test
+  public void testStartPondering_hit() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(8)
+        .transpositionTableBytes(1 << 20).build();
+    final int column = player.getMoveColumnAdvice();
+    final int reply = player.getLastSearchResult().getPrincipalVariation()[1];
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, column);
+    player.startPondering();
+    board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, reply);
+    final int ponderedColumn = player.getMoveColumnAdvice();
+    assertEquals(1, player.getPonderHitCount());
+    assertEquals(8, player.getLastSearchResult().getDepth());
+    final SearchPlayer other = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(8).build();
+    other.getMoveColumnAdvice();
+    assertEquals(other.getLastSearchResult().getScore(), player.getLastSearchResult().getScore());
+    assertTrue(board.copyBitBoard().canDrop(ponderedColumn));
+  }
+
+  @Test
+  public void testStartPondering_miss() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board)
+        .depth(ConnectFourSetting.SEARCH_DEPTH).timeBudgetMillis(50)
+        .transpositionTableBytes(1 << 20).build();
+    final int column = player.getMoveColumnAdvice();
+    final int reply = player.getLastSearchResult().getPrincipalVariation()[1];
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, column);
+    player.startPondering();
+    board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR,
+        reply == 0 ? 1 : 0);
+    final int advice = player.getMoveColumnAdvice();
+    assertEquals(0, player.getPonderHitCount());
+    assertTrue(advice >= 0 && advice < ConnectFourSetting.COLUMN_NUMBER);
+    assertEquals(2, board.copyBitBoard().getMoveCount());
+  }
+
+  @Test
+  public void testStartPondering_failure() {
+    final IllegalStateException failure = new IllegalStateException("ponder");
+    final TranspositionTable table = new TranspositionTable(1 << 20) {
+      @Override
+      public long probe(final long key) {
+        if (Thread.currentThread().getName().equals("search-ponder")) {
+          throw failure;
+        }
+        return super.probe(key);
+      }
+    };
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(6)
+        .transpositionTable(table).build();
+    final int column = player.getMoveColumnAdvice();
+    final int reply = player.getLastSearchResult().getPrincipalVariation()[1];
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, column);
+    player.startPondering();
+    board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, reply);
+    final int advice = player.getMoveColumnAdvice();
+    assertTrue(board.copyBitBoard().canDrop(advice));
+    assertEquals(0, player.getPonderHitCount());
+    assertSame(failure, player.getLastPonderFailure());
+    assertEquals(6, player.getLastSearchResult().getDepth());
+    player.startPondering();
+    player.stopPondering();
+    player.close();
+  }
+
+  @Test
+  public void testStartPondering_notPlayed() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board).depth(4).build();
+    player.startPondering();
+    player.getMoveColumnAdvice();
+    player.startPondering();
+    player.stopPondering();
+    player.getMoveColumnAdvice();
+    assertEquals(0, player.getPonderHitCount());
+  }
+
+  @Test
+  public void testStopPondering() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board)
+        .depth(ConnectFourSetting.SEARCH_DEPTH).timeBudgetMillis(50).build();
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR,
+        player.getMoveColumnAdvice());
+    player.startPondering();
+    player.stopPondering();
+    player.stopPondering();
+    assertEquals(0, player.getPonderHitCount());
+  }
+
+  @Test
+  public void testClose() {
+    player = new SearchPlayer.Builder().name(ConnectFourSetting.PLAYER_ONE_NAME)
+        .color(ConnectFourSetting.PLAYER_ONE_COLOR).board(board)
+        .depth(ConnectFourSetting.SEARCH_DEPTH).timeBudgetMillis(50).threads(2).build();
+    board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR,
+        player.getMoveColumnAdvice());
+    player.startPondering();
+    player.close();
+    player.close();
+    assertEquals(0, player.getPonderHitCount());
+  }
+}
@@ -0,0 +1,92 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ArchiveAnalyzerTest {
+  private static final long TABLE_BYTES = 1L << 20;
+
+  @Test
+  public void testAnalyze_statistics() throws IOException {
+    final Random random = new Random(3);
+    final BitBoard bitBoard = new BitBoard();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    long moves = 0;
+    long firstPlayerWins = 0;
+    long secondPlayerWins = 0;
+    final long[] games = new long[ConnectFourSetting.COLUMN_NUMBER];
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      for (int game = 0; game < 20_000; game++) {
+        bitBoard.clear();
+        while (!bitBoard.isWon() && !bitBoard.isFull()) {
+          bitBoard.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER),
+              bitBoard.getMoveCount() % 2);
+        }
+        moves += bitBoard.getMoveCount();
+        if (bitBoard.isWon()) {
+          if (bitBoard.getMoveCount() % 2 == 1) {
+            firstPlayerWins++;
+          } else {
+            secondPlayerWins++;
+          }
+        }
+        games[bitBoard.getColumnAt(0)]++;
+        writer.write(bitBoard);
+      }
+    }
+    final ArchiveStatistics statistics = analyze(output.toByteArray(), BitBoard.CELL_NUMBER);
+    assertEquals(20_000, statistics.getGames());
+    assertEquals(moves, statistics.getMoves());
+    assertEquals(moves / 20_000.0, statistics.getAverageLength(), 1e-9);
+    assertEquals(firstPlayerWins, statistics.getFirstPlayerWins());
+    assertEquals(secondPlayerWins, statistics.getSecondPlayerWins());
+    assertEquals(20_000 - firstPlayerWins - secondPlayerWins, statistics.getDraws());
+    for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      assertEquals(games[column], statistics.getGames(column));
+    }
+    assertEquals(0, statistics.getCheckedMoves());
+  }
+
+  @Test
+  public void testAnalyze_blunder() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      // The first player misses the win in column 0 and the second player wins in column 6.
+      writer.write(new GameRecord.Builder().columns(new int[] {0, 6, 0, 6, 0, 6, 1, 6}).build());
+      writer.write(new GameRecord.Builder().columns(new int[] {0, 6, 0, 6, 0, 6, 0}).build());
+    }
+    final ArchiveStatistics statistics = analyze(output.toByteArray(), 6);
+    assertEquals(3, statistics.getCheckedMoves());
+    assertEquals(1, statistics.getBlunders());
+    assertEquals(1, statistics.getFirstPlayerWins());
+    assertEquals(1, statistics.getSecondPlayerWins());
+    assertEquals(0.5, statistics.getFirstPlayerWinRate(0), 1e-9);
+  }
+
+  @Test
+  public void testAnalyze_invalidArchive() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      writer.write(new GameRecord.Builder().columns(new int[] {3}).build());
+    }
+    final byte[] bytes = output.toByteArray();
+    bytes[bytes.length - 1] = (byte) 0x70;
+    assertThrows(UncheckedIOException.class, () -> analyze(bytes, BitBoard.CELL_NUMBER));
+  }
+
+  private static ArchiveStatistics analyze(final byte[] archive, final int blunderPly)
+      throws IOException {
+    try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(archive))) {
+      return new ArchiveAnalyzer(blunderPly, TABLE_BYTES).analyze(reader);
+    }
+  }
+}
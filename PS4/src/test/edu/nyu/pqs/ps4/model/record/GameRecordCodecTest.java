@@ -0,0 +1,64 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GameRecordCodecTest {
+  @Test
+  public void testEncode() {
+    final GameRecord record = new GameRecord.Builder().columns(new int[] {3, 2, 6}).build();
+    assertArrayEquals(new byte[] {3, 0x32, 0x60}, GameRecordCodec.encode(record));
+    assertEquals(22, GameRecordCodec.MAX_RECORD_BYTES);
+  }
+
+  @Test
+  public void testEncode_bitBoard() {
+    final BitBoard bitBoard = new BitBoard();
+    bitBoard.drop(3, 0);
+    bitBoard.drop(2, 1);
+    final byte[] buffer = new byte[4];
+    assertEquals(2, GameRecordCodec.encode(bitBoard, buffer, 1));
+    assertArrayEquals(new byte[] {0, 2, 0x32, 0}, buffer);
+  }
+
+  @Test
+  public void testDecode_randomGames() {
+    final Random random = new Random(7);
+    final BitBoard bitBoard = new BitBoard();
+    for (int game = 0; game < 1_000; game++) {
+      bitBoard.clear();
+      while (!bitBoard.isWon() && !bitBoard.isFull()) {
+        bitBoard.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER),
+            bitBoard.getMoveCount() % 2);
+      }
+      final GameRecord record = GameRecord.of(bitBoard);
+      final byte[] bytes = GameRecordCodec.encode(record);
+      assertEquals(GameRecordCodec.getRecordBytes(bitBoard.getMoveCount()), bytes.length);
+      assertEquals(record, GameRecordCodec.decode(bytes));
+    }
+  }
+
+  @Test
+  public void testDecode_invalid() {
+    assertThrows(IllegalArgumentException.class, () -> GameRecordCodec.decode(new byte[0]));
+    assertThrows(IllegalArgumentException.class,
+        () -> GameRecordCodec.decode(new byte[] {2, 0x37}));
+    assertThrows(IllegalArgumentException.class,
+        () -> GameRecordCodec.decode(new byte[] {3, 0x32}));
+  }
+
+  @Test
+  public void testReplay() {
+    final BitBoard bitBoard = new BitBoard();
+    final byte[] buffer = {9, 0x00, 0x00, 0x00, 0x00, 0x00};
+    assertFalse(GameRecordCodec.replay(buffer, 0, bitBoard));
+    assertEquals(6, bitBoard.getMoveCount());
+  }
+}
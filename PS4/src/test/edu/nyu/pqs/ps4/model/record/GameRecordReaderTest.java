@@ -0,0 +1,87 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GameRecordReaderTest {
+  @Test
+  public void testRead_archive() throws IOException {
+    final Random random = new Random(11);
+    final BitBoard bitBoard = new BitBoard();
+    final List<GameRecord> records = new ArrayList<>();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      for (int game = 0; game < 10_000; game++) {
+        bitBoard.clear();
+        while (!bitBoard.isWon() && !bitBoard.isFull()) {
+          bitBoard.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER),
+              bitBoard.getMoveCount() % 2);
+        }
+        records.add(GameRecord.of(bitBoard));
+        if (game % 2 == 0) {
+          writer.write(bitBoard);
+        } else {
+          writer.write(records.get(game));
+        }
+      }
+      assertEquals(10_000, writer.getRecordNumber());
+    }
+    try (GameRecordReader reader =
+        new GameRecordReader(new ByteArrayInputStream(output.toByteArray()))) {
+      for (final GameRecord record : records) {
+        assertEquals(record, reader.read());
+      }
+      assertNull(reader.read());
+      assertEquals(10_000, reader.getRecordNumber());
+    }
+  }
+
+  @Test
+  public void testNext() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      writer.write(new GameRecord.Builder().columns(new int[] {3, 3, 4, 4, 5, 5, 6}).build());
+    }
+    assertEquals(4 + 5, output.size());
+    try (GameRecordReader reader =
+        new GameRecordReader(new ByteArrayInputStream(output.toByteArray()))) {
+      final BitBoard bitBoard = new BitBoard();
+      assertTrue(reader.next(bitBoard));
+      assertTrue(bitBoard.isWon());
+      assertFalse(reader.next(bitBoard));
+    }
+  }
+
+  @Test
+  public void testRead_invalid() throws IOException {
+    assertThrows(IOException.class,
+        () -> new GameRecordReader(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      writer.write(new GameRecord.Builder().columns(new int[] {3, 3, 4}).build());
+    }
+    final byte[] bytes = output.toByteArray();
+    try (GameRecordReader reader =
+        new GameRecordReader(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)))) {
+      assertThrows(IOException.class, reader::read);
+    }
+    bytes[bytes.length - 1] = (byte) 0x70;
+    try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(bytes))) {
+      assertThrows(IOException.class, reader::read);
+    }
+  }
+}
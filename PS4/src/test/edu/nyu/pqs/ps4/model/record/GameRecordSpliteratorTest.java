@@ -0,0 +1,60 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class GameRecordSpliteratorTest {
+  @Test
+  public void testTrySplit_limit() throws IOException {
+    try (GameRecordReader reader = newReader(25)) {
+      final GameRecordSpliterator spliterator = new GameRecordSpliterator(reader, 4, 10);
+      assertEquals(10, spliterator.estimateSize());
+      final Spliterator<GameRecord> first = spliterator.trySplit();
+      assertEquals(4, first.estimateSize());
+      assertEquals(6, spliterator.estimateSize());
+      assertEquals(4, spliterator.trySplit().estimateSize());
+      assertEquals(2, spliterator.trySplit().estimateSize());
+      assertEquals(0, spliterator.estimateSize());
+      assertNull(spliterator.trySplit());
+      assertFalse(spliterator.isEnd());
+      assertEquals(10, reader.getRecordNumber());
+    }
+  }
+
+  @Test
+  public void testStream_rounds() throws IOException {
+    try (GameRecordReader reader = newReader(25)) {
+      long records = 0;
+      int rounds = 0;
+      GameRecordSpliterator spliterator;
+      do {
+        spliterator = new GameRecordSpliterator(reader, 4, 10);
+        records += StreamSupport.stream(spliterator, true).count();
+        rounds++;
+      } while (!spliterator.isEnd());
+      assertEquals(25, records);
+      assertEquals(3, rounds);
+      assertTrue(spliterator.isEnd());
+      assertEquals(0, spliterator.estimateSize());
+    }
+  }
+
+  private static GameRecordReader newReader(final int recordNumber) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GameRecordWriter writer = new GameRecordWriter(output)) {
+      for (int i = 0; i < recordNumber; i++) {
+        writer.write(new GameRecord.Builder().columns(new int[] {i % 7}).build());
+      }
+    }
+    return new GameRecordReader(new ByteArrayInputStream(output.toByteArray()));
+  }
+}
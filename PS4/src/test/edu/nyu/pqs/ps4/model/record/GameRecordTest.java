@@ -0,0 +1,50 @@
+package edu.nyu.pqs.ps4.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import org.junit.jupiter.api.Test;
+
+class GameRecordTest {
+  private final GameRecord record =
+      new GameRecord.Builder().columns(new int[] {3, 3, 4, 4, 5, 5, 6}).build();
+
+  @Test
+  public void testBuild_illegalMove() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameRecord.Builder().columns(new int[] {7}).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameRecord.Builder().columns(new int[] {0, 0, 0, 0, 0, 0, 0}).build());
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameRecord.Builder().columns(new int[] {3, 3, 4, 4, 5, 5, 6, 0}).build());
+  }
+
+  @Test
+  public void testReplay_bitBoard() {
+    final BitBoard bitBoard = new BitBoard();
+    bitBoard.drop(0, 0);
+    record.replay(bitBoard);
+    assertEquals(7, bitBoard.getMoveCount());
+    assertTrue(bitBoard.isWon());
+    assertEquals(0, bitBoard.getPlayerAt(6));
+    assertEquals(record, GameRecord.of(bitBoard));
+  }
+
+  @Test
+  public void testReplay_board() {
+    final Board board = Board.newInstance();
+    record.replay(board);
+    assertTrue(board.isWon());
+    assertEquals(record, GameRecord.of(board));
+    assertEquals(0, Board.getPlayerIndex(ConnectFourSetting.PLAYER_ONE_COLOR));
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("record: {columns: 4455667}", record.toString());
+  }
+}
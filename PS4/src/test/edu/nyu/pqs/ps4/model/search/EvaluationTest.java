@@ -0,0 +1,104 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EvaluationTest {
+  private final BitBoard bitBoard = new BitBoard();
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+  }
+
+  @Test
+  public void testGetLineNumber() {
+    assertEquals(69, Evaluation.getLineNumber());
+    assertEquals(3, Evaluation.getLineNumber(0, 0));
+    assertEquals(7, Evaluation.getLineNumber(3, 0));
+    assertEquals(13, Evaluation.getLineNumber(3, 2));
+    assertEquals(13, Evaluation.getLineNumber(3, 3));
+    for (int i = 0; i < Evaluation.getLineNumber(); i++) {
+      assertEquals(ConnectFourSetting.CONSECUTIVE_COUNT, Long.bitCount(Evaluation.getLine(i)));
+    }
+  }
+
+  @Test
+  public void testEvaluate_empty() {
+    assertEquals(0, Evaluation.evaluate(bitBoard, 0));
+  }
+
+  @Test
+  public void testEvaluate_centerControl() {
+    bitBoard.drop(3, 0);
+    assertTrue(Evaluation.evaluate(bitBoard, 1) < 0);
+    bitBoard.clear();
+    bitBoard.drop(0, 0);
+    bitBoard.drop(3, 1);
+    assertTrue(Evaluation.evaluate(bitBoard, 0) < 0);
+  }
+
+  @Test
+  public void testEvaluate_decided() {
+    play("112233");
+    assertEquals(Evaluation.DECIDED_SCORE, Evaluation.evaluate(bitBoard, 0));
+    bitBoard.clear();
+    play("27374");
+    assertEquals(-Evaluation.DECIDED_SCORE, Evaluation.evaluate(bitBoard, 1));
+  }
+
+  @Test
+  public void testEvaluate_mirror() {
+    final Random random = new Random(7);
+    final BitBoard mirror = new BitBoard();
+    for (int game = 0; game < 200; game++) {
+      bitBoard.clear();
+      mirror.clear();
+      while (!bitBoard.isWon() && !bitBoard.isFull()) {
+        final int player = bitBoard.getMoveCount() % 2;
+        assertEquals(Evaluation.evaluate(bitBoard, player), Evaluation.evaluate(mirror, player));
+        final int column = random.nextInt(ConnectFourSetting.COLUMN_NUMBER);
+        if (bitBoard.drop(column, player) >= 0) {
+          mirror.drop(ConnectFourSetting.COLUMN_NUMBER - 1 - column, player);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEvaluate_agreesWithSolver() {
+    final Solver solver = new Solver(new TranspositionTable(1 << 20));
+    final Random random = new Random(11);
+    int agreements = 0;
+    int positions = 0;
+    while (positions < 100) {
+      bitBoard.clear();
+      final int moves = 16 + random.nextInt(12);
+      while (bitBoard.getMoveCount() < moves && !bitBoard.isWon()) {
+        bitBoard.drop(random.nextInt(ConnectFourSetting.COLUMN_NUMBER),
+            bitBoard.getMoveCount() % 2);
+      }
+      final int player = bitBoard.getMoveCount() % 2;
+      final Outcome outcome = bitBoard.isWon() ? Outcome.DRAW
+          : solver.solve(bitBoard, player).getOutcome();
+      final int score = outcome == Outcome.DRAW ? 0 : Evaluation.evaluate(bitBoard, player);
+      if (score != 0) {
+        positions++;
+        agreements += (score > 0) == (outcome == Outcome.WIN) ? 1 : 0;
+      }
+    }
+    assertTrue(agreements >= 75, agreements + " of 100");
+  }
+
+  private void play(final String columns) {
+    for (int i = 0; i < columns.length(); i++) {
+      bitBoard.drop(columns.charAt(i) - '1', i % 2);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HeuristicMoveOrderingTest {
+  private final BitBoard bitBoard = new BitBoard();
+  private final int[] columns = new int[ConnectFourSetting.COLUMN_NUMBER];
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+  }
+
+  @Test
+  public void testOrder_leftToRight() {
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().centerFirst(false).build();
+    assertEquals(7, ordering.order(bitBoard, 0, 0, -1, columns));
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6}, columns);
+  }
+
+  @Test
+  public void testOrder_centerFirst() {
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().build();
+    assertEquals(7, ordering.order(bitBoard, 0, 0, -1, columns));
+    assertArrayEquals(new int[] {3, 2, 4, 1, 5, 0, 6}, columns);
+  }
+
+  @Test
+  public void testOrder_fullColumn() {
+    for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
+      bitBoard.drop(3, i % 2);
+    }
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().build();
+    assertEquals(6, ordering.order(bitBoard, 0, 0, -1, columns));
+    assertArrayEquals(new int[] {2, 4, 1, 5, 0, 6}, Arrays.copyOf(columns, 6));
+  }
+
+  @Test
+  public void testOrder_tableMove() {
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().build();
+    ordering.order(bitBoard, 0, 0, 6, columns);
+    assertArrayEquals(new int[] {6, 3, 2, 4, 1, 5, 0}, columns);
+    final MoveOrdering noTable = new HeuristicMoveOrdering.Builder().tableMove(false).build();
+    noTable.order(bitBoard, 0, 0, 6, columns);
+    assertEquals(3, columns[0]);
+  }
+
+  @Test
+  public void testOrder_killers() {
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().history(false).build();
+    ordering.cutoff(bitBoard, 0, 2, 0, 3);
+    ordering.cutoff(bitBoard, 0, 2, 6, 3);
+    ordering.order(bitBoard, 0, 2, 5, columns);
+    assertArrayEquals(new int[] {5, 6, 0, 3, 2, 4, 1}, columns);
+    ordering.order(bitBoard, 0, 1, -1, columns);
+    assertEquals(3, columns[0]);
+  }
+
+  @Test
+  public void testOrder_history() {
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().killers(false).build();
+    ordering.cutoff(bitBoard, 0, 4, 1, 2);
+    ordering.cutoff(bitBoard, 0, 5, 5, 3);
+    ordering.order(bitBoard, 0, 0, -1, columns);
+    assertArrayEquals(new int[] {5, 1, 3, 2, 4, 0, 6}, columns);
+    ordering.order(bitBoard, 1, 0, -1, columns);
+    assertEquals(3, columns[0]);
+    bitBoard.drop(5, 1);
+    ordering.order(bitBoard, 0, 0, -1, columns);
+    assertEquals(1, columns[0]);
+  }
+
+  @Test
+  public void testSearch_sameScoreAnyOrdering() {
+    final String position = "44435525";
+    for (int i = 0; i < position.length(); i++) {
+      bitBoard.drop(position.charAt(i) - '1', i % 2);
+    }
+    final int score = new NegamaxSearch(0, null,
+        new HeuristicMoveOrdering.Builder().centerFirst(false).tableMove(false).build())
+        .search(bitBoard, 0, 7).getScore();
+    final MoveOrdering ordering = new HeuristicMoveOrdering.Builder().build();
+    final TranspositionTable table = new TranspositionTable(1 << 20);
+    assertEquals(score, new NegamaxSearch(0, table, ordering).search(bitBoard, 0, 7).getScore());
+    assertEquals(score, new NegamaxSearch(0, table, ordering).search(bitBoard, 0, 7).getScore());
+  }
+}
@@ -0,0 +1,52 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IterativeDeepeningSearchTest {
+  private static final long TIME_BUDGET_MILLIS = 100;
+  private final BitBoard bitBoard = new BitBoard();
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+  }
+
+  @Test
+  public void testSearch_timeBudget() {
+    final SearchResult result = new IterativeDeepeningSearch(new TranspositionTable(1 << 20))
+        .search(bitBoard, 0, TIME_BUDGET_MILLIS, BitBoard.CELL_NUMBER);
+    assertTrue(result.getColumn() >= 0);
+    assertTrue(result.getDepth() >= 1 && result.getDepth() < BitBoard.CELL_NUMBER);
+    assertTrue(result.getElapsedNanos() < 10 * TIME_BUDGET_MILLIS * 1_000_000L);
+    assertFalse(result.isAborted());
+    assertEquals(0, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_maxDepth() {
+    bitBoard.drop(3, 0);
+    final SearchResult result =
+        new IterativeDeepeningSearch(new NegamaxSearch()).search(bitBoard, 1, 60_000, 6);
+    assertEquals(6, result.getDepth());
+    assertEquals(new NegamaxSearch().search(bitBoard, 1, 6).getScore(), result.getScore());
+  }
+
+  @Test
+  public void testSearch_forcedWin() {
+    for (int i = 1; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(i, 0);
+      bitBoard.drop(i, 1);
+    }
+    final SearchResult result =
+        new IterativeDeepeningSearch(new NegamaxSearch()).search(bitBoard, 0, 60_000, BitBoard.CELL_NUMBER);
+    assertEquals(1, result.getDepth());
+    assertEquals(NegamaxSearch.WIN_SCORE - 1, result.getScore());
+  }
+}
@@ -0,0 +1,60 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazySmpSearchTest {
+  private static final int THREADS = 4;
+  private final BitBoard bitBoard = new BitBoard();
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+    executor = Executors.newFixedThreadPool(THREADS - 1);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testSearch() {
+    bitBoard.drop(3, 0);
+    final SearchResult result = new LazySmpSearch(executor, THREADS,
+        new TranspositionTable(1 << 20)).search(bitBoard, 1, 8, 0L, new int[0]);
+    assertTrue(result.getColumn() >= 0);
+    assertEquals(8, result.getDepth());
+    assertTrue(result.getNodes() > 0);
+    assertEquals(1, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_blockLoss() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      bitBoard.drop(i, 0);
+      bitBoard.drop(i, 1);
+    }
+    final SearchResult result = new LazySmpSearch(executor, THREADS,
+        new TranspositionTable(1 << 20)).search(bitBoard, 0, 6, 0L, new int[0]);
+    assertEquals(ConnectFourSetting.CONSECUTIVE_COUNT - 1, result.getColumn());
+    assertEquals(NegamaxSearch.WIN_SCORE - 1, result.getScore());
+  }
+
+  @Test
+  public void testSearch_iterativeDeepening() {
+    final SearchResult result = new IterativeDeepeningSearch(
+        new LazySmpSearch(executor, THREADS, new TranspositionTable(1 << 20)))
+            .search(bitBoard, 0, 100, BitBoard.CELL_NUMBER);
+    assertTrue(result.getColumn() >= 0);
+  }
+}
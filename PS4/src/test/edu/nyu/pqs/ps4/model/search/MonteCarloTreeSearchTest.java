@@ -0,0 +1,95 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MonteCarloTreeSearchTest {
+  private final BitBoard bitBoard = new BitBoard();
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+  }
+
+  @Test
+  public void testSearch_moveToWin() {
+    for (int i = 1; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(i, 0);
+      bitBoard.drop(i, 1);
+    }
+    final SearchResult result =
+        new MonteCarloTreeSearch(1 << 16, false, 1L).search(bitBoard, 0, 20_000, 0L);
+    assertTrue(
+        result.getColumn() == 0 || result.getColumn() == ConnectFourSetting.CONSECUTIVE_COUNT);
+    assertEquals(20_000, result.getNodes());
+    assertEquals(6, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_blockLoss() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      bitBoard.drop(6, 0);
+      bitBoard.drop(i == 1 ? 5 : 4, 1);
+    }
+    final SearchResult result =
+        new MonteCarloTreeSearch(1 << 16, false, 1L).search(bitBoard, 1, 20_000, 0L);
+    assertEquals(6, result.getColumn());
+  }
+
+  @Test
+  public void testSearch_won() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(0, 0);
+    }
+    assertEquals(-1,
+        new MonteCarloTreeSearch(1 << 10, false, 1L).search(bitBoard, 1, 100, 0L).getColumn());
+  }
+
+  @Test
+  public void testSearch_fullTree() {
+    final SearchResult result =
+        new MonteCarloTreeSearch(1, false, 1L).search(bitBoard, 0, 100, 0L);
+    assertEquals(0, result.getColumn());
+    assertEquals(100, result.getNodes());
+  }
+
+  @Test
+  public void testSearch_deadline() {
+    final SearchResult result = new MonteCarloTreeSearch(1 << 16, false, 1L).search(bitBoard, 0,
+        0, System.nanoTime() + 20_000_000L);
+    assertTrue(result.getNodes() > 0);
+    assertTrue(result.getColumn() >= 0);
+  }
+
+  @Test
+  public void testSearch_treeReuse() {
+    final MonteCarloTreeSearch search = new MonteCarloTreeSearch(1 << 16, true, 1L);
+    search.search(bitBoard, 0, 5_000, 0L);
+    bitBoard.drop(3, 0);
+    bitBoard.drop(3, 1);
+    assertTrue(visitsAfter(search, 0) > 0);
+  }
+
+  @Test
+  public void testSearch_noTreeReuse() {
+    final MonteCarloTreeSearch search = new MonteCarloTreeSearch(1 << 16, false, 1L);
+    search.search(bitBoard, 0, 5_000, 0L);
+    bitBoard.drop(3, 0);
+    bitBoard.drop(3, 1);
+    assertEquals(0, visitsAfter(search, 0));
+  }
+
+  private int visitsAfter(final MonteCarloTreeSearch search, final int player) {
+    search.search(bitBoard, player, 1, 0L);
+    int visits = 0;
+    for (int column = 0; column < ConnectFourSetting.COLUMN_NUMBER; column++) {
+      visits += search.getRootVisits(column);
+    }
+    return visits - 1;
+  }
+}
@@ -0,0 +1,103 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NegamaxSearchTest {
+  private final BitBoard bitBoard = new BitBoard();
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+  }
+
+  @Test
+  public void testSearch_moveToWin() {
+    for (int i = 1; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(i, 0);
+      bitBoard.drop(i, 1);
+    }
+    final SearchResult result = new NegamaxSearch().search(bitBoard, 0, 4);
+    assertTrue(
+        result.getColumn() == 0 || result.getColumn() == ConnectFourSetting.CONSECUTIVE_COUNT);
+    assertEquals(NegamaxSearch.WIN_SCORE - 1, result.getScore());
+    assertEquals(6, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_blockLoss() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      bitBoard.drop(6, 0);
+      bitBoard.drop(i == 1 ? 5 : 4, 1);
+    }
+    final SearchResult result = new NegamaxSearch().search(bitBoard, 1, 4);
+    assertEquals(6, result.getColumn());
+  }
+
+  @Test
+  public void testSearch_forcedWin() {
+    bitBoard.drop(2, 0);
+    bitBoard.drop(2, 1);
+    bitBoard.drop(3, 0);
+    bitBoard.drop(3, 1);
+    final SearchResult result = new NegamaxSearch().search(bitBoard, 0, 4);
+    assertTrue(result.getColumn() == 1 || result.getColumn() == 4);
+    assertEquals(NegamaxSearch.WIN_SCORE - 3, result.getScore());
+  }
+
+  @Test
+  public void testSearch_nodeBudget() {
+    final SearchResult result = new NegamaxSearch(100, null).search(bitBoard, 0, 10);
+    assertTrue(result.getColumn() >= 0);
+    assertTrue(result.getNodes() <= 101);
+    assertEquals(0, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_noColumn() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(0, 0);
+    }
+    assertEquals(-1, new NegamaxSearch().search(bitBoard, 1, 2).getColumn());
+  }
+
+  @Test
+  public void testSearch_transpositionTable() {
+    bitBoard.drop(3, 0);
+    bitBoard.drop(3, 1);
+    bitBoard.drop(2, 0);
+    final SearchResult plain = new NegamaxSearch().search(bitBoard, 1, 8);
+    final SearchResult cached =
+        new NegamaxSearch(0, new TranspositionTable(1 << 20)).search(bitBoard, 1, 8);
+    assertEquals(plain.getScore(), cached.getScore());
+    assertTrue(cached.getNodes() < plain.getNodes());
+    assertEquals(3, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_principalVariation() {
+    bitBoard.drop(3, 0);
+    final NegamaxSearch search = new NegamaxSearch();
+    final SearchResult result = search.search(bitBoard, 1, 6);
+    final int[] pv = result.getPrincipalVariation();
+    assertTrue(pv.length > 0);
+    assertEquals(result.getColumn(), pv[0]);
+    final SearchResult ordered = search.search(bitBoard, 1, 6, 0L, pv);
+    assertEquals(result.getScore(), ordered.getScore());
+    assertTrue(ordered.getNodes() <= result.getNodes());
+  }
+
+  @Test
+  public void testSearch_deadline() {
+    final SearchResult result =
+        new NegamaxSearch().search(bitBoard, 0, 12, System.nanoTime(), new int[0]);
+    assertTrue(result.isAborted());
+    assertTrue(result.getColumn() >= 0);
+    assertEquals(0, bitBoard.getMoveCount());
+  }
+}
@@ -0,0 +1,69 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelMonteCarloTreeSearchTest {
+  private static final int THREADS = 4;
+  private final BitBoard bitBoard = new BitBoard();
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+    executor = Executors.newFixedThreadPool(THREADS - 1);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testSearch_blockLoss() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      bitBoard.drop(6, 0);
+      bitBoard.drop(i == 1 ? 5 : 4, 1);
+    }
+    final SearchResult result = new ParallelMonteCarloTreeSearch(executor, THREADS, 1 << 14,
+        false, 1L).search(bitBoard, 1, 5_000, 0L);
+    assertEquals(6, result.getColumn());
+    assertEquals(THREADS * 5_000, result.getNodes());
+    assertEquals(6, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_singleThread() {
+    final SearchResult parallel = new ParallelMonteCarloTreeSearch(null, 1, 1 << 14, false, 1L)
+        .search(bitBoard, 0, 2_000, 0L);
+    final SearchResult single =
+        new MonteCarloTreeSearch(1 << 14, false, 1L).search(bitBoard, 0, 2_000, 0L);
+    assertEquals(single.getColumn(), parallel.getColumn());
+    assertEquals(single.getScore(), parallel.getScore());
+  }
+
+  @Test
+  public void testSearch_won() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(0, 0);
+    }
+    assertEquals(-1, new ParallelMonteCarloTreeSearch(executor, THREADS, 1 << 10, false, 1L)
+        .search(bitBoard, 1, 100, 0L).getColumn());
+  }
+
+  @Test
+  public void testSearch_deadline() {
+    final SearchResult result = new ParallelMonteCarloTreeSearch(executor, THREADS, 1 << 14, true,
+        1L).search(bitBoard, 0, 0, System.nanoTime() + 20_000_000L);
+    assertTrue(result.getNodes() >= THREADS);
+    assertTrue(result.getColumn() >= 0);
+  }
+}
@@ -0,0 +1,72 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelSearchTest {
+  private static final int THREADS = 4;
+  private final BitBoard bitBoard = new BitBoard();
+  private ForkJoinPool pool;
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+    pool = new ForkJoinPool(THREADS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void testSearch_sameScoreAsNegamax() {
+    bitBoard.drop(3, 0);
+    bitBoard.drop(2, 1);
+    bitBoard.drop(3, 0);
+    final SearchResult expected = new NegamaxSearch().search(bitBoard, 1, 7);
+    final SearchResult result = new ParallelSearch(pool, new TranspositionTable(1 << 20))
+        .search(bitBoard, 1, 7, 0L, new int[0]);
+    assertEquals(expected.getScore(), result.getScore());
+    assertEquals(result.getColumn(), result.getPrincipalVariation()[0]);
+    assertTrue(result.getNodes() > 0);
+    assertEquals(3, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSearch_moveToWin() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT - 1; i++) {
+      bitBoard.drop(5, 0);
+      bitBoard.drop(6, 1);
+    }
+    final SearchResult result =
+        new ParallelSearch(pool, null).search(bitBoard, 0, 5, 0L, new int[] {1});
+    assertEquals(5, result.getColumn());
+    assertEquals(NegamaxSearch.WIN_SCORE - 1, result.getScore());
+  }
+
+  @Test
+  public void testSearch_noColumn() {
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      bitBoard.drop(0, 0);
+    }
+    assertEquals(-1, new ParallelSearch(pool, null).search(bitBoard, 1, 3, 0L, new int[0])
+        .getColumn());
+  }
+
+  @Test
+  public void testSearch_iterativeDeepening() {
+    final SearchResult result =
+        new IterativeDeepeningSearch(new ParallelSearch(pool, new TranspositionTable(1 << 20)))
+            .search(bitBoard, 0, 100, BitBoard.CELL_NUMBER);
+    assertTrue(result.getColumn() >= 0);
+    assertTrue(result.getDepth() >= 1);
+  }
+}
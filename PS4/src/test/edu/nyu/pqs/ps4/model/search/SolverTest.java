@@ -0,0 +1,98 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.BitBoard;
+import edu.nyu.pqs.ps4.model.Board;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SolverTest {
+  private final BitBoard bitBoard = new BitBoard();
+  private Solver solver;
+
+  @BeforeEach
+  public void setup() {
+    bitBoard.clear();
+    solver = new Solver(new TranspositionTable(1 << 20));
+  }
+
+  @Test
+  public void testSolve_win() {
+    play("112233");
+    final Solution solution = solver.solve(bitBoard, 0);
+    assertEquals(Outcome.WIN, solution.getOutcome());
+    assertEquals(1, solution.getPliesToEnd());
+    assertEquals(3, solution.getColumn());
+    assertEquals(6, bitBoard.getMoveCount());
+  }
+
+  @Test
+  public void testSolve_loss() {
+    play("27374");
+    final Solution solution = solver.solve(bitBoard, 1);
+    assertEquals(Outcome.LOSS, solution.getOutcome());
+    assertEquals(2, solution.getPliesToEnd());
+  }
+
+  @Test
+  public void testSolve_won() {
+    play("1212121");
+    final Solution solution = solver.solve(bitBoard, 1);
+    assertEquals(Outcome.LOSS, solution.getOutcome());
+    assertEquals(0, solution.getPliesToEnd());
+    assertEquals(-1, solution.getColumn());
+  }
+
+  @Test
+  public void testSolve_board() {
+    final Board board = Board.newInstance();
+    for (int i = 1; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      board.drop(ConnectFourSetting.PLAYER_ONE_NAME, ConnectFourSetting.PLAYER_ONE_COLOR, i);
+      board.drop(ConnectFourSetting.PLAYER_TWO_NAME, ConnectFourSetting.PLAYER_TWO_COLOR, i);
+    }
+    final Solution solution = solver.solve(board, ConnectFourSetting.PLAYER_ONE_COLOR);
+    assertEquals(Outcome.WIN, solution.getOutcome());
+    assertEquals(1, solution.getPliesToEnd());
+  }
+
+  @Test
+  public void testSolve_matchesFullDepthNegamax() {
+    final Random random = new Random(42);
+    for (int game = 0; game < 30; game++) {
+      bitBoard.clear();
+      while (bitBoard.getMoveCount() < 28) {
+        final int column = random.nextInt(ConnectFourSetting.COLUMN_NUMBER);
+        if (bitBoard.drop(column, bitBoard.getMoveCount() % 2) >= 0 && bitBoard.isWon()) {
+          bitBoard.clear();
+        }
+      }
+      final int player = bitBoard.getMoveCount() % 2;
+      final Solution solution = solver.solve(bitBoard, player);
+      final int score = new NegamaxSearch()
+          .search(bitBoard, player, BitBoard.CELL_NUMBER - bitBoard.getMoveCount()).getScore();
+      if (score > NegamaxSearch.WIN_SCORE / 2) {
+        assertEquals(Outcome.WIN, solution.getOutcome());
+        assertEquals(NegamaxSearch.WIN_SCORE - score, solution.getPliesToEnd());
+      } else if (score < -NegamaxSearch.WIN_SCORE / 2) {
+        assertEquals(Outcome.LOSS, solution.getOutcome());
+        assertEquals(NegamaxSearch.WIN_SCORE + score, solution.getPliesToEnd());
+      } else {
+        assertEquals(Outcome.DRAW, solution.getOutcome());
+      }
+      bitBoard.drop(solution.getColumn(), player);
+      if (!bitBoard.isWon() && !bitBoard.isFull()) {
+        final Solution next = solver.solve(bitBoard, 1 - player);
+        assertEquals(solution.getPliesToEnd() - 1, next.getPliesToEnd());
+      }
+    }
+  }
+
+  private void play(final String moves) {
+    for (int i = 0; i < moves.length(); i++) {
+      bitBoard.drop(moves.charAt(i) - '1', i % 2);
+    }
+  }
+}
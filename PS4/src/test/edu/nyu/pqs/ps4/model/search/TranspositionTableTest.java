@@ -0,0 +1,68 @@
+package edu.nyu.pqs.ps4.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+  private static final long KEY = 0x123456789abcdefL;
+  private final TranspositionTable table = new TranspositionTable(1000);
+
+  @BeforeEach
+  public void setup() {
+    table.clear();
+  }
+
+  @Test
+  public void testCapacity() {
+    assertEquals(32, table.getCapacity());
+    assertEquals(2, new TranspositionTable(0).getCapacity());
+  }
+
+  @Test
+  public void testProbe_miss() {
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(0L));
+  }
+
+  @Test
+  public void testStore() {
+    table.store(KEY, 12, TranspositionTable.UPPER, -999990, 6);
+    final long entry = table.probe(KEY);
+    assertEquals(12, TranspositionTable.getDepth(entry));
+    assertEquals(TranspositionTable.UPPER, TranspositionTable.getBound(entry));
+    assertEquals(-999990, TranspositionTable.getScore(entry));
+    assertEquals(6, TranspositionTable.getColumn(entry));
+  }
+
+  @Test
+  public void testStore_unknownColumn() {
+    table.store(KEY, 0, TranspositionTable.EXACT, 0, -1);
+    assertEquals(-1, TranspositionTable.getColumn(table.probe(KEY)));
+  }
+
+  @Test
+  public void testStore_depthPreferred() {
+    final long other = KEY + (1L << 40);
+    table.store(KEY, 8, TranspositionTable.EXACT, 1, 0);
+    table.store(other, 4, TranspositionTable.EXACT, 2, 1);
+    assertEquals(1, TranspositionTable.getScore(table.probe(KEY)));
+    assertEquals(2, TranspositionTable.getScore(table.probe(other)));
+    table.store(other, 9, TranspositionTable.EXACT, 3, 2);
+    assertEquals(3, TranspositionTable.getScore(table.probe(other)));
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+  }
+
+  @Test
+  public void testStore_alwaysReplace() {
+    final long other = KEY + (1L << 40);
+    final long third = KEY + (2L << 40);
+    table.store(KEY, 8, TranspositionTable.EXACT, 1, 0);
+    table.store(other, 4, TranspositionTable.EXACT, 2, 1);
+    table.store(third, 2, TranspositionTable.EXACT, 3, 2);
+    assertEquals(1, TranspositionTable.getScore(table.probe(KEY)));
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(other));
+    assertEquals(3, TranspositionTable.getScore(table.probe(third)));
+  }
+}
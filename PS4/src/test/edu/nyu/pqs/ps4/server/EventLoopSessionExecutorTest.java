@@ -0,0 +1,100 @@
+package edu.nyu.pqs.ps4.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventLoopSessionExecutorTest {
+  private final EventLoopSessionExecutor executor = new EventLoopSessionExecutor(4);
+  private int counter;
+
+  @AfterEach
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  public void testSubmit_order() {
+    final Mailbox mailbox = executor.newMailbox();
+    final List<Integer> order = new ArrayList<>();
+    final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      final int command = i;
+      futures.add(mailbox.submit(() -> order.add(command)));
+    }
+    futures.get(futures.size() - 1).join();
+    for (int i = 0; i < 1_000; i++) {
+      assertEquals(i, (int) order.get(i));
+    }
+  }
+
+  @Test
+  public void testSubmit_serialized() throws InterruptedException {
+    final Mailbox mailbox = executor.newMailbox();
+    final Thread[] clients = new Thread[8];
+    final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int t = 0; t < clients.length; t++) {
+      clients[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          final CompletableFuture<Integer> future = mailbox.submit(() -> ++counter);
+          if (i == 9_999) {
+            synchronized (futures) {
+              futures.add(future);
+            }
+          }
+        }
+      });
+      clients[t].start();
+    }
+    for (final Thread client : clients) {
+      client.join();
+    }
+    for (final CompletableFuture<Integer> future : futures) {
+      future.join();
+    }
+    assertEquals(80_000, (int) mailbox.submit(() -> counter).join());
+  }
+
+  @Test
+  public void testSubmit_exception() {
+    final Mailbox mailbox = executor.newMailbox();
+    final CompletableFuture<Integer> failed = mailbox.submit(() -> {
+      throw new IllegalStateException();
+    });
+    final ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+    assertTrue(e.getCause() instanceof IllegalStateException);
+    assertEquals(1, (int) mailbox.submit(() -> 1).join());
+  }
+
+  @Test
+  public void testSubmit_error() {
+    final Mailbox mailbox = executor.newMailbox();
+    final CompletableFuture<Integer> failed = mailbox.submit(() -> {
+      throw new AssertionError();
+    });
+    final ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+    assertTrue(e.getCause() instanceof AssertionError);
+    assertEquals(1, (int) mailbox.submit(() -> 1).join());
+  }
+
+  @Test
+  public void testSubmit_afterClose() {
+    final Mailbox mailbox = executor.newMailbox();
+    assertEquals(1, (int) mailbox.submit(() -> 1).join());
+    executor.close();
+    final ExecutionException e =
+        assertThrows(ExecutionException.class, () -> mailbox.submit(() -> 2).get(5, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof RejectedExecutionException);
+    assertThrows(ExecutionException.class,
+        () -> executor.newMailbox().submit(() -> 3).get(5, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,216 @@
+package edu.nyu.pqs.ps4.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import edu.nyu.pqs.ps4.ConnectFourSetting;
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.Mode;
+import edu.nyu.pqs.ps4.model.player.Player;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
+import edu.nyu.pqs.ps4.model.player.PlayerType;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GameSessionManagerTest {
+  private final GameSessionManager manager = new GameSessionManager();
+
+  @AfterEach
+  public void tearDown() {
+    manager.close();
+  }
+
+  @Test
+  public void testStartGame() {
+    final GameState first = manager.startGame(Mode.MULTIPLAYER);
+    final GameState second = manager.startGame(Mode.MULTIPLAYER);
+    assertNotEquals(first.getGameId(), second.getGameId());
+    assertEquals(GameStatus.IN_PROGRESS, first.getStatus());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, first.getNextPlayerName());
+    assertEquals(0, first.getColumns().length);
+    assertEquals(2, manager.getGameNumber());
+  }
+
+  @Test
+  public void testStartGame_manMachine() {
+    final GameState state = manager.startGame(Mode.MANMACHINE);
+    assertEquals(1, state.getColumns().length);
+    assertEquals(ConnectFourSetting.PLAYER_TWO_NAME, state.getNextPlayerName());
+  }
+
+  @Test
+  public void testMakeMove_manMachine() {
+    try (EventLoopSessionExecutor executor = new EventLoopSessionExecutor(1);
+        GameSessionManager machineManager = new GameSessionManager(executor,
+            new PlayerFactory.Builder().timeBudgetMillis(300).openingBookPath(null)
+                .sharedTranspositionTable(true).build())) {
+      final long id = machineManager.startGame(Mode.MANMACHINE).getGameId();
+      final CompletableFuture<GameState> move = machineManager.makeMoveAsync(id, 3);
+      final GameState thinking = machineManager.getState(id);
+      assertFalse(move.isDone());
+      assertEquals(2, thinking.getColumns().length);
+      assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, thinking.getNextPlayerName());
+      assertTrue(machineManager.makeMove(id, 3).isInvalidMove());
+      final GameState state = move.join();
+      assertEquals(3, state.getColumns().length);
+      assertEquals(3, state.getColumns()[1]);
+      assertEquals(ConnectFourSetting.PLAYER_TWO_NAME, state.getNextPlayerName());
+      assertFalse(state.isInvalidMove());
+    }
+  }
+
+  @Test
+  public void testMakeMove() {
+    final long id = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    final GameState state = manager.makeMove(id, 3);
+    assertArrayEquals(new int[] {3}, state.getColumns());
+    assertEquals(ConnectFourSetting.PLAYER_TWO_NAME, state.getNextPlayerName());
+    assertFalse(state.isInvalidMove());
+    assertArrayEquals(new int[] {3}, manager.getState(id).getColumns());
+  }
+
+  @Test
+  public void testMakeMove_invalid() {
+    final long id = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    final GameState state = manager.makeMove(id, ConnectFourSetting.COLUMN_NUMBER);
+    assertTrue(state.isInvalidMove());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, state.getNextPlayerName());
+    assertFalse(manager.makeMove(id, 0).isInvalidMove());
+  }
+
+  @Test
+  public void testMakeMove_won() {
+    final long id = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    GameState state = null;
+    for (int i = 0; i < ConnectFourSetting.CONSECUTIVE_COUNT; i++) {
+      state = manager.makeMove(id, 0);
+      if (i < ConnectFourSetting.CONSECUTIVE_COUNT - 1) {
+        state = manager.makeMove(id, 1);
+      }
+    }
+    assertEquals(GameStatus.WON, state.getStatus());
+    assertEquals(ConnectFourSetting.PLAYER_ONE_NAME, state.getWinnerName());
+    assertNull(state.getNextPlayerName());
+    assertTrue(manager.makeMove(id, 2).isInvalidMove());
+  }
+
+  @Test
+  public void testMakeMove_independentGames() {
+    final long first = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    final long second = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    manager.makeMove(first, 1);
+    manager.makeMove(second, 5);
+    manager.makeMove(second, 6);
+    assertArrayEquals(new int[] {1}, manager.getState(first).getColumns());
+    assertArrayEquals(new int[] {5, 6}, manager.getState(second).getColumns());
+  }
+
+  @Test
+  public void testMakeMove_concurrent() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<Future<GameState>> futures = new ArrayList<>();
+    for (int game = 0; game < 200; game++) {
+      futures.add(executor.submit(() -> {
+        final long id = manager.startGame(Mode.MULTIPLAYER).getGameId();
+        for (int i = 0; i < ConnectFourSetting.ROW_NUMBER; i++) {
+          manager.makeMove(id, 2);
+        }
+        return manager.getState(id);
+      }));
+    }
+    for (final Future<GameState> future : futures) {
+      assertEquals(ConnectFourSetting.ROW_NUMBER, future.get().getColumns().length);
+    }
+    executor.shutdown();
+    assertEquals(200, manager.getGameNumber());
+  }
+
+  @Test
+  public void testEndGame() {
+    final long id = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    manager.makeMove(id, 3);
+    assertArrayEquals(new int[] {3}, manager.endGame(id).getColumns());
+    assertEquals(0, manager.getGameNumber());
+    assertThrows(IllegalArgumentException.class, () -> manager.getState(id));
+    assertThrows(IllegalArgumentException.class, () -> manager.makeMove(id, 3));
+    assertThrows(IllegalArgumentException.class, () -> manager.endGame(id));
+  }
+
+  @Test
+  public void testEndGame_closePlayers() {
+    final PlayerFactory factory = mock(PlayerFactory.class);
+    final Player first = mock(Player.class);
+    final Player second = mock(Player.class);
+    when(first.getPlayerType()).thenReturn(PlayerType.HUMAN);
+    when(second.getPlayerType()).thenReturn(PlayerType.HUMAN);
+    when(factory.getPlayer(any(PlayerType.class), anyString(), any(Color.class), any(Board.class)))
+        .thenReturn(first, second, first, second);
+    try (GameSessionManager mockManager =
+        new GameSessionManager(new CallerRunsSessionExecutor(), factory)) {
+      final long id = mockManager.startGame(Mode.MULTIPLAYER).getGameId();
+      verify(first, never()).close();
+      mockManager.endGame(id);
+      verify(first).close();
+      verify(second).close();
+      mockManager.startGame(Mode.MULTIPLAYER);
+    }
+    verify(first, times(2)).close();
+  }
+
+  @Test
+  public void testMakeMoveAsync_eventLoop() {
+    try (EventLoopSessionExecutor executor = new EventLoopSessionExecutor(2);
+        GameSessionManager eventLoopManager = new GameSessionManager(executor)) {
+      final long id = eventLoopManager.startGame(Mode.MULTIPLAYER).getGameId();
+      final List<CompletableFuture<GameState>> futures = new ArrayList<>();
+      for (int i = 0; i < ConnectFourSetting.ROW_NUMBER + 1; i++) {
+        futures.add(eventLoopManager.makeMoveAsync(id, 4));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        final GameState state = futures.get(i).join();
+        assertEquals(Math.min(i + 1, ConnectFourSetting.ROW_NUMBER), state.getColumns().length);
+        assertEquals(i == ConnectFourSetting.ROW_NUMBER, state.isInvalidMove());
+      }
+      assertThrows(IllegalArgumentException.class, () -> eventLoopManager.makeMoveAsync(0, 4));
+    }
+  }
+
+  @Test
+  public void testSubscribe() throws InterruptedException {
+    final long id = manager.startGame(Mode.MULTIPLAYER).getGameId();
+    final CountDownLatch done = new CountDownLatch(2);
+    final List<EncodedEvent> events = Collections.synchronizedList(new ArrayList<>());
+    final Subscription subscription = manager.subscribe(id, event -> {
+      events.add(event);
+      done.countDown();
+    });
+    manager.makeMove(id, 3);
+    manager.makeMove(id, 3);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(2, events.size());
+    assertFalse(subscription.isEvicted());
+    manager.endGame(id);
+  }
+}
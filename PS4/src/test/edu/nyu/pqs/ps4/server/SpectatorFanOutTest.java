@@ -0,0 +1,234 @@
+package edu.nyu.pqs.ps4.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import edu.nyu.pqs.ps4.model.Move;
+import edu.nyu.pqs.ps4.view.Listener;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SpectatorFanOutTest {
+  private static final Move MOVE = new Move.Builder().playerName("one").playerColor(Color.RED)
+      .column(3).row(2).build();
+  private SpectatorFanOut fanOut;
+
+  @AfterEach
+  public void tearDown() {
+    fanOut.close();
+  }
+
+  @Test
+  public void testPublish_sharedEvent() throws InterruptedException {
+    fanOut = new SpectatorFanOut(16, 2);
+    final List<List<EncodedEvent>> received = new ArrayList<>();
+    final CountDownLatch done = new CountDownLatch(100);
+    for (int i = 0; i < 100; i++) {
+      final List<EncodedEvent> events = Collections.synchronizedList(new ArrayList<>());
+      received.add(events);
+      fanOut.subscribe(event -> {
+        events.add(event);
+        if (events.size() == 3) {
+          done.countDown();
+        }
+      });
+    }
+    fanOut.gameStarted("one");
+    fanOut.gameContinue(MOVE, "two");
+    fanOut.gameWon(MOVE);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    for (final List<EncodedEvent> events : received) {
+      for (int i = 0; i < 3; i++) {
+        assertEquals(i, events.get(i).getSequence());
+        assertSame(received.get(0).get(i), events.get(i));
+      }
+    }
+    assertEquals(3, fanOut.getPublishedEvents());
+  }
+
+  @Test
+  public void testReplay() throws InterruptedException {
+    fanOut = new SpectatorFanOut();
+    final Listener listener = mock(Listener.class);
+    final CountDownLatch done = new CountDownLatch(5);
+    fanOut.subscribe(event -> {
+      event.replay(listener);
+      done.countDown();
+    });
+    fanOut.gameStarted("one");
+    fanOut.gameContinue(MOVE, "two");
+    fanOut.invalidMoveMade("two");
+    fanOut.gameTied(MOVE);
+    fanOut.gameWon(MOVE);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    verify(listener).gameStarted("one");
+    verify(listener).gameContinue(argThat(this::isMove), eq("two"));
+    verify(listener).invalidMoveMade("two");
+    verify(listener).gameTied(argThat(this::isMove));
+    verify(listener).gameWon(argThat(this::isMove));
+  }
+
+  @Test
+  public void testEvict_slowSpectator() throws InterruptedException {
+    fanOut = new SpectatorFanOut(4, 1, 10_000);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch evicted = new CountDownLatch(1);
+    final Subscription slow = fanOut.subscribe(new Spectator() {
+      @Override
+      public void onEvent(final EncodedEvent event) {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      @Override
+      public void onEvicted() {
+        evicted.countDown();
+      }
+    });
+    fanOut.gameStarted("one");
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 10; i++) {
+      fanOut.invalidMoveMade("one");
+    }
+    assertEquals(11, slow.getLag());
+    release.countDown();
+    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+    assertTrue(slow.isEvicted());
+    assertEquals(1, fanOut.getEvictedSpectators());
+    assertEquals(0, fanOut.getSpectatorNumber());
+  }
+
+  @Test
+  public void testEvict_blockingSpectator() throws InterruptedException {
+    fanOut = new SpectatorFanOut(16, 1, 50);
+    final CountDownLatch evicted = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final Subscription blocking = fanOut.subscribe(new Spectator() {
+      @Override
+      public void onEvent(final EncodedEvent event) {
+        try {
+          new CountDownLatch(1).await();
+        } catch (final InterruptedException e) {
+          interrupted.countDown();
+        }
+      }
+
+      @Override
+      public void onEvicted() {
+        evicted.countDown();
+      }
+    });
+    final List<EncodedEvent> events = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch done = new CountDownLatch(3);
+    final Subscription fast = fanOut.subscribe(event -> {
+      events.add(event);
+      done.countDown();
+    });
+    fanOut.gameStarted("one");
+    fanOut.gameContinue(MOVE, "two");
+    fanOut.gameWon(MOVE);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 3; i++) {
+      assertEquals(i, events.get(i).getSequence());
+    }
+    assertTrue(blocking.isEvicted());
+    assertFalse(fast.isEvicted());
+    assertEquals(1, fanOut.getEvictedSpectators());
+    assertEquals(1, fanOut.getSpectatorNumber());
+  }
+
+  @Test
+  public void testEvict_uninterruptibleSpectator() throws InterruptedException {
+    fanOut = new SpectatorFanOut(16, 1, 50);
+    final AtomicBoolean release = new AtomicBoolean();
+    final CountDownLatch evicted = new CountDownLatch(1);
+    final Subscription spinning = fanOut.subscribe(new Spectator() {
+      @Override
+      public void onEvent(final EncodedEvent event) {
+        while (!release.get()) {
+          try {
+            Thread.sleep(5);
+          } catch (final InterruptedException e) {
+            // Ignores the interrupt like a spectator blocked in socket I/O.
+          }
+        }
+      }
+
+      @Override
+      public void onEvicted() {
+        evicted.countDown();
+      }
+    });
+    final CountDownLatch done = new CountDownLatch(3);
+    final Subscription fast = fanOut.subscribe(event -> done.countDown());
+    fanOut.gameStarted("one");
+    fanOut.gameContinue(MOVE, "two");
+    fanOut.gameWon(MOVE);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+    assertTrue(spinning.isEvicted());
+    assertFalse(fast.isEvicted());
+    assertEquals(1, fanOut.getAbandonedThreadNumber());
+    release.set(true);
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (fanOut.getAbandonedThreadNumber() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, fanOut.getAbandonedThreadNumber());
+  }
+
+  @Test
+  public void testEvict_throwingSpectator() throws InterruptedException {
+    fanOut = new SpectatorFanOut();
+    final CountDownLatch evicted = new CountDownLatch(1);
+    final Subscription subscription = fanOut.subscribe(new Spectator() {
+      @Override
+      public void onEvent(final EncodedEvent event) {
+        throw new IllegalStateException();
+      }
+
+      @Override
+      public void onEvicted() {
+        evicted.countDown();
+      }
+    });
+    fanOut.gameStarted("one");
+    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+    assertTrue(subscription.isEvicted());
+  }
+
+  @Test
+  public void testUnsubscribe() {
+    fanOut = new SpectatorFanOut();
+    final Subscription subscription = fanOut.subscribe(event -> {});
+    assertEquals(1, fanOut.getSpectatorNumber());
+    subscription.close();
+    assertEquals(0, fanOut.getSpectatorNumber());
+    assertFalse(subscription.isEvicted());
+  }
+
+  private boolean isMove(final Move move) {
+    return move.getColumn() == 3 && move.getRow() == 2 && "one".equals(move.getPlayerName())
+        && Color.RED.equals(move.getPlayerColor());
+  }
+}
@@ -0,0 +1,45 @@
+package edu.nyu.pqs.ps4.tournament;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.nyu.pqs.ps4.model.player.PlayerType;
+import org.junit.jupiter.api.Test;
+
+class TournamentResultTest {
+  @Test
+  public void testElo_even() {
+    final TournamentResult result = new TournamentResult.Builder()
+        .playerTypes(PlayerType.SEARCH, PlayerType.MCTS).results(40, 20, 40).build();
+    assertEquals(100, result.getGames());
+    assertEquals(0.5, result.getScore(), 1e-9);
+    assertEquals(0, result.getEloDifference(), 1e-9);
+    assertEquals(-result.getEloLowerBound(), result.getEloUpperBound(), 1e-9);
+    assertTrue(result.getEloUpperBound() > 50 && result.getEloUpperBound() < 80);
+  }
+
+  @Test
+  public void testElo_threeQuarters() {
+    final TournamentResult result = new TournamentResult.Builder()
+        .playerTypes(PlayerType.SEARCH, PlayerType.MACHINE).results(70, 10, 20).build();
+    assertEquals(0.75, result.getScore(), 1e-9);
+    assertEquals(190.85, result.getEloDifference(), 0.01);
+    assertTrue(result.getEloLowerBound() < 190.85 && result.getEloUpperBound() > 190.85);
+  }
+
+  @Test
+  public void testElo_allWins() {
+    final TournamentResult result = new TournamentResult.Builder()
+        .playerTypes(PlayerType.SEARCH, PlayerType.MACHINE).results(10, 0, 0).build();
+    assertEquals(Double.POSITIVE_INFINITY, result.getEloDifference());
+  }
+
+  @Test
+  public void testAverageThinkMillis() {
+    final TournamentResult result = new TournamentResult.Builder()
+        .playerTypes(PlayerType.SEARCH, PlayerType.MACHINE).moves(10, 0)
+        .thinkNanos(50_000_000L, 0).build();
+    assertEquals(5.0, result.getAverageThinkMillisA(), 1e-9);
+    assertEquals(0.0, result.getAverageThinkMillisB(), 1e-9);
+  }
+}
@@ -0,0 +1,82 @@
+package edu.nyu.pqs.ps4.tournament;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import edu.nyu.pqs.ps4.model.Board;
+import edu.nyu.pqs.ps4.model.player.Player;
+import edu.nyu.pqs.ps4.model.player.PlayerFactory;
+import edu.nyu.pqs.ps4.model.player.PlayerType;
+import java.awt.Color;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TournamentTest {
+  @Test
+  public void testBuild_human() {
+    assertThrows(IllegalArgumentException.class, () -> new Tournament.Builder()
+        .playerTypes(PlayerType.HUMAN, PlayerType.MACHINE).build());
+  }
+
+  @Test
+  public void testRun() {
+    final TournamentResult result = new Tournament.Builder()
+        .playerTypes(PlayerType.MACHINE, PlayerType.MACHINE).games(200).threads(4).build().run();
+    assertEquals(200, result.getGames());
+    assertEquals(0, result.getForfeitsA() + result.getForfeitsB());
+    assertTrue(result.getWins() > 0 && result.getLosses() > 0);
+  }
+
+  @Test
+  public void testRun_playerFactory() {
+    try (PlayerFactory factory =
+        new PlayerFactory.Builder().timeBudgetMillis(5).mctsThreads(1).build()) {
+      final TournamentResult result = new Tournament.Builder()
+          .playerTypes(PlayerType.MCTS, PlayerType.MACHINE).games(4).threads(2)
+          .playerFactory(factory).build().run();
+      assertEquals(4, result.getGames());
+      assertEquals(0, result.getForfeitsA() + result.getForfeitsB());
+    }
+  }
+
+  @Test
+  public void testRun_timeLimit() {
+    final TournamentResult result = new Tournament.Builder()
+        .playerTypes(PlayerType.SEARCH, PlayerType.MACHINE).games(2).threads(1)
+        .moveTimeLimitMillis(50).build().run();
+    assertEquals(2, result.getForfeitsA());
+    assertEquals(2, result.getLosses());
+    assertEquals(0, result.getForfeitsB());
+  }
+
+  @Test
+  public void testRun_hangingPlayer() {
+    final Player hanging = mock(Player.class);
+    when(hanging.getName()).thenReturn("hanging");
+    when(hanging.getMoveColumnAdvice()).thenAnswer(invocation -> {
+      Thread.sleep(60_000);
+      return 0;
+    });
+    try (PlayerFactory machineFactory = new PlayerFactory()) {
+      final PlayerFactory factory = mock(PlayerFactory.class);
+      when(factory.getPlayer(eq(PlayerType.SEARCH), anyString(), any(Color.class),
+          any(Board.class))).thenReturn(hanging);
+      when(factory.getPlayer(eq(PlayerType.MACHINE), anyString(), any(Color.class),
+          any(Board.class))).thenAnswer(invocation -> machineFactory.getPlayer(PlayerType.MACHINE,
+              invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+      final TournamentResult result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+          () -> new Tournament.Builder().playerTypes(PlayerType.SEARCH, PlayerType.MACHINE)
+              .games(4).threads(1).moveTimeLimitMillis(50).playerFactory(factory).build().run());
+      assertEquals(4, result.getForfeitsA());
+      assertEquals(4, result.getLosses());
+      assertEquals(0, result.getForfeitsB());
+    }
+  }
+}